@@ -0,0 +1,80 @@
+package dev.abbah.supervision.eventtype.benchmark;
+
+import dev.abbah.supervision.eventtype.adapter.out.persistence.EventTypeWriteBehindProperties;
+import dev.abbah.supervision.eventtype.adapter.out.persistence.WriteBehindEventTypeBuffer;
+import dev.abbah.supervision.eventtype.application.service.EventTypeService;
+import dev.abbah.supervision.eventtype.domain.CursorPage;
+import dev.abbah.supervision.eventtype.domain.EventType;
+import dev.abbah.supervision.eventtype.domain.EventTypeCursor;
+import dev.abbah.supervision.eventtype.domain.EventTypeListFilter;
+import dev.abbah.supervision.eventtype.domain.EventTypePage;
+import dev.abbah.supervision.eventtype.domain.IdempotentCreation;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.PageRequest;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the application service and its Reactor pipelines over a repository answering from memory.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EventTypeServiceBenchmark {
+
+    private static final int CATALOGUE_SIZE = 10_000;
+
+    @Param({"10", "100"})
+    private int pageSize;
+
+    private EventTypeService service;
+    private EventType eventType;
+    private EventTypeCursor cursor;
+
+    @Setup
+    public void setUp() {
+        List<EventType> catalogue = EventTypes.eventTypes(CATALOGUE_SIZE);
+        FixedCatalogueEventTypeRepository repository = new FixedCatalogueEventTypeRepository(catalogue);
+        // Background creation is disabled by default, so the buffer never writes
+        service = new EventTypeService(repository, since -> Flux.never(), (prefix, limit) -> Flux.empty(),
+                new WriteBehindEventTypeBuffer(repository, new EventTypeWriteBehindProperties(), new SimpleMeterRegistry()),
+                (key, fingerprint, creation) -> creation.get().map(created -> new IdempotentCreation(created, false)));
+        eventType = catalogue.get(CATALOGUE_SIZE / 2);
+        cursor = new EventTypeCursor(eventType.createdAt(), eventType.id());
+    }
+
+    @Benchmark
+    public EventType getEventTypeById() {
+        return service.getEventTypeById(eventType.id()).block();
+    }
+
+    @Benchmark
+    public EventType createEventType() {
+        return service.createEventType(eventType.toBuilder().id(null).build()).block();
+    }
+
+    @Benchmark
+    public EventType updateEventType() {
+        return service.updateEventType(eventType.id(), eventType).block();
+    }
+
+    @Benchmark
+    public EventTypePage listEventTypePage() {
+        return service.listEventTypePage(EventTypeListFilter.NONE, PageRequest.of(3, pageSize), false, null).block();
+    }
+
+    @Benchmark
+    public CursorPage listEventTypesByCursor() {
+        return service.listEventTypes(cursor, pageSize).block();
+    }
+}
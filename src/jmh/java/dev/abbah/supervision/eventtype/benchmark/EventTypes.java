@@ -0,0 +1,40 @@
+package dev.abbah.supervision.eventtype.benchmark;
+
+import dev.abbah.supervision.eventtype.adapter.in.web.dto.EventTypeRequest;
+import dev.abbah.supervision.eventtype.domain.EventType;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Representative event types shared by the benchmarks.
+ */
+final class EventTypes {
+
+    private static final Instant EPOCH = Instant.parse("2025-01-01T00:00:00Z");
+
+    private EventTypes() {
+    }
+
+    static EventType eventType(int index) {
+        Instant timestamp = EPOCH.plusSeconds(index);
+        return EventType.builder()
+                .id(String.format("%024x", index))
+                .name("order.lifecycle.event-" + index)
+                .description("Emitted when an order moves to lifecycle stage " + index + " of the fulfilment pipeline")
+                .active(index % 7 != 0)
+                .createdAt(timestamp)
+                .updatedAt(timestamp)
+                .version((long) index % 5)
+                .build();
+    }
+
+    static List<EventType> eventTypes(int count) {
+        return IntStream.range(0, count).mapToObj(EventTypes::eventType).toList();
+    }
+
+    static EventTypeRequest request() {
+        return new EventTypeRequest("order.lifecycle.created", "Emitted when an order is created", true);
+    }
+}
@@ -0,0 +1,163 @@
+package dev.abbah.supervision.eventtype.benchmark;
+
+import dev.abbah.supervision.eventtype.application.port.out.EventTypeRepository;
+import dev.abbah.supervision.eventtype.domain.BatchWriteResult;
+import dev.abbah.supervision.eventtype.domain.BulkOperationResult;
+import dev.abbah.supervision.eventtype.domain.CatalogueVersion;
+import dev.abbah.supervision.eventtype.domain.EventType;
+import dev.abbah.supervision.eventtype.domain.EventTypeCursor;
+import dev.abbah.supervision.eventtype.domain.EventTypeField;
+import dev.abbah.supervision.eventtype.domain.EventTypeFilter;
+import dev.abbah.supervision.eventtype.domain.EventTypeListFilter;
+import dev.abbah.supervision.eventtype.domain.EventTypePage;
+import org.springframework.data.domain.Pageable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Repository stub answering from a fixed, pre-sorted catalogue, so that service benchmarks
+ * measure the service and Reactor overhead rather than MongoDB. It is not a store:
+ * <ul>
+ *   <li>lookups, unfiltered listings, counts and full streams read the catalogue;</li>
+ *   <li>saves and updates return what a store would, and deletions complete, without changing the catalogue,
+ *       so every invocation of a benchmark sees the same data;</li>
+ *   <li>batch and filtered writes, filtered listings, text search and streams resumed from a cursor are not
+ *       used by any benchmark, and fail with an {@link UnsupportedOperationException} naming the operation.</li>
+ * </ul>
+ */
+class FixedCatalogueEventTypeRepository implements EventTypeRepository {
+
+    private static final Comparator<EventType> NEWEST_FIRST = Comparator
+            .comparing(EventType::createdAt)
+            .thenComparing(EventType::id)
+            .reversed();
+
+    private final List<EventType> newestFirst;
+    private final Map<String, EventType> byId;
+
+    FixedCatalogueEventTypeRepository(List<EventType> eventTypes) {
+        this.newestFirst = eventTypes.stream().sorted(NEWEST_FIRST).toList();
+        this.byId = eventTypes.stream().collect(Collectors.toMap(EventType::id, Function.identity()));
+    }
+
+    @Override
+    public Mono<EventType> save(EventType eventType) {
+        return Mono.just(eventType.id() != null ? eventType : eventType.toBuilder().id("new").build());
+    }
+
+    @Override
+    public Flux<BatchWriteResult> upsertAll(List<EventType> eventTypes) {
+        return Flux.error(unsupported("upsertAll"));
+    }
+
+    @Override
+    public Mono<EventType> update(EventType eventType) {
+        return Mono.justOrEmpty(byId.get(eventType.id()))
+                .map(existing -> eventType.toBuilder()
+                        .createdAt(existing.createdAt())
+                        .version(existing.version() + 1)
+                        .build());
+    }
+
+    @Override
+    public Mono<EventType> findById(String id) {
+        return Mono.justOrEmpty(byId.get(id));
+    }
+
+    @Override
+    public Flux<EventType> findAllById(Collection<String> ids) {
+        return Flux.fromStream(ids.stream().map(byId::get).filter(Objects::nonNull));
+    }
+
+    @Override
+    public Mono<Void> deleteById(String id) {
+        return Mono.empty();
+    }
+
+    @Override
+    public Mono<BulkOperationResult> updateActive(EventTypeFilter filter, boolean active, Instant updatedAt) {
+        return Mono.error(unsupported("updateActive"));
+    }
+
+    @Override
+    public Mono<BulkOperationResult> deleteAll(EventTypeFilter filter) {
+        return Mono.error(unsupported("deleteAll"));
+    }
+
+    @Override
+    public Flux<EventType> findAll(Pageable pageable) {
+        return Flux.fromIterable(slice(pageable));
+    }
+
+    @Override
+    public Flux<EventType> findAllAfter(EventTypeCursor after, int limit) {
+        int from = 0;
+        if (after != null) {
+            from = newestFirst.indexOf(byId.get(after.id())) + 1;
+        }
+        return Flux.fromIterable(newestFirst.subList(from, Math.min(newestFirst.size(), from + limit)));
+    }
+
+    @Override
+    public Flux<EventType> streamAll(EventTypeCursor after) {
+        return after == null ? Flux.fromIterable(newestFirst) : Flux.error(unsupported("streamAll from a cursor"));
+    }
+
+    @Override
+    public Flux<EventType> streamNames() {
+        return Flux.fromIterable(newestFirst);
+    }
+
+    @Override
+    public Mono<Long> count() {
+        return Mono.just((long) newestFirst.size());
+    }
+
+    @Override
+    public Mono<CatalogueVersion> catalogueVersion() {
+        return Mono.just(new CatalogueVersion("0", newestFirst.get(0).updatedAt()));
+    }
+
+    @Override
+    public Mono<EventTypePage> findPage(EventTypeListFilter filter, Pageable pageable, boolean exactTotal,
+                                        Set<EventTypeField> fields) {
+        if (!filter.isEmpty()) {
+            return Mono.error(unsupported("findPage with a filter"));
+        }
+        return Mono.just(new EventTypePage(slice(pageable), newestFirst.size(), exactTotal));
+    }
+
+    @Override
+    public Flux<EventType> search(String query, Pageable pageable) {
+        return Flux.error(unsupported("search"));
+    }
+
+    @Override
+    public Mono<Long> countByQuery(String query) {
+        return Mono.error(unsupported("countByQuery"));
+    }
+
+    @Override
+    public Mono<EventTypePage> searchPage(String query, Pageable pageable, boolean exactTotal, Set<EventTypeField> fields) {
+        return Mono.error(unsupported("searchPage"));
+    }
+
+    private List<EventType> slice(Pageable pageable) {
+        int from = (int) Math.min(pageable.getOffset(), newestFirst.size());
+        return newestFirst.subList(from, Math.min(newestFirst.size(), from + pageable.getPageSize()));
+    }
+
+    private static UnsupportedOperationException unsupported(String operation) {
+        return new UnsupportedOperationException(operation + " is not supported by the fixed benchmark catalogue");
+    }
+}
@@ -0,0 +1,62 @@
+package dev.abbah.supervision.eventtype.benchmark;
+
+import dev.abbah.supervision.eventtype.adapter.in.web.dto.EventTypeRequest;
+import dev.abbah.supervision.eventtype.adapter.in.web.dto.EventTypeResponse;
+import dev.abbah.supervision.eventtype.adapter.in.web.mapper.EventTypeWebMapper;
+import dev.abbah.supervision.eventtype.adapter.in.web.mapper.EventTypeWebMapperImpl;
+import dev.abbah.supervision.eventtype.adapter.out.persistence.EventTypeEntity;
+import dev.abbah.supervision.eventtype.adapter.out.persistence.mapper.EventTypePersistenceMapper;
+import dev.abbah.supervision.eventtype.adapter.out.persistence.mapper.EventTypePersistenceMapperImpl;
+import dev.abbah.supervision.eventtype.domain.EventType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the MapStruct conversions done on every request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MapperBenchmark {
+
+    private final EventTypeWebMapper webMapper = new EventTypeWebMapperImpl();
+    private final EventTypePersistenceMapper persistenceMapper = new EventTypePersistenceMapperImpl();
+
+    private EventTypeRequest request;
+    private EventType eventType;
+    private EventTypeEntity entity;
+
+    @Setup
+    public void setUp() {
+        request = EventTypes.request();
+        eventType = EventTypes.eventType(42);
+        entity = persistenceMapper.toEntity(eventType);
+    }
+
+    @Benchmark
+    public EventType requestToDomain() {
+        return webMapper.toDomain(request);
+    }
+
+    @Benchmark
+    public EventTypeResponse domainToResponse() {
+        return webMapper.toResponse(eventType);
+    }
+
+    @Benchmark
+    public EventTypeEntity domainToEntity() {
+        return persistenceMapper.toEntity(eventType);
+    }
+
+    @Benchmark
+    public EventType entityToDomain() {
+        return persistenceMapper.toDomain(entity);
+    }
+}
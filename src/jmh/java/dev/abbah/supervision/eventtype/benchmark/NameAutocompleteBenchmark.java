@@ -0,0 +1,60 @@
+package dev.abbah.supervision.eventtype.benchmark;
+
+import dev.abbah.supervision.eventtype.adapter.out.persistence.EventTypeAutocompleteProperties;
+import dev.abbah.supervision.eventtype.adapter.out.persistence.InMemoryEventTypeNameIndex;
+import dev.abbah.supervision.eventtype.domain.EventType;
+import dev.abbah.supervision.eventtype.domain.EventTypeSuggestion;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Latency of name autocompletion over the in-memory prefix index, sampled so the report shows the p99.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NameAutocompleteBenchmark {
+
+    private static final String[] SUBJECTS = {
+        "order", "payment", "invoice", "shipment", "customer", "account", "cart", "refund", "product", "user"
+    };
+    private static final String[] ACTIONS = {
+        "Created", "Updated", "Deleted", "Placed", "Cancelled", "Failed", "Succeeded", "Expired", "Verified", "Archived"
+    };
+
+    @Param({"10000", "100000"})
+    private int catalogueSize;
+
+    // A single letter matches a tenth of the catalogue; the longer prefixes narrow it down
+    @Param({"o", "order", "order.pl", "fail"})
+    private String prefix;
+
+    private InMemoryEventTypeNameIndex index;
+
+    @Setup
+    public void setUp() {
+        List<EventType> catalogue = IntStream.range(0, catalogueSize)
+                .mapToObj(index -> EventTypes.eventType(index).toBuilder()
+                        .name(SUBJECTS[index % SUBJECTS.length] + "." + ACTIONS[index / SUBJECTS.length % ACTIONS.length]
+                                + " v" + index)
+                        .build())
+                .toList();
+        index = new InMemoryEventTypeNameIndex(new FixedCatalogueEventTypeRepository(catalogue), new EventTypeAutocompleteProperties());
+        index.resync().block();
+    }
+
+    @Benchmark
+    public List<EventTypeSuggestion> autocomplete() {
+        return index.suggest(prefix, 10).collectList().block();
+    }
+}
@@ -0,0 +1,63 @@
+package dev.abbah.supervision.eventtype.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import dev.abbah.supervision.eventtype.adapter.in.web.dto.EventTypeResponse;
+import dev.abbah.supervision.eventtype.adapter.in.web.dto.PageResponse;
+import dev.abbah.supervision.eventtype.adapter.in.web.mapper.EventTypeWebMapper;
+import dev.abbah.supervision.eventtype.adapter.in.web.mapper.EventTypeWebMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of encoding a list page to JSON, as the WebFlux Jackson encoder does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PageResponseSerializationBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int pageSize;
+
+    private ObjectWriter writer;
+    private PageResponse<EventTypeResponse> page;
+
+    @Setup
+    public void setUp() {
+        // Same defaults as the ObjectMapper auto-configured by Spring Boot
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        writer = objectMapper.writerFor(PageResponse.class);
+
+        EventTypeWebMapper mapper = new EventTypeWebMapperImpl();
+        List<EventTypeResponse> content = EventTypes.eventTypes(pageSize).stream()
+                .map(mapper::toResponse)
+                .toList();
+        page = PageResponse.<EventTypeResponse>builder()
+                .content(content)
+                .metadata(PageResponse.PageMetadata.builder()
+                        .pageNumber(0)
+                        .pageSize(pageSize)
+                        .totalElements(50_000)
+                        .totalPages(50_000 / pageSize)
+                        .exactTotal(false)
+                        .build())
+                .build();
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return writer.writeValueAsBytes(page);
+    }
+}
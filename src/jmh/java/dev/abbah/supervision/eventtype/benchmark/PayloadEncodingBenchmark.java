@@ -0,0 +1,116 @@
+package dev.abbah.supervision.eventtype.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import dev.abbah.supervision.eventtype.adapter.in.web.codec.EventTypeMessages;
+import dev.abbah.supervision.eventtype.adapter.in.web.dto.EventTypeResponse;
+import dev.abbah.supervision.eventtype.adapter.in.web.dto.PageResponse;
+import dev.abbah.supervision.eventtype.adapter.in.web.mapper.EventTypeWebMapper;
+import dev.abbah.supervision.eventtype.adapter.in.web.mapper.EventTypeWebMapperImpl;
+import dev.abbah.supervision.eventtype.adapter.in.web.proto.EventTypePageMessage;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of encoding and decoding a list page in each negotiable format, as a service-to-service consumer sees it.
+ * Decoding includes building the response DTOs back. The payload size of every combination is reported next to
+ * its scores, as the {@code payloadBytes} secondary result.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PayloadEncodingBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int pageSize;
+
+    @Param({"json", "cbor", "smile", "protobuf"})
+    private String format;
+
+    private ObjectWriter writer;
+    private ObjectReader reader;
+    private PageResponse<EventTypeResponse> page;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() throws IOException {
+        // Same defaults as the ObjectMapper auto-configured by Spring Boot, copied per format like the web adapter does
+        ObjectMapper json = Jackson2ObjectMapperBuilder.json().build();
+        ObjectMapper objectMapper = switch (format) {
+            case "json", "protobuf" -> json;
+            case "cbor" -> json.copyWith(new CBORFactory());
+            case "smile" -> json.copyWith(new SmileFactory());
+            default -> throw new IllegalArgumentException("Unknown format " + format);
+        };
+        writer = objectMapper.writerFor(PageResponse.class);
+        reader = objectMapper.readerFor(new TypeReference<PageResponse<EventTypeResponse>>() { });
+
+        EventTypeWebMapper mapper = new EventTypeWebMapperImpl();
+        List<EventTypeResponse> content = EventTypes.eventTypes(pageSize).stream()
+                .map(mapper::toResponse)
+                .toList();
+        page = PageResponse.<EventTypeResponse>builder()
+                .content(content)
+                .metadata(PageResponse.PageMetadata.builder()
+                        .pageNumber(0)
+                        .pageSize(pageSize)
+                        .totalElements(50_000)
+                        .totalPages(50_000 / pageSize)
+                        .exactTotal(false)
+                        .build())
+                .build();
+
+        payload = encoded();
+    }
+
+    @Benchmark
+    public byte[] encode(PayloadSize size) throws IOException {
+        byte[] encoded = encoded();
+        size.payloadBytes = encoded.length;
+        return encoded;
+    }
+
+    @Benchmark
+    public PageResponse<EventTypeResponse> decode(PayloadSize size) throws IOException {
+        size.payloadBytes = payload.length;
+        if ("protobuf".equals(format)) {
+            return EventTypeMessages.toResponse(EventTypePageMessage.parseFrom(payload));
+        }
+        return reader.readValue(payload);
+    }
+
+    private byte[] encoded() throws IOException {
+        if ("protobuf".equals(format)) {
+            return EventTypeMessages.toMessage(page).toByteArray();
+        }
+        return writer.writeValueAsBytes(page);
+    }
+
+    /**
+     * Secondary result holding the size of the page in the benchmarked format.
+     * Assigned rather than accumulated, so every iteration reports the size itself; run with a single thread,
+     * as JMH sums it across threads.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PayloadSize {
+
+        public long payloadBytes;
+    }
+}
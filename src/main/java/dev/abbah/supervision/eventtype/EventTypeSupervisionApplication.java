@@ -2,8 +2,10 @@ package dev.abbah.supervision.eventtype;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 
 @SpringBootApplication
+@ConfigurationPropertiesScan
 public class EventTypeSupervisionApplication {
 
   public static void main(String[] args) {
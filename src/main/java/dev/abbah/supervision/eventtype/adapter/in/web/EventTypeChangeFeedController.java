@@ -0,0 +1,123 @@
+package dev.abbah.supervision.eventtype.adapter.in.web;
+
+import dev.abbah.supervision.eventtype.adapter.in.web.dto.EventTypeChangeResponse;
+import dev.abbah.supervision.eventtype.adapter.in.web.mapper.EventTypeWebMapper;
+import dev.abbah.supervision.eventtype.application.port.in.WatchEventTypesUseCase;
+import dev.abbah.supervision.eventtype.domain.EventTypeChange;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * REST controller streaming the changes made to event types, so clients keeping a local copy need not poll the list.
+ */
+@RestController
+@RequestMapping("/api/v1/event-types/changes")
+@RequiredArgsConstructor
+@Tag(name = "Event Types", description = "API for event type management")
+public class EventTypeChangeFeedController {
+
+    private final WatchEventTypesUseCase watchEventTypesUseCase;
+    private final EventTypeWebMapper mapper;
+    private final EventTypeChangeFeedProperties properties;
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Follow event type changes as NDJSON",
+            description = "Streams creations, updates and deletions as they happen, with periodic heartbeats; "
+                    + "resume by passing the resume token of the last change received")
+    @ApiResponse(responseCode = "200", description = "Changes streamed until the client disconnects or overflows its buffer")
+    @ApiResponse(responseCode = "400", description = "Invalid resume token")
+    public Flux<EventTypeChangeResponse> watchEventTypes(
+            @Parameter(description = "Resume token of the last change already received")
+            @RequestParam(required = false) String since) {
+        return changeFeed(since);
+    }
+
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Follow event type changes as server-sent events",
+            description = "Streams creations, updates and deletions as they happen, with periodic heartbeat comments; "
+                    + "each event ID is a resume token honoured through Last-Event-ID")
+    @ApiResponse(responseCode = "200", description = "Changes streamed until the client disconnects or overflows its buffer")
+    @ApiResponse(responseCode = "400", description = "Invalid resume token")
+    public Flux<ServerSentEvent<EventTypeChangeResponse>> streamEventTypeChanges(
+            @Parameter(description = "Resume token of the last change already received")
+            @RequestParam(required = false) String since,
+            @Parameter(description = "ID of the last event received, sent by reconnecting clients")
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return changeFeed(lastEventId != null ? lastEventId : since)
+                .map(this::toServerSentEvent);
+    }
+
+    private Flux<EventTypeChangeResponse> changeFeed(String since) {
+        String resumeToken = since == null || since.isBlank() ? null : since;
+        if (resumeToken == null) {
+            // Pins the start position first, so an overflow before the first change still hands the client a token
+            return watchEventTypesUseCase.currentChangePosition()
+                    .flatMapMany(position -> changeFeed(position, watchEventTypesUseCase.watchEventTypes(position)));
+        }
+
+        Flux<EventTypeChange> changes;
+        try {
+            changes = watchEventTypesUseCase.watchEventTypes(resumeToken);
+        } catch (IllegalArgumentException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid resume token", ex);
+        }
+        return changeFeed(resumeToken, changes);
+    }
+
+    private Flux<EventTypeChangeResponse> changeFeed(String resumeToken, Flux<EventTypeChange> changes) {
+        return Flux.defer(() -> {
+            AtomicReference<String> lastSent = new AtomicReference<>(resumeToken);
+            // Heartbeats that cannot be sent are dropped rather than queued
+            Flux<EventTypeChangeResponse> heartbeats = Flux.interval(properties.getHeartbeatInterval())
+                    .onBackpressureDrop()
+                    .map(tick -> EventTypeChangeResponse.builder().type(EventTypeChangeResponse.Type.HEARTBEAT).build());
+
+            // The buffer bounds the memory a slow client can hold; the change stream is resumable, so on overflow
+            // the client is cut off and catches up from its last token rather than the server queueing for it
+            return Flux.merge(changes.map(mapper::toResponse), heartbeats)
+                    .onBackpressureBuffer(properties.getBufferSize())
+                    .doOnNext(response -> {
+                        if (response.getResumeToken() != null) {
+                            lastSent.set(response.getResumeToken());
+                        }
+                    })
+                    .onErrorResume(Exceptions::isOverflow, ex -> Mono.fromSupplier(() -> EventTypeChangeResponse.builder()
+                            .type(EventTypeChangeResponse.Type.OVERFLOW)
+                            .resumeToken(lastSent.get())
+                            .build()));
+        });
+    }
+
+    private ServerSentEvent<EventTypeChangeResponse> toServerSentEvent(EventTypeChangeResponse response) {
+        if (response.getType() == EventTypeChangeResponse.Type.HEARTBEAT) {
+            return ServerSentEvent.<EventTypeChangeResponse>builder()
+                    .comment("heartbeat")
+                    .build();
+        }
+        ServerSentEvent.Builder<EventTypeChangeResponse> event = ServerSentEvent.builder(response)
+                .event(response.getType().name().toLowerCase(Locale.ROOT));
+        // The overflow message repeats the last change's token, which must not move Last-Event-ID
+        if (response.getType() != EventTypeChangeResponse.Type.OVERFLOW) {
+            event.id(response.getResumeToken());
+        }
+        return event.build();
+    }
+}
@@ -0,0 +1,25 @@
+package dev.abbah.supervision.eventtype.adapter.in.web;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the event type change feed endpoint.
+ */
+@Data
+@ConfigurationProperties(prefix = "event-type.change-feed")
+public class EventTypeChangeFeedProperties {
+
+    /**
+     * How often a heartbeat is sent to every subscriber.
+     */
+    private Duration heartbeatInterval = Duration.ofSeconds(15);
+
+    /**
+     * Maximum number of messages held for a subscriber that reads slower than changes happen.
+     * A subscriber whose buffer overflows gets an overflow message and is disconnected.
+     */
+    private int bufferSize = 256;
+}
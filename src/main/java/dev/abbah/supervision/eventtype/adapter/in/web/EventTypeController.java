@@ -1,26 +1,70 @@
 package dev.abbah.supervision.eventtype.adapter.in.web;
 
+import dev.abbah.supervision.eventtype.adapter.in.web.dto.BulkOperationResponse;
+import dev.abbah.supervision.eventtype.adapter.in.web.dto.CursorPageResponse;
+import dev.abbah.supervision.eventtype.adapter.in.web.dto.EventTypeBatchItemRequest;
+import dev.abbah.supervision.eventtype.adapter.in.web.dto.EventTypeBatchResponse;
+import dev.abbah.supervision.eventtype.adapter.in.web.dto.EventTypeCreationStatusResponse;
+import dev.abbah.supervision.eventtype.adapter.in.web.dto.EventTypeFilterRequest;
+import dev.abbah.supervision.eventtype.adapter.in.web.dto.EventTypeLookupRequest;
+import dev.abbah.supervision.eventtype.adapter.in.web.dto.EventTypeLookupResponse;
 import dev.abbah.supervision.eventtype.adapter.in.web.dto.EventTypeRequest;
 import dev.abbah.supervision.eventtype.adapter.in.web.dto.EventTypeResponse;
+import dev.abbah.supervision.eventtype.adapter.in.web.dto.EventTypeSuggestionResponse;
 import dev.abbah.supervision.eventtype.adapter.in.web.dto.PageResponse;
+import dev.abbah.supervision.eventtype.adapter.in.web.exception.ResourceNotFoundException;
 import dev.abbah.supervision.eventtype.adapter.in.web.mapper.EventTypeWebMapper;
 import dev.abbah.supervision.eventtype.application.port.in.*;
+import dev.abbah.supervision.eventtype.domain.BatchWriteResult;
+import dev.abbah.supervision.eventtype.domain.CatalogueVersion;
+import dev.abbah.supervision.eventtype.domain.EventType;
+import dev.abbah.supervision.eventtype.domain.EventTypeCursor;
+import dev.abbah.supervision.eventtype.domain.EventTypeField;
+import dev.abbah.supervision.eventtype.domain.EventTypeFilter;
+import dev.abbah.supervision.eventtype.domain.EventTypeListFilter;
+import dev.abbah.supervision.eventtype.domain.EventTypePage;
+import dev.abbah.supervision.eventtype.domain.EventTypeSortKey;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.net.URI;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 /**
  * REST controller for event type operations.
+ * Responses are JSON unless the client accepts one of the binary encodings of {@code EventTypeCodecConfiguration}.
  */
 @RestController
 @RequestMapping("/api/v1/event-types")
@@ -28,48 +72,230 @@ import java.util.List;
 @Tag(name = "Event Types", description = "API for event type management")
 public class EventTypeController {
 
+    private static final int MAX_BATCH_SIZE = 10_000;
+
+    private static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+    private static final String IDEMPOTENT_REPLAYED = "Idempotent-Replayed";
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 255;
+
+    private static final String PREFER = "Prefer";
+    private static final String PREFERENCE_APPLIED = "Preference-Applied";
+    private static final String RESPOND_ASYNC = "respond-async";
+
+    // Before the epoch, so If-Modified-Since never matches when the last modification is unknown
+    private static final Instant UNKNOWN_LAST_MODIFIED = Instant.ofEpochMilli(-1);
+
+    private static final Pattern VERSION_ETAG = Pattern.compile("\"v(\\d{1,18})\"");
+
     private final CreateEventTypeUseCase createEventTypeUseCase;
     private final GetEventTypeUseCase getEventTypeUseCase;
     private final UpdateEventTypeUseCase updateEventTypeUseCase;
     private final DeleteEventTypeUseCase deleteEventTypeUseCase;
     private final ListEventTypesUseCase listEventTypesUseCase;
     private final SearchEventTypesUseCase searchEventTypesUseCase;
+    private final ExportEventTypesUseCase exportEventTypesUseCase;
+    private final AutocompleteEventTypesUseCase autocompleteEventTypesUseCase;
     private final EventTypeWebMapper mapper;
+    private final Validator validator;
+
+    private final AtomicReference<CatalogueVersion> lastReadCatalogueVersion = new AtomicReference<>();
 
     @PostMapping
-    @ResponseStatus(HttpStatus.CREATED)
-    @Operation(summary = "Create a new event type", description = "Creates a new event type with the provided data")
-    @ApiResponse(responseCode = "201", description = "Event type created successfully")
-    public Mono<EventTypeResponse> createEventType(@Valid @RequestBody EventTypeRequest request) {
-        return createEventTypeUseCase.createEventType(mapper.toDomain(request))
+    @Operation(summary = "Create a new event type",
+            description = "Creates a new event type with the provided data. With an Idempotency-Key, retries of the same "
+                    + "request get the first response back without creating again. Otherwise, with Prefer: respond-async "
+                    + "and background creation enabled, the event type is only queued and its progress is reported at "
+                    + "/{id}/status")
+    @ApiResponse(responseCode = "201", description = "Event type created successfully, or replayed for a known Idempotency-Key")
+    @ApiResponse(responseCode = "202", description = "Event type accepted for creation in the background")
+    @ApiResponse(responseCode = "400", description = "Invalid event type or Idempotency-Key")
+    @ApiResponse(responseCode = "409", description = "A request with the same Idempotency-Key is still being processed")
+    @ApiResponse(responseCode = "422", description = "The Idempotency-Key was already used for a different event type")
+    @ApiResponse(responseCode = "503", description = "Background creation buffer full; retry after the Retry-After delay")
+    public Mono<ResponseEntity<EventTypeResponse>> createEventType(
+            @Valid @RequestBody EventTypeRequest request,
+            @Parameter(description = "Client-chosen key, the same for every retry of this creation")
+            @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey,
+            @Parameter(description = "respond-async to create the event type in the background, batched with others")
+            @RequestHeader(value = PREFER, required = false) String prefer) {
+        EventType eventType = mapper.toDomain(request);
+        if (idempotencyKey != null) {
+            // Keyed creations are always synchronous, so the outcome can be replayed to retries
+            return createEventTypeUseCase.createEventType(eventType, validIdempotencyKey(idempotencyKey))
+                    .map(creation -> ResponseEntity.status(HttpStatus.CREATED)
+                            .header(IDEMPOTENT_REPLAYED, String.valueOf(creation.replayed()))
+                            .body(mapper.toResponse(creation.eventType())));
+        }
+
+        Mono<ResponseEntity<EventTypeResponse>> created = Mono.defer(() -> createEventTypeUseCase.createEventType(eventType)
+                .map(saved -> ResponseEntity.status(HttpStatus.CREATED).body(mapper.toResponse(saved))));
+        if (!prefersRespondAsync(prefer)) {
+            return created;
+        }
+
+        // The preference is ignored when background creation is disabled
+        return createEventTypeUseCase.acceptEventType(eventType)
+                .map(accepted -> ResponseEntity.accepted()
+                        .location(URI.create("/api/v1/event-types/" + accepted.id() + "/status"))
+                        .header(PREFERENCE_APPLIED, RESPOND_ASYNC)
+                        .body(mapper.toResponse(accepted)))
+                .switchIfEmpty(created);
+    }
+
+    @GetMapping("/{id}/status")
+    @Operation(summary = "Get the progress of a background creation",
+            description = "Tells whether an event type accepted with Prefer: respond-async is still queued, persisted, or failed")
+    @ApiResponse(responseCode = "200", description = "Creation status found")
+    @ApiResponse(responseCode = "404", description = "No event type with this ID was accepted or persisted")
+    public Mono<EventTypeCreationStatusResponse> getCreationStatus(
+            @Parameter(description = "The ID assigned when the event type was accepted", required = true)
+            @PathVariable String id) {
+        return createEventTypeUseCase.getCreationStatus(id)
+                .switchIfEmpty(Mono.error(() -> ResourceNotFoundException.forResource("Event type", id)))
+                .map(mapper::toResponse);
+    }
+
+    @PostMapping("/batch")
+    @Operation(summary = "Create or upsert event types in batch",
+            description = "Creates the items without an ID and upserts the others; each item is validated and reported on its own")
+    @ApiResponse(responseCode = "200", description = "Batch processed; see the per-item results")
+    @ApiResponse(responseCode = "400", description = "Empty or oversized batch")
+    public Mono<EventTypeBatchResponse> createEventTypes(@RequestBody List<EventTypeBatchItemRequest> items) {
+        if (items.isEmpty() || items.size() > MAX_BATCH_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "A batch must contain between 1 and " + MAX_BATCH_SIZE + " items");
+        }
+
+        EventTypeBatchResponse.ItemResult[] results = new EventTypeBatchResponse.ItemResult[items.size()];
+        List<EventType> valid = new ArrayList<>(items.size());
+        List<Integer> validIndexes = new ArrayList<>(items.size());
+
+        // Invalid items are reported as such; only the valid ones reach the use case
+        for (int index = 0; index < items.size(); index++) {
+            Map<String, String> errors = validate(items.get(index));
+            if (errors.isEmpty()) {
+                valid.add(mapper.toDomain(items.get(index)));
+                validIndexes.add(index);
+            } else {
+                results[index] = EventTypeBatchResponse.ItemResult.builder()
+                        .index(index)
+                        .id(items.get(index) != null ? items.get(index).getId() : null)
+                        .status(EventTypeBatchResponse.Status.INVALID)
+                        .errors(errors)
+                        .build();
+            }
+        }
+
+        Flux<BatchWriteResult> written = valid.isEmpty() ? Flux.empty() : createEventTypeUseCase.createEventTypes(valid);
+
+        return written
+                .doOnNext(result -> {
+                    int index = validIndexes.get(result.index());
+                    results[index] = EventTypeBatchResponse.ItemResult.builder()
+                            .index(index)
+                            .id(result.id())
+                            .status(EventTypeBatchResponse.Status.valueOf(result.status().name()))
+                            .error(result.error())
+                            .build();
+                })
+                .then(Mono.fromSupplier(() -> toBatchResponse(Arrays.asList(results))));
+    }
+
+    @PostMapping("/bulk/activate")
+    @Operation(summary = "Activate event types in bulk",
+            description = "Activates every event type matching the filter with a single server-side update")
+    @ApiResponse(responseCode = "200", description = "Event types activated; see the matched and modified counts")
+    @ApiResponse(responseCode = "400", description = "Empty filter")
+    public Mono<BulkOperationResponse> activateEventTypes(@RequestBody EventTypeFilterRequest request) {
+        return updateEventTypeUseCase.updateEventTypesActive(toFilter(request), true)
+                .map(mapper::toResponse);
+    }
+
+    @PostMapping("/bulk/deactivate")
+    @Operation(summary = "Deactivate event types in bulk",
+            description = "Deactivates every event type matching the filter with a single server-side update")
+    @ApiResponse(responseCode = "200", description = "Event types deactivated; see the matched and modified counts")
+    @ApiResponse(responseCode = "400", description = "Empty filter")
+    public Mono<BulkOperationResponse> deactivateEventTypes(@RequestBody EventTypeFilterRequest request) {
+        return updateEventTypeUseCase.updateEventTypesActive(toFilter(request), false)
+                .map(mapper::toResponse);
+    }
+
+    @PostMapping("/bulk/delete")
+    @Operation(summary = "Delete event types in bulk",
+            description = "Deletes every event type matching the filter with a single server-side delete")
+    @ApiResponse(responseCode = "200", description = "Event types deleted; see the matched and modified counts")
+    @ApiResponse(responseCode = "400", description = "Empty filter")
+    public Mono<BulkOperationResponse> deleteEventTypes(@RequestBody EventTypeFilterRequest request) {
+        return deleteEventTypeUseCase.deleteEventTypes(toFilter(request))
                 .map(mapper::toResponse);
     }
 
     @GetMapping("/{id}")
     @Operation(summary = "Get an event type by ID", description = "Retrieves an event type by its ID")
     @ApiResponse(responseCode = "200", description = "Event type found")
+    @ApiResponse(responseCode = "304", description = "Event type not modified since the given ETag or date")
     @ApiResponse(responseCode = "404", description = "Event type not found")
     public Mono<ResponseEntity<EventTypeResponse>> getEventTypeById(
             @Parameter(description = "The ID of the event type to retrieve", required = true)
-            @PathVariable String id) {
+            @PathVariable String id,
+            @Parameter(description = "Comma-separated properties to return, such as id,name; the ID is always returned")
+            @RequestParam(required = false) String fields,
+            ServerWebExchange exchange) {
+        Set<EventTypeField> selected = parseFields(fields);
+
+        // A single document is read whole, as the near-cache and replica hold whole event types anyway
         return getEventTypeUseCase.getEventTypeById(id)
-                .map(mapper::toResponse)
-                .map(ResponseEntity::ok)
-                .defaultIfEmpty(ResponseEntity.notFound().build());
+                .switchIfEmpty(Mono.error(() -> ResourceNotFoundException.forResource("Event type", id)))
+                .flatMap(eventType -> whenModified(exchange, eTagOf(eventType), eventType.updatedAt(),
+                        () -> Mono.just(select(mapper.toResponse(eventType), selected))));
+    }
+
+    @PostMapping("/lookup")
+    @Operation(summary = "Get event types by IDs",
+            description = "Retrieves up to 1000 event types in a single query; the found event types keep the request order "
+                    + "and the IDs that match none are listed as missing")
+    @ApiResponse(responseCode = "200", description = "Lookup done; see the found and missing event types")
+    @ApiResponse(responseCode = "400", description = "Empty or oversized list of IDs")
+    public Mono<EventTypeLookupResponse> lookupEventTypes(
+            @Valid @RequestBody EventTypeLookupRequest request,
+            @Parameter(description = "Comma-separated properties to return, such as id,name; the ID is always returned")
+            @RequestParam(required = false) String fields) {
+        Set<EventTypeField> selected = parseFields(fields);
+
+        return getEventTypeUseCase.getEventTypesByIds(request.getIds())
+                .map(lookup -> EventTypeLookupResponse.builder()
+                        .eventTypes(lookup.found().stream()
+                                .map(eventType -> select(mapper.toResponse(eventType), selected))
+                                .toList())
+                        .missing(lookup.missing())
+                        .build());
     }
 
     @PutMapping("/{id}")
     @Operation(summary = "Update an event type", description = "Updates an existing event type with the provided data")
     @ApiResponse(responseCode = "200", description = "Event type updated successfully")
     @ApiResponse(responseCode = "404", description = "Event type not found")
+    @ApiResponse(responseCode = "412", description = "Event type modified since the ETag given in If-Match")
     public Mono<ResponseEntity<EventTypeResponse>> updateEventType(
             @Parameter(description = "The ID of the event type to update", required = true)
             @PathVariable String id,
+            @Parameter(description = "ETag of the version being updated; the update is rejected if it is no longer current")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody EventTypeRequest request) {
-        return updateEventTypeUseCase.updateEventType(id, mapper.toDomain(request))
-                .map(mapper::toResponse)
-                .map(ResponseEntity::ok)
-                .defaultIfEmpty(ResponseEntity.notFound().build());
+        EventType eventType = mapper.toDomain(request).toBuilder()
+                .version(expectedVersion(ifMatch))
+                .build();
+
+        return updateEventTypeUseCase.updateEventType(id, eventType)
+                .switchIfEmpty(Mono.error(() -> ResourceNotFoundException.forResource("Event type", id)))
+                .map(updated -> {
+                    ResponseEntity.BodyBuilder response = ResponseEntity.ok().eTag(eTagOf(updated));
+                    if (updated.updatedAt() != null) {
+                        response.lastModified(updated.updatedAt());
+                    }
+                    return response.body(mapper.toResponse(updated));
+                });
     }
 
     @DeleteMapping("/{id}")
@@ -83,75 +309,369 @@ public class EventTypeController {
     }
 
     @GetMapping
-    @Operation(summary = "List all event types", description = "Lists all event types with pagination")
+    @Operation(summary = "List all event types",
+            description = "Lists event types with pagination, optionally restricted by activation flag, creation "
+                    + "and update dates, and name prefix; the total then counts the matching event types only")
     @ApiResponse(responseCode = "200", description = "Event types retrieved successfully")
-    public Mono<PageResponse<EventTypeResponse>> listEventTypes(
+    @ApiResponse(responseCode = "304", description = "Catalogue not modified since the given ETag or date")
+    @ApiResponse(responseCode = "400", description = "Invalid filter or unsupported sort")
+    public Mono<ResponseEntity<PageResponse<EventTypeResponse>>> listEventTypes(
             @Parameter(description = "Page number (zero-based)")
             @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Page size")
-            @RequestParam(defaultValue = "10") int size) {
-        
-        PageRequest pageRequest = PageRequest.of(page, size);
+            @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "Sort key among name, createdAt and updatedAt, optionally followed by ,asc or ,desc; "
+                    + "newest first by default")
+            @RequestParam(required = false) String sort,
+            @Parameter(description = "Count the total exactly instead of estimating it")
+            @RequestParam(defaultValue = "false") boolean exactTotal,
+            @Parameter(description = "Comma-separated properties to return, such as id,name; the ID is always returned")
+            @RequestParam(required = false) String fields,
+            @Parameter(description = "Only list the event types with this activation flag")
+            @RequestParam(required = false) Boolean active,
+            @Parameter(description = "Only list the event types whose name starts with this prefix, ignoring case")
+            @RequestParam(required = false) String namePrefix,
+            @Parameter(description = "Only list the event types created at or after this date")
+            @RequestParam(required = false) Instant createdFrom,
+            @Parameter(description = "Only list the event types created before this date")
+            @RequestParam(required = false) Instant createdTo,
+            @Parameter(description = "Only list the event types last updated at or after this date")
+            @RequestParam(required = false) Instant updatedFrom,
+            @Parameter(description = "Only list the event types last updated before this date")
+            @RequestParam(required = false) Instant updatedTo,
+            ServerWebExchange exchange) {
         
-        return listEventTypesUseCase.listEventTypes(pageRequest)
-                .map(mapper::toResponse)
-                .collectList()
-                .zipWith(listEventTypesUseCase.countEventTypes())
-                .map(tuple -> {
-                    List<EventTypeResponse> content = tuple.getT1();
-                    long totalElements = tuple.getT2();
-                    int totalPages = calculateTotalPages(totalElements, size);
-                    
-                    PageResponse.PageMetadata metadata = PageResponse.PageMetadata.builder()
-                            .pageNumber(page)
-                            .pageSize(size)
-                            .totalElements(totalElements)
-                            .totalPages(totalPages)
-                            .build();
-                    
-                    return PageResponse.<EventTypeResponse>builder()
-                            .content(content)
-                            .metadata(metadata)
-                            .build();
-                });
+        PageRequest pageRequest = PageRequest.of(page, size, parseSort(sort, false));
+        Set<EventTypeField> selected = parseFields(fields);
+        EventTypeListFilter filter = toListFilter(active, namePrefix, createdFrom, createdTo, updatedFrom, updatedTo);
+
+        return whenCatalogueModified(exchange, () -> listEventTypesUseCase.listEventTypePage(filter, pageRequest, exactTotal, selected)
+                .map(result -> toPageResponse(result, page, size, selected)));
+    }
+
+    @GetMapping(params = "mode=cursor")
+    @Operation(summary = "List event types with a cursor",
+            description = "Lists event types newest first using keyset pagination; pass the returned nextCursor as 'after' to fetch the next page")
+    @Parameter(name = "mode", in = ParameterIn.QUERY, required = true, description = "Must be 'cursor' to select keyset pagination")
+    @ApiResponse(responseCode = "200", description = "Event types retrieved successfully")
+    @ApiResponse(responseCode = "304", description = "Catalogue not modified since the given ETag or date")
+    @ApiResponse(responseCode = "400", description = "Invalid cursor or page size")
+    public Mono<ResponseEntity<CursorPageResponse<EventTypeResponse>>> listEventTypesByCursor(
+            @Parameter(description = "Opaque cursor returned as nextCursor by the previous page")
+            @RequestParam(required = false) String after,
+            @Parameter(description = "Page size")
+            @RequestParam(defaultValue = "10") @Min(1) int size,
+            ServerWebExchange exchange) {
+
+        EventTypeCursor cursor = decodeCursor(after);
+
+        return whenCatalogueModified(exchange, () -> listEventTypesUseCase.listEventTypes(cursor, size)
+                .map(page -> CursorPageResponse.<EventTypeResponse>builder()
+                        .content(page.content().stream().map(mapper::toResponse).toList())
+                        .nextCursor(page.hasNext() ? page.nextCursor().encode() : null)
+                        .hasNext(page.hasNext())
+                        .build()));
     }
 
     @GetMapping("/search")
     @Operation(summary = "Search event types", description = "Searches for event types by name or description with pagination")
     @ApiResponse(responseCode = "200", description = "Search results retrieved successfully")
-    public Mono<PageResponse<EventTypeResponse>> searchEventTypes(
+    @ApiResponse(responseCode = "304", description = "Catalogue not modified since the given ETag or date")
+    @ApiResponse(responseCode = "400", description = "Unsupported sort")
+    public Mono<ResponseEntity<PageResponse<EventTypeResponse>>> searchEventTypes(
             @Parameter(description = "Search query")
             @RequestParam String query,
             @Parameter(description = "Page number (zero-based)")
             @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Page size")
-            @RequestParam(defaultValue = "10") int size) {
-        
-        PageRequest pageRequest = PageRequest.of(page, size);
+            @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "Sort key among relevance, name, createdAt and updatedAt, optionally followed by "
+                    + ",asc or ,desc; most relevant first by default")
+            @RequestParam(required = false) String sort,
+            @Parameter(description = "Count the total exactly instead of reusing a recently counted one")
+            @RequestParam(defaultValue = "false") boolean exactTotal,
+            @Parameter(description = "Comma-separated properties to return, such as id,name; the ID is always returned")
+            @RequestParam(required = false) String fields,
+            ServerWebExchange exchange) {
         
-        return searchEventTypesUseCase.searchEventTypes(query, pageRequest)
-                .map(mapper::toResponse)
-                .collectList()
-                .zipWith(searchEventTypesUseCase.countSearchResults(query))
-                .map(tuple -> {
-                    List<EventTypeResponse> content = tuple.getT1();
-                    long totalElements = tuple.getT2();
-                    int totalPages = calculateTotalPages(totalElements, size);
-                    
-                    PageResponse.PageMetadata metadata = PageResponse.PageMetadata.builder()
-                            .pageNumber(page)
-                            .pageSize(size)
-                            .totalElements(totalElements)
-                            .totalPages(totalPages)
-                            .build();
-                    
-                    return PageResponse.<EventTypeResponse>builder()
-                            .content(content)
-                            .metadata(metadata)
-                            .build();
-                });
+        PageRequest pageRequest = PageRequest.of(page, size, parseSort(sort, true));
+        Set<EventTypeField> selected = parseFields(fields);
+
+        return whenCatalogueModified(exchange, () -> searchEventTypesUseCase.searchEventTypePage(query, pageRequest, exactTotal, selected)
+                .map(result -> toPageResponse(result, page, size, selected)));
     }
-    
+
+    @GetMapping("/autocomplete")
+    @Operation(summary = "Autocomplete event type names",
+            description = "Suggests the event types whose name, or a word of it, starts with the prefix, ignoring case; "
+                    + "names starting with the prefix come first, then shorter names")
+    @ApiResponse(responseCode = "200", description = "Suggestions retrieved successfully, best first")
+    @ApiResponse(responseCode = "400", description = "Blank prefix or invalid limit")
+    public Flux<EventTypeSuggestionResponse> autocompleteEventTypes(
+            @Parameter(description = "The text typed so far")
+            @RequestParam String prefix,
+            @Parameter(description = "Maximum number of suggestions; capped by the server")
+            @RequestParam(defaultValue = "10") @Min(1) int limit) {
+        if (prefix.isBlank()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "The prefix cannot be blank");
+        }
+        return autocompleteEventTypesUseCase.autocompleteEventTypes(prefix, limit)
+                .map(mapper::toResponse);
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Export all event types as NDJSON",
+            description = "Streams the whole catalogue ordered by last update; resume by passing the updatedAt and id of the last line received")
+    @ApiResponse(responseCode = "200", description = "Event types streamed successfully")
+    public Flux<EventTypeResponse> exportEventTypes(
+            @Parameter(description = "Update date of the last event type already received")
+            @RequestParam(required = false) Instant updatedAt,
+            @Parameter(description = "ID of the last event type already received")
+            @RequestParam(required = false) String id) {
+        return exportEventTypesUseCase.exportEventTypes(resumePosition(updatedAt, id))
+                .map(mapper::toResponse);
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Export all event types as server-sent events",
+            description = "Streams the whole catalogue ordered by last update; each event ID is a resume token honoured through Last-Event-ID")
+    @ApiResponse(responseCode = "200", description = "Event types streamed successfully")
+    public Flux<ServerSentEvent<EventTypeResponse>> streamEventTypes(
+            @Parameter(description = "Update date of the last event type already received")
+            @RequestParam(required = false) Instant updatedAt,
+            @Parameter(description = "ID of the last event type already received")
+            @RequestParam(required = false) String id,
+            @Parameter(description = "ID of the last event received, sent by reconnecting clients")
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        EventTypeCursor after = lastEventId != null ? decodeCursor(lastEventId) : resumePosition(updatedAt, id);
+
+        return exportEventTypesUseCase.exportEventTypes(after)
+                .map(eventType -> ServerSentEvent.builder(mapper.toResponse(eventType))
+                        .id(new EventTypeCursor(eventType.updatedAt(), eventType.id()).encode())
+                        .event("event-type")
+                        .build());
+    }
+
+    private <T> Mono<ResponseEntity<T>> whenCatalogueModified(ServerWebExchange exchange, Supplier<Mono<T>> body) {
+        // Only conditional requests read the current version. Others are tagged with the last version read,
+        // which came before their content and can only be older than it: a client then revalidates once
+        // more than needed, but never gets a 304 for content it does not have
+        CatalogueVersion lastRead = lastReadCatalogueVersion.get();
+        Mono<CatalogueVersion> version = lastRead != null && !isConditional(exchange)
+                ? Mono.just(lastRead)
+                : listEventTypesUseCase.getCatalogueVersion().doOnNext(lastReadCatalogueVersion::set);
+
+        // Every list view derives from the catalogue, so its version validates them all
+        return version.flatMap(current -> whenModified(exchange, eTagOf(current), current.lastModified(), body));
+    }
+
+    private boolean isConditional(ServerWebExchange exchange) {
+        HttpHeaders headers = exchange.getRequest().getHeaders();
+        return !headers.getIfNoneMatch().isEmpty() || headers.getIfModifiedSince() != -1;
+    }
+
+    private <T> Mono<ResponseEntity<T>> whenModified(ServerWebExchange exchange, String eTag, Instant lastModified,
+                                                   Supplier<Mono<T>> body) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag(eTag);
+        // The same resource is encoded as JSON, CBOR, Smile or Protobuf depending on Accept
+        headers.setVary(List.of(HttpHeaders.ACCEPT));
+        if (lastModified != null) {
+            headers.setLastModified(lastModified);
+        }
+
+        // Checked before the body is produced, so a 304 costs neither the content query nor serialization
+        if (exchange.checkNotModified(eTag, lastModified != null ? lastModified : UNKNOWN_LAST_MODIFIED)) {
+            return Mono.just(ResponseEntity.status(HttpStatus.NOT_MODIFIED).headers(headers).build());
+        }
+        return body.get()
+                .map(content -> ResponseEntity.ok().headers(headers).body(content));
+    }
+
+    private String eTagOf(EventType eventType) {
+        // Event types written before versioning count as version 0
+        long version = eventType.version() != null ? eventType.version() : 0;
+        return "\"v" + version + "\"";
+    }
+
+    private Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        // Only our own strong "v<version>" tags can ever match the current representation
+        Matcher matcher = VERSION_ETAG.matcher(ifMatch.trim());
+        if (!matcher.matches()) {
+            throw new ResponseStatusException(HttpStatus.PRECONDITION_FAILED, "If-Match does not match the current version");
+        }
+        return Long.parseLong(matcher.group(1));
+    }
+
+    private String validIdempotencyKey(String idempotencyKey) {
+        String key = idempotencyKey.trim();
+        if (key.isEmpty() || key.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Idempotency-Key must have between 1 and " + MAX_IDEMPOTENCY_KEY_LENGTH + " characters");
+        }
+        return key;
+    }
+
+    private boolean prefersRespondAsync(String prefer) {
+        if (prefer == null) {
+            return false;
+        }
+        // Prefer: respond-async, wait=10 (RFC 7240); preferences may carry parameters after a semicolon
+        return Arrays.stream(prefer.split(","))
+                .map(preference -> preference.split(";", 2)[0].trim())
+                .anyMatch(RESPOND_ASYNC::equalsIgnoreCase);
+    }
+
+    private String eTagOf(CatalogueVersion version) {
+        return "\"catalogue-" + version.revision() + "\"";
+    }
+
+    private EventTypeFilter toFilter(EventTypeFilterRequest request) {
+        EventTypeFilter filter = mapper.toDomain(request);
+        // An empty filter would select the whole catalogue
+        if (filter == null || filter.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "At least one filter criterion is required");
+        }
+        return filter;
+    }
+
+    private EventTypeListFilter toListFilter(Boolean active, String namePrefix, Instant createdFrom, Instant createdTo,
+                                             Instant updatedFrom, Instant updatedTo) {
+        if (createdFrom != null && createdTo != null && !createdFrom.isBefore(createdTo)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "createdFrom must be before createdTo");
+        }
+        if (updatedFrom != null && updatedTo != null && !updatedFrom.isBefore(updatedTo)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "updatedFrom must be before updatedTo");
+        }
+        return new EventTypeListFilter(active, namePrefix, createdFrom, createdTo, updatedFrom, updatedTo);
+    }
+
+    private Map<String, String> validate(EventTypeBatchItemRequest item) {
+        if (item == null || item.getEventType() == null) {
+            return Map.of("item", "Item cannot be empty");
+        }
+
+        Map<String, String> errors = new TreeMap<>();
+        Set<ConstraintViolation<EventTypeRequest>> violations = validator.validate(item.getEventType());
+        violations.forEach(violation -> errors.put(violation.getPropertyPath().toString(), violation.getMessage()));
+        return errors;
+    }
+
+    private EventTypeBatchResponse toBatchResponse(List<EventTypeBatchResponse.ItemResult> results) {
+        EventTypeBatchResponse.EventTypeBatchResponseBuilder response = EventTypeBatchResponse.builder().results(results);
+        response.created(countStatus(results, EventTypeBatchResponse.Status.CREATED));
+        response.updated(countStatus(results, EventTypeBatchResponse.Status.UPDATED));
+        response.invalid(countStatus(results, EventTypeBatchResponse.Status.INVALID));
+        response.failed(countStatus(results, EventTypeBatchResponse.Status.FAILED));
+        return response.build();
+    }
+
+    private int countStatus(List<EventTypeBatchResponse.ItemResult> results, EventTypeBatchResponse.Status status) {
+        return (int) results.stream().filter(result -> result.getStatus() == status).count();
+    }
+
+    private EventTypeCursor resumePosition(Instant updatedAt, String id) {
+        if (updatedAt == null && id == null) {
+            return null;
+        }
+        if (updatedAt == null || id == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Both updatedAt and id are required to resume an export");
+        }
+        return new EventTypeCursor(updatedAt, id);
+    }
+
+    private EventTypeCursor decodeCursor(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            return EventTypeCursor.decode(token);
+        } catch (IllegalArgumentException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor", ex);
+        }
+    }
+
+    private Set<EventTypeField> parseFields(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return null;
+        }
+        Set<EventTypeField> selected = EnumSet.noneOf(EventTypeField.class);
+        for (String name : fields.split(",")) {
+            String propertyName = name.trim();
+            selected.add(EventTypeField.fromPropertyName(propertyName)
+                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                            "Unknown field '" + propertyName + "'; expected some of " + EventTypeField.ALL.stream()
+                                    .map(EventTypeField::propertyName)
+                                    .collect(Collectors.joining(",")))));
+        }
+        return selected;
+    }
+
+    private Sort parseSort(String sort, boolean search) {
+        if (sort == null || sort.isBlank()) {
+            return Sort.unsorted();
+        }
+        String[] parts = sort.split(",", -1);
+        String propertyName = parts[0].trim();
+        EventTypeSortKey key = EventTypeSortKey.fromPropertyName(propertyName)
+                .filter(candidate -> search || candidate != EventTypeSortKey.RELEVANCE)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                        "Unsupported sort '" + propertyName + "'; expected one of " + Arrays.stream(EventTypeSortKey.values())
+                                .filter(candidate -> search || candidate != EventTypeSortKey.RELEVANCE)
+                                .map(EventTypeSortKey::propertyName)
+                                .collect(Collectors.joining(","))));
+
+        Sort.Direction direction = key.isDescendingByDefault() ? Sort.Direction.DESC : Sort.Direction.ASC;
+        if (parts.length == 2) {
+            direction = Sort.Direction.fromOptionalString(parts[1].trim())
+                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                            "Unsupported sort direction '" + parts[1].trim() + "'; expected asc or desc"));
+        } else if (parts.length > 2) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Sort by a single key, such as createdAt,desc");
+        }
+        if (key == EventTypeSortKey.RELEVANCE && direction.isAscending()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Relevance can only be sorted descending");
+        }
+        return Sort.by(direction, key.propertyName());
+    }
+
+    private EventTypeResponse select(EventTypeResponse response, Set<EventTypeField> fields) {
+        if (!EventTypeField.isPartial(fields)) {
+            return response;
+        }
+        return EventTypeResponse.builder()
+                .id(response.getId())
+                .name(fields.contains(EventTypeField.NAME) ? response.getName() : null)
+                .description(fields.contains(EventTypeField.DESCRIPTION) ? response.getDescription() : null)
+                .active(fields.contains(EventTypeField.ACTIVE) ? response.getActive() : null)
+                .createdAt(fields.contains(EventTypeField.CREATED_AT) ? response.getCreatedAt() : null)
+                .updatedAt(fields.contains(EventTypeField.UPDATED_AT) ? response.getUpdatedAt() : null)
+                .build();
+    }
+
+    private PageResponse<EventTypeResponse> toPageResponse(EventTypePage result, int page, int size,
+                                                           Set<EventTypeField> fields) {
+        List<EventTypeResponse> content = result.content().stream()
+                .map(eventType -> select(mapper.toResponse(eventType), fields))
+                .toList();
+
+        PageResponse.PageMetadata metadata = PageResponse.PageMetadata.builder()
+                .pageNumber(page)
+                .pageSize(size)
+                .totalElements(result.totalElements())
+                .totalPages(calculateTotalPages(result.totalElements(), size))
+                .exactTotal(result.exactTotal())
+                .build();
+
+        return PageResponse.<EventTypeResponse>builder()
+                .content(content)
+                .metadata(metadata)
+                .build();
+    }
+
     private int calculateTotalPages(long totalElements, int pageSize) {
         return pageSize > 0 ? (int) Math.ceil((double) totalElements / (double) pageSize) : 0;
     }
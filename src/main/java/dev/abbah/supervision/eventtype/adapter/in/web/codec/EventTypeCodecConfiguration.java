@@ -0,0 +1,42 @@
+package dev.abbah.supervision.eventtype.adapter.in.web.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.http.codec.cbor.Jackson2CborDecoder;
+import org.springframework.http.codec.cbor.Jackson2CborEncoder;
+import org.springframework.http.codec.json.Jackson2SmileDecoder;
+import org.springframework.http.codec.json.Jackson2SmileEncoder;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+
+/**
+ * Compact binary encodings of the API, chosen by the client through the Accept header:
+ * CBOR ({@code application/cbor}), Smile ({@code application/x-jackson-smile})
+ * and Protobuf ({@code application/x-protobuf}) for event types and their pages.
+ * <p>
+ * The binary writers are registered after the JSON one, so clients that do not ask
+ * for a binary type keep getting JSON. CBOR and Smile use copies of the auto-configured
+ * ObjectMapper, so they see the same properties as JSON.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class EventTypeCodecConfiguration implements WebFluxConfigurer {
+
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void configureHttpMessageCodecs(ServerCodecConfigurer configurer) {
+        ObjectMapper cborMapper = objectMapper.copyWith(new CBORFactory());
+        ObjectMapper smileMapper = objectMapper.copyWith(new SmileFactory());
+
+        // Smile is a default codec once jackson-dataformat-smile is present, CBOR is not
+        configurer.defaultCodecs().jackson2SmileEncoder(new Jackson2SmileEncoder(smileMapper));
+        configurer.defaultCodecs().jackson2SmileDecoder(new Jackson2SmileDecoder(smileMapper));
+        configurer.customCodecs().register(new Jackson2CborEncoder(cborMapper));
+        configurer.customCodecs().register(new Jackson2CborDecoder(cborMapper));
+        configurer.customCodecs().register(new EventTypeProtobufEncoder());
+    }
+}
@@ -0,0 +1,91 @@
+package dev.abbah.supervision.eventtype.adapter.in.web.codec;
+
+import com.google.protobuf.Timestamp;
+import dev.abbah.supervision.eventtype.adapter.in.web.dto.EventTypeResponse;
+import dev.abbah.supervision.eventtype.adapter.in.web.dto.PageResponse;
+import dev.abbah.supervision.eventtype.adapter.in.web.proto.EventTypeMessage;
+import dev.abbah.supervision.eventtype.adapter.in.web.proto.EventTypePageMessage;
+import dev.abbah.supervision.eventtype.adapter.in.web.proto.PageMetadataMessage;
+
+import java.time.Instant;
+
+/**
+ * Conversion between the web DTOs and the Protobuf messages of {@code event_type.proto}.
+ * Properties that are null in a DTO (left out of a sparse fieldset) are left unset in the message, and back.
+ */
+public final class EventTypeMessages {
+
+    private EventTypeMessages() {
+    }
+
+    public static EventTypeMessage toMessage(EventTypeResponse response) {
+        EventTypeMessage.Builder message = EventTypeMessage.newBuilder().setId(response.getId());
+        if (response.getName() != null) {
+            message.setName(response.getName());
+        }
+        if (response.getDescription() != null) {
+            message.setDescription(response.getDescription());
+        }
+        if (response.getActive() != null) {
+            message.setActive(response.getActive());
+        }
+        if (response.getCreatedAt() != null) {
+            message.setCreatedAt(toTimestamp(response.getCreatedAt()));
+        }
+        if (response.getUpdatedAt() != null) {
+            message.setUpdatedAt(toTimestamp(response.getUpdatedAt()));
+        }
+        return message.build();
+    }
+
+    public static EventTypePageMessage toMessage(PageResponse<EventTypeResponse> page) {
+        EventTypePageMessage.Builder message = EventTypePageMessage.newBuilder();
+        page.getContent().forEach(response -> message.addContent(toMessage(response)));
+        PageResponse.PageMetadata metadata = page.getMetadata();
+        if (metadata != null) {
+            message.setMetadata(PageMetadataMessage.newBuilder()
+                    .setPageNumber(metadata.getPageNumber())
+                    .setPageSize(metadata.getPageSize())
+                    .setTotalElements(metadata.getTotalElements())
+                    .setTotalPages(metadata.getTotalPages())
+                    .setExactTotal(metadata.isExactTotal()));
+        }
+        return message.build();
+    }
+
+    public static EventTypeResponse toResponse(EventTypeMessage message) {
+        return EventTypeResponse.builder()
+                .id(message.getId())
+                .name(message.hasName() ? message.getName() : null)
+                .description(message.hasDescription() ? message.getDescription() : null)
+                .active(message.hasActive() ? message.getActive() : null)
+                .createdAt(message.hasCreatedAt() ? toInstant(message.getCreatedAt()) : null)
+                .updatedAt(message.hasUpdatedAt() ? toInstant(message.getUpdatedAt()) : null)
+                .build();
+    }
+
+    public static PageResponse<EventTypeResponse> toResponse(EventTypePageMessage message) {
+        PageMetadataMessage metadata = message.getMetadata();
+        return PageResponse.<EventTypeResponse>builder()
+                .content(message.getContentList().stream().map(EventTypeMessages::toResponse).toList())
+                .metadata(PageResponse.PageMetadata.builder()
+                        .pageNumber(metadata.getPageNumber())
+                        .pageSize(metadata.getPageSize())
+                        .totalElements(metadata.getTotalElements())
+                        .totalPages(metadata.getTotalPages())
+                        .exactTotal(metadata.getExactTotal())
+                        .build())
+                .build();
+    }
+
+    private static Timestamp toTimestamp(Instant instant) {
+        return Timestamp.newBuilder()
+                .setSeconds(instant.getEpochSecond())
+                .setNanos(instant.getNano())
+                .build();
+    }
+
+    private static Instant toInstant(Timestamp timestamp) {
+        return Instant.ofEpochSecond(timestamp.getSeconds(), timestamp.getNanos());
+    }
+}
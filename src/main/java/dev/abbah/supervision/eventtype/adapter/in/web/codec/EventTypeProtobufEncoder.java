@@ -0,0 +1,77 @@
+package dev.abbah.supervision.eventtype.adapter.in.web.codec;
+
+import com.google.protobuf.Message;
+import dev.abbah.supervision.eventtype.adapter.in.web.dto.EventTypeResponse;
+import dev.abbah.supervision.eventtype.adapter.in.web.dto.PageResponse;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.HttpMessageEncoder;
+import org.springframework.http.codec.protobuf.ProtobufEncoder;
+import org.springframework.lang.Nullable;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Encodes event type responses and pages of them as the Protobuf messages of {@code event_type.proto}.
+ * <p>
+ * The controller keeps returning its JSON DTOs; they are converted to messages only when the client
+ * negotiated {@code application/x-protobuf}. Each response is a single, non-delimited message.
+ */
+public class EventTypeProtobufEncoder implements HttpMessageEncoder<Object> {
+
+    public static final MediaType APPLICATION_PROTOBUF = new MediaType("application", "x-protobuf");
+
+    private final ProtobufEncoder delegate = new ProtobufEncoder();
+
+    @Override
+    public boolean canEncode(ResolvableType elementType, @Nullable MimeType mimeType) {
+        if (mimeType != null && !APPLICATION_PROTOBUF.isCompatibleWith(mimeType)) {
+            return false;
+        }
+        Class<?> type = elementType.toClass();
+        if (EventTypeResponse.class.isAssignableFrom(type)) {
+            return true;
+        }
+        return PageResponse.class.isAssignableFrom(type)
+                && EventTypeResponse.class.isAssignableFrom(elementType.getGeneric(0).resolve(EventTypeResponse.class));
+    }
+
+    @Override
+    public Flux<DataBuffer> encode(Publisher<?> inputStream, DataBufferFactory bufferFactory,
+                                   ResolvableType elementType, @Nullable MimeType mimeType,
+                                   @Nullable Map<String, Object> hints) {
+        return Flux.from(inputStream)
+                .map(value -> encodeValue(value, bufferFactory, elementType, mimeType, hints));
+    }
+
+    @Override
+    public DataBuffer encodeValue(Object value, DataBufferFactory bufferFactory, ResolvableType valueType,
+                                  @Nullable MimeType mimeType, @Nullable Map<String, Object> hints) {
+        Message message = toMessage(value);
+        return delegate.encodeValue(message, bufferFactory, ResolvableType.forInstance(message), mimeType, hints);
+    }
+
+    @Override
+    public List<MimeType> getEncodableMimeTypes() {
+        return List.of(APPLICATION_PROTOBUF);
+    }
+
+    @Override
+    public List<MediaType> getStreamingMediaTypes() {
+        return List.of();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Message toMessage(Object value) {
+        if (value instanceof EventTypeResponse response) {
+            return EventTypeMessages.toMessage(response);
+        }
+        return EventTypeMessages.toMessage((PageResponse<EventTypeResponse>) value);
+    }
+}
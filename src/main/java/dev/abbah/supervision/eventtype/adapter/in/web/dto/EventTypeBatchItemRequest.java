@@ -0,0 +1,25 @@
+package dev.abbah.supervision.eventtype.adapter.in.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import jakarta.validation.Valid;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Request DTO for one item of a batch write.
+ * Carries the same fields and validation as {@link EventTypeRequest}, plus an optional ID selecting the event type to upsert.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventTypeBatchItemRequest {
+
+    private String id;
+
+    @Valid
+    @JsonUnwrapped
+    private EventTypeRequest eventType;
+}
@@ -0,0 +1,46 @@
+package dev.abbah.supervision.eventtype.adapter.in.web.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Response DTO for a batch write, with one result per submitted item.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventTypeBatchResponse {
+    private List<ItemResult> results;
+    private int created;
+    private int updated;
+    private int invalid;
+    private int failed;
+
+    /**
+     * Outcome of one item of the batch.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ItemResult {
+        private int index;
+        private String id;
+        private Status status;
+        private String error;
+        private Map<String, String> errors;
+    }
+
+    public enum Status {
+        CREATED,
+        UPDATED,
+        INVALID,
+        FAILED
+    }
+}
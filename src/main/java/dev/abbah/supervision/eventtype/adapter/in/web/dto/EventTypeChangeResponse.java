@@ -0,0 +1,38 @@
+package dev.abbah.supervision.eventtype.adapter.in.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Response DTO for one message of the event type change feed.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class EventTypeChangeResponse {
+    private Type type;
+    private String id;
+    private EventTypeResponse eventType;
+    private String resumeToken;
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED,
+        /**
+         * Sent while no change happens, so clients and proxies can tell an idle feed from a dead connection.
+         */
+        HEARTBEAT,
+        /**
+         * Last message before the server closes a feed the client did not read fast enough.
+         * Its resume token is that of the last change sent, or of the feed's start position if none was sent;
+         * reconnect with it to catch up.
+         */
+        OVERFLOW
+    }
+}
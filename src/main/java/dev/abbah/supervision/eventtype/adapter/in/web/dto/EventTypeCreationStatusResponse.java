@@ -0,0 +1,27 @@
+package dev.abbah.supervision.eventtype.adapter.in.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Response DTO for the progress of an event type accepted for creation in the background.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class EventTypeCreationStatusResponse {
+    private String id;
+    private State state;
+    private String error;
+
+    public enum State {
+        QUEUED,
+        PERSISTED,
+        FAILED
+    }
+}
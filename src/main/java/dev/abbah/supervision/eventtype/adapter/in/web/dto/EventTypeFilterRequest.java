@@ -0,0 +1,25 @@
+package dev.abbah.supervision.eventtype.adapter.in.web.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Request DTO selecting the event types targeted by a bulk operation.
+ * At least one criterion is required; the given criteria are combined with AND.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventTypeFilterRequest {
+    private List<String> ids;
+    private String namePrefix;
+    private String query;
+    private Instant createdFrom;
+    private Instant createdTo;
+}
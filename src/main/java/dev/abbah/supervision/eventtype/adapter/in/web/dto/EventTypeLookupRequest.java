@@ -0,0 +1,25 @@
+package dev.abbah.supervision.eventtype.adapter.in.web.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Request DTO listing the IDs of the event types to look up at once.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventTypeLookupRequest {
+
+    @NotEmpty(message = "At least one ID is required")
+    @Size(max = 1000, message = "At most 1000 IDs can be looked up at once")
+    private List<@NotBlank(message = "IDs cannot be blank") String> ids;
+}
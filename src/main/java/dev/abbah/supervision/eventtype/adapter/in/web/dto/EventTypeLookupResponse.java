@@ -0,0 +1,20 @@
+package dev.abbah.supervision.eventtype.adapter.in.web.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Response DTO of a lookup by IDs: the event types found in request order, and the IDs that were not found.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventTypeLookupResponse {
+    private List<EventTypeResponse> eventTypes;
+    private List<String> missing;
+}
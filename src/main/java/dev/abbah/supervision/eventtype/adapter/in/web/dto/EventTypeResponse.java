@@ -1,5 +1,6 @@
 package dev.abbah.supervision.eventtype.adapter.in.web.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -9,16 +10,18 @@ import java.time.Instant;
 
 /**
  * Response DTO for event type operations.
+ * Properties left out of a sparse fieldset are null and omitted from the JSON.
  */
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class EventTypeResponse {
     private String id;
     private String name;
     private String description;
-    private boolean active;
+    private Boolean active;
     private Instant createdAt;
     private Instant updatedAt;
 }
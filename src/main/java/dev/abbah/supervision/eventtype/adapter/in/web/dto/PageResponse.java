@@ -29,5 +29,6 @@ public class PageResponse<T> {
         private int pageSize;
         private long totalElements;
         private int totalPages;
+        private boolean exactTotal;
     }
 }
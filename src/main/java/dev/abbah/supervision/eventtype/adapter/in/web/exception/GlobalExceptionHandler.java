@@ -1,7 +1,12 @@
 package dev.abbah.supervision.eventtype.adapter.in.web.exception;
 
+import dev.abbah.supervision.eventtype.application.port.out.CapacityExceededException;
+import dev.abbah.supervision.eventtype.application.port.out.IdempotencyKeyConflictException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
@@ -59,6 +64,59 @@ public class GlobalExceptionHandler {
     return problemDetail;
   }
 
+  /**
+   * Handles writes rejected because the resource changed since the version the client based them on.
+   *
+   * @param ex The exception
+   * @return A ProblemDetail response
+   */
+  @ExceptionHandler(OptimisticLockingFailureException.class)
+  @ResponseStatus(HttpStatus.PRECONDITION_FAILED)
+  public ProblemDetail handleOptimisticLockingFailureException(OptimisticLockingFailureException ex) {
+    ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.PRECONDITION_FAILED, ex.getMessage());
+    problemDetail.setTitle("Precondition Failed");
+    problemDetail.setType(URI.create("https://api.supervision.abbah.dev/errors/precondition-failed"));
+    return problemDetail;
+  }
+
+  /**
+   * Handles operations shed because the store is at capacity, telling the client when to retry.
+   *
+   * @param ex The exception
+   * @return A ProblemDetail response with a Retry-After header
+   */
+  @ExceptionHandler(CapacityExceededException.class)
+  public ResponseEntity<ProblemDetail> handleCapacityExceededException(CapacityExceededException ex) {
+    ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage());
+    problemDetail.setTitle("Service Unavailable");
+    problemDetail.setType(URI.create("https://api.supervision.abbah.dev/errors/capacity-exceeded"));
+
+    long retryAfterSeconds = Math.max(1, (ex.getRetryAfter().toMillis() + 999) / 1000);
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                         .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                         .body(problemDetail);
+  }
+
+  /**
+   * Handles idempotency keys that cannot be honoured: reused for another payload, or still in progress.
+   *
+   * @param ex The exception
+   * @return A ProblemDetail response
+   */
+  @ExceptionHandler(IdempotencyKeyConflictException.class)
+  public ResponseEntity<ProblemDetail> handleIdempotencyKeyConflictException(IdempotencyKeyConflictException ex) {
+    boolean mismatch = ex.getReason() == IdempotencyKeyConflictException.Reason.PAYLOAD_MISMATCH;
+    HttpStatus status = mismatch ? HttpStatus.UNPROCESSABLE_ENTITY : HttpStatus.CONFLICT;
+
+    ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(status, ex.getMessage());
+    problemDetail.setTitle(mismatch ? "Idempotency Key Reused" : "Request In Progress");
+    problemDetail.setType(URI.create(mismatch
+        ? "https://api.supervision.abbah.dev/errors/idempotency-key-reused"
+        : "https://api.supervision.abbah.dev/errors/request-in-progress"));
+    return ResponseEntity.status(status)
+                         .body(problemDetail);
+  }
+
   /**
    * Handles business logic exceptions.
    *
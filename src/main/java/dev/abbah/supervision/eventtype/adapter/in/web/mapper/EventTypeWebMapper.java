@@ -1,8 +1,19 @@
 package dev.abbah.supervision.eventtype.adapter.in.web.mapper;
 
+import dev.abbah.supervision.eventtype.adapter.in.web.dto.BulkOperationResponse;
+import dev.abbah.supervision.eventtype.adapter.in.web.dto.EventTypeBatchItemRequest;
+import dev.abbah.supervision.eventtype.adapter.in.web.dto.EventTypeChangeResponse;
+import dev.abbah.supervision.eventtype.adapter.in.web.dto.EventTypeCreationStatusResponse;
+import dev.abbah.supervision.eventtype.adapter.in.web.dto.EventTypeFilterRequest;
 import dev.abbah.supervision.eventtype.adapter.in.web.dto.EventTypeRequest;
 import dev.abbah.supervision.eventtype.adapter.in.web.dto.EventTypeResponse;
+import dev.abbah.supervision.eventtype.adapter.in.web.dto.EventTypeSuggestionResponse;
+import dev.abbah.supervision.eventtype.domain.BulkOperationResult;
+import dev.abbah.supervision.eventtype.domain.CreationStatus;
 import dev.abbah.supervision.eventtype.domain.EventType;
+import dev.abbah.supervision.eventtype.domain.EventTypeChange;
+import dev.abbah.supervision.eventtype.domain.EventTypeFilter;
+import dev.abbah.supervision.eventtype.domain.EventTypeSuggestion;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingConstants;
@@ -32,6 +43,18 @@ public interface EventTypeWebMapper {
     @Mapping(target = "updatedAt", expression = "java(Instant.now())")
     EventType toDomain(EventTypeRequest request);
 
+    /**
+     * Converts a batch item to a domain EventType, keeping the ID of the event type to upsert.
+     *
+     * @param item The batch item
+     * @return The domain event type
+     */
+    default EventType toDomain(EventTypeBatchItemRequest item) {
+        return toDomain(item.getEventType()).toBuilder()
+                .id(item.getId())
+                .build();
+    }
+
     /**
      * Converts a domain EventType to a response DTO.
      *
@@ -39,4 +62,45 @@ public interface EventTypeWebMapper {
      * @return The response DTO
      */
     EventTypeResponse toResponse(EventType eventType);
+
+    /**
+     * Converts a filter request to a domain EventTypeFilter.
+     *
+     * @param request The filter request
+     * @return The domain filter
+     */
+    @Mapping(target = "text", source = "query")
+    EventTypeFilter toDomain(EventTypeFilterRequest request);
+
+    /**
+     * Converts the counts of a bulk operation to a response DTO.
+     *
+     * @param result The bulk operation result
+     * @return The response DTO
+     */
+    BulkOperationResponse toResponse(BulkOperationResult result);
+
+    /**
+     * Converts a change of the event type catalogue to a change feed message.
+     *
+     * @param change The change
+     * @return The response DTO
+     */
+    EventTypeChangeResponse toResponse(EventTypeChange change);
+
+    /**
+     * Converts an autocompletion suggestion to a response DTO.
+     *
+     * @param suggestion The suggestion
+     * @return The response DTO
+     */
+    EventTypeSuggestionResponse toResponse(EventTypeSuggestion suggestion);
+
+    /**
+     * Converts the progress of a background creation to a response DTO.
+     *
+     * @param status The creation status
+     * @return The response DTO
+     */
+    EventTypeCreationStatusResponse toResponse(CreationStatus status);
 }
@@ -0,0 +1,93 @@
+package dev.abbah.supervision.eventtype.adapter.out.persistence;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Concurrency limit that adapts to the latency of the operations it admits (additive increase, multiplicative
+ * decrease): every operation slower than the threshold shrinks the limit by the backoff ratio, and every fast one
+ * grows it by one over the current limit, so roughly one slot per window of operations, while the limit is in use.
+ */
+class AimdConcurrencyLimit {
+
+    static final String LIMIT_METRIC = "event.type.concurrency.limit";
+    static final String IN_FLIGHT_METRIC = "event.type.concurrency.in.flight";
+    static final String REJECTED_METRIC = "event.type.concurrency.rejected";
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+    private final Counter rejected;
+
+    // Guarded by this
+    private double limit;
+    private int inFlight;
+
+    AimdConcurrencyLimit(String operation, EventTypeConcurrencyLimitProperties.Limit properties,
+                         MeterRegistry meterRegistry) {
+        this.minLimit = Math.max(1, properties.getMinLimit());
+        this.maxLimit = Math.max(minLimit, properties.getMaxLimit());
+        this.latencyThresholdNanos = properties.getLatencyThreshold().toNanos();
+        this.backoffRatio = properties.getBackoffRatio();
+        this.limit = Math.clamp(properties.getInitialLimit(), minLimit, maxLimit);
+
+        Gauge.builder(LIMIT_METRIC, this, AimdConcurrencyLimit::getLimit)
+                .description("Current limit on MongoDB operations in flight")
+                .tag("operation", operation)
+                .register(meterRegistry);
+        Gauge.builder(IN_FLIGHT_METRIC, this, AimdConcurrencyLimit::getInFlight)
+                .description("MongoDB operations in flight")
+                .tag("operation", operation)
+                .register(meterRegistry);
+        this.rejected = Counter.builder(REJECTED_METRIC)
+                .description("Operations rejected because the limit was reached")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Admits an operation if the limit allows one more in flight.
+     *
+     * @return Whether the operation was admitted; an admitted operation must be released exactly once
+     */
+    synchronized boolean tryAcquire() {
+        if (inFlight >= (int) limit) {
+            rejected.increment();
+            return false;
+        }
+        inFlight++;
+        return true;
+    }
+
+    /**
+     * Releases an operation that completed, adapting the limit to how long it took.
+     *
+     * @param latencyNanos Time from admission to completion
+     */
+    synchronized void release(long latencyNanos) {
+        if (latencyNanos > latencyThresholdNanos) {
+            limit = Math.max(minLimit, limit * backoffRatio);
+        } else if (inFlight * 2 >= limit) {
+            // Only grow while the limit is actually what bounds concurrency
+            limit = Math.min(maxLimit, limit + 1 / limit);
+        }
+        inFlight--;
+    }
+
+    /**
+     * Releases an operation that was cancelled, whose latency says nothing about the store.
+     */
+    synchronized void releaseWithoutSample() {
+        inFlight--;
+    }
+
+    synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    synchronized int getInFlight() {
+        return inFlight;
+    }
+}
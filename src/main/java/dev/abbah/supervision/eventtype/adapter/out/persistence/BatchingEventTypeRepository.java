@@ -0,0 +1,193 @@
+package dev.abbah.supervision.eventtype.adapter.out.persistence;
+
+import dev.abbah.supervision.eventtype.application.port.out.EventTypeRepository;
+import dev.abbah.supervision.eventtype.domain.BatchWriteResult;
+import dev.abbah.supervision.eventtype.domain.BulkOperationResult;
+import dev.abbah.supervision.eventtype.domain.EventType;
+import dev.abbah.supervision.eventtype.domain.EventTypeFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DataLoader-style decorator for lookups by ID.
+ * A lookup for an ID that is already being looked up joins it instead of querying again, and the distinct IDs
+ * asked for within a short window are fetched together with a single {@code $in} query, whose results are then
+ * handed back to each waiting lookup.
+ */
+public class BatchingEventTypeRepository extends ForwardingEventTypeRepository {
+
+    static final String BATCH_SIZE_METRIC = "event.type.lookup.batch.size";
+    static final String LOOKUPS_METRIC = "event.type.lookup.requests";
+
+    private final Duration window;
+    private final int maxBatchSize;
+    private final Scheduler scheduler;
+    private final DistributionSummary batchSizes;
+    private final Counter queuedLookups;
+    private final Counter collapsedLookups;
+
+    // Guarded by this: the batch still gathering IDs, and every unanswered lookup a new one may join
+    private Batch gathering;
+    private Map<String, Sinks.One<EventType>> unanswered = new HashMap<>();
+
+    public BatchingEventTypeRepository(EventTypeRepository delegate,
+                                       EventTypeLookupBatchingProperties properties,
+                                       MeterRegistry meterRegistry) {
+        this(delegate, properties, meterRegistry, Schedulers.parallel());
+    }
+
+    BatchingEventTypeRepository(EventTypeRepository delegate,
+                                EventTypeLookupBatchingProperties properties,
+                                MeterRegistry meterRegistry,
+                                Scheduler scheduler) {
+        super(delegate);
+        this.window = properties.getWindow();
+        this.maxBatchSize = Math.max(1, properties.getMaxBatchSize());
+        this.scheduler = scheduler;
+        this.batchSizes = DistributionSummary.builder(BATCH_SIZE_METRIC)
+                .description("Distinct IDs fetched per lookup query")
+                .register(meterRegistry);
+        this.queuedLookups = Counter.builder(LOOKUPS_METRIC)
+                .description("Lookups by ID, by whether they joined one already in flight")
+                .tag("collapsed", "false")
+                .register(meterRegistry);
+        this.collapsedLookups = Counter.builder(LOOKUPS_METRIC)
+                .description("Lookups by ID, by whether they joined one already in flight")
+                .tag("collapsed", "true")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<EventType> findById(String id) {
+        return Mono.defer(() -> {
+            Batch full = null;
+            Sinks.One<EventType> sink;
+            synchronized (this) {
+                sink = unanswered.get(id);
+                if (sink != null) {
+                    collapsedLookups.increment();
+                    return sink.asMono();
+                }
+
+                sink = Sinks.one();
+                unanswered.put(id, sink);
+                queuedLookups.increment();
+
+                if (gathering == null) {
+                    gathering = new Batch();
+                    if (!window.isZero()) {
+                        Batch scheduled = gathering;
+                        scheduler.schedule(() -> send(scheduled), window.toNanos(), TimeUnit.NANOSECONDS);
+                    }
+                }
+                gathering.sinks.put(id, sink);
+                if (window.isZero() || gathering.sinks.size() >= maxBatchSize) {
+                    full = gathering;
+                    gathering = null;
+                }
+            }
+            if (full != null) {
+                fetch(full);
+            }
+            return sink.asMono();
+        });
+    }
+
+    @Override
+    public Mono<EventType> save(EventType eventType) {
+        return detaching(super.save(eventType));
+    }
+
+    @Override
+    public Mono<EventType> update(EventType eventType) {
+        return detaching(super.update(eventType));
+    }
+
+    @Override
+    public Flux<BatchWriteResult> upsertAll(List<EventType> eventTypes) {
+        // Also on every result: it reaches the caller before the batch terminates
+        return super.upsertAll(eventTypes)
+                .doOnNext(result -> detachUnanswered())
+                .doOnTerminate(this::detachUnanswered)
+                .doOnCancel(this::detachUnanswered);
+    }
+
+    @Override
+    public Mono<Void> deleteById(String id) {
+        return detaching(super.deleteById(id));
+    }
+
+    @Override
+    public Mono<BulkOperationResult> updateActive(EventTypeFilter filter, boolean active, Instant updatedAt) {
+        return detaching(super.updateActive(filter, active, updatedAt));
+    }
+
+    @Override
+    public Mono<BulkOperationResult> deleteAll(EventTypeFilter filter) {
+        return detaching(super.deleteAll(filter));
+    }
+
+    private <T> Mono<T> detaching(Mono<T> write) {
+        // A lookup sent before the write may return the old state: later lookups must not join it, including those
+        // made as soon as the caller sees the outcome, and after a cancellation, as the write may still apply
+        return write
+                .doOnTerminate(this::detachUnanswered)
+                .doOnCancel(this::detachUnanswered);
+    }
+
+    private synchronized void detachUnanswered() {
+        // Lookups still gathering have not been sent, so they will read the new state and can still be joined
+        unanswered = gathering != null ? new HashMap<>(gathering.sinks) : new HashMap<>();
+    }
+
+    private void send(Batch batch) {
+        synchronized (this) {
+            // The batch may already have been sent because it filled up or a write went through
+            if (gathering != batch) {
+                return;
+            }
+            gathering = null;
+        }
+        fetch(batch);
+    }
+
+    private void fetch(Batch batch) {
+        batchSizes.record(batch.sinks.size());
+        super.findAllById(List.copyOf(batch.sinks.keySet()))
+                .collectMap(EventType::id)
+                .subscribe(found -> batch.sinks.forEach((id, sink) -> {
+                    answered(id, sink);
+                    EventType eventType = found.get(id);
+                    if (eventType != null) {
+                        sink.tryEmitValue(eventType);
+                    } else {
+                        sink.tryEmitEmpty();
+                    }
+                }), error -> batch.sinks.forEach((id, sink) -> {
+                    answered(id, sink);
+                    sink.tryEmitError(error);
+                }));
+    }
+
+    private synchronized void answered(String id, Sinks.One<EventType> sink) {
+        unanswered.remove(id, sink);
+    }
+
+    private static final class Batch {
+        private final Map<String, Sinks.One<EventType>> sinks = new LinkedHashMap<>();
+    }
+}
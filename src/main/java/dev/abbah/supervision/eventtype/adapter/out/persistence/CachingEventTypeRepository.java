@@ -0,0 +1,137 @@
+package dev.abbah.supervision.eventtype.adapter.out.persistence;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dev.abbah.supervision.eventtype.application.port.out.EventTypeRepository;
+import dev.abbah.supervision.eventtype.domain.BatchWriteResult;
+import dev.abbah.supervision.eventtype.domain.BulkOperationResult;
+import dev.abbah.supervision.eventtype.domain.EventType;
+import dev.abbah.supervision.eventtype.domain.EventTypeFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Near-cache decorator for event type lookups by ID.
+ * Keeps recently read event types in a size-bounded, expiring in-process cache, and drops
+ * an entry as soon as this node saves or deletes the corresponding event type.
+ * Every write on this node also bumps a write generation; a lookup caches what it loaded only if no
+ * write completed since it started, so a read racing a write cannot put back the old state.
+ */
+public class CachingEventTypeRepository extends ForwardingEventTypeRepository {
+
+    static final String CACHE_NAME = "eventTypes";
+
+    private final Cache<String, EventType> cache;
+    private final AtomicLong generation = new AtomicLong();
+
+    public CachingEventTypeRepository(EventTypeRepository delegate,
+                                      EventTypeCacheProperties properties,
+                                      MeterRegistry meterRegistry) {
+        super(delegate);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    @Override
+    public Mono<EventType> findById(String id) {
+        return Mono.defer(() -> {
+            EventType cached = cache.getIfPresent(id);
+            if (cached != null) {
+                return Mono.just(cached);
+            }
+            long loadedAt = generation.get();
+            return super.findById(id)
+                    .doOnNext(found -> cacheLoaded(found, loadedAt));
+        });
+    }
+
+    @Override
+    public Flux<EventType> findAllById(Collection<String> ids) {
+        return Flux.defer(() -> {
+            Map<String, EventType> cached = cache.getAllPresent(ids);
+            List<String> misses = ids.stream()
+                    .filter(id -> !cached.containsKey(id))
+                    .toList();
+            long loadedAt = generation.get();
+            // Only the misses go to the delegate, still as one query
+            Flux<EventType> loaded = misses.isEmpty()
+                    ? Flux.empty()
+                    : super.findAllById(misses).doOnNext(found -> cacheLoaded(found, loadedAt));
+            return Flux.fromIterable(cached.values()).concatWith(loaded);
+        });
+    }
+
+    @Override
+    public Mono<EventType> save(EventType eventType) {
+        return writing(super.save(eventType)
+                .doOnNext(saved -> written(saved.id())), () -> written(eventType.id()));
+    }
+
+    @Override
+    public Mono<EventType> update(EventType eventType) {
+        return writing(super.update(eventType), () -> written(eventType.id()));
+    }
+
+    @Override
+    public Flux<BatchWriteResult> upsertAll(List<EventType> eventTypes) {
+        Runnable written = () -> eventTypes.forEach(eventType -> written(eventType.id()));
+        return super.upsertAll(eventTypes)
+                .doOnNext(result -> written(result.id()))
+                .doOnTerminate(written)
+                .doOnCancel(written);
+    }
+
+    @Override
+    public Mono<Void> deleteById(String id) {
+        return writing(super.deleteById(id), () -> written(id));
+    }
+
+    @Override
+    public Mono<BulkOperationResult> updateActive(EventTypeFilter filter, boolean active, Instant updatedAt) {
+        // The matched IDs are only known server-side, so drop every entry
+        return writing(super.updateActive(filter, active, updatedAt), this::writtenAll);
+    }
+
+    @Override
+    public Mono<BulkOperationResult> deleteAll(EventTypeFilter filter) {
+        return writing(super.deleteAll(filter), this::writtenAll);
+    }
+
+    private static <T> Mono<T> writing(Mono<T> write, Runnable written) {
+        // Before the outcome reaches the caller, so that its next read misses; also on errors and cancellations,
+        // after which the write may still have been applied
+        return write
+                .doOnTerminate(written)
+                .doOnCancel(written);
+    }
+
+    private void cacheLoaded(EventType found, long loadedAt) {
+        // Atomic with the removal of the key by a write: either the write completed first and bumped the
+        // generation, so nothing is cached, or it completes after and removes what was cached here
+        cache.asMap().compute(found.id(), (id, current) -> generation.get() == loadedAt ? found : current);
+    }
+
+    private void written(String id) {
+        generation.incrementAndGet();
+        if (id != null) {
+            cache.invalidate(id);
+        }
+    }
+
+    private void writtenAll() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+}
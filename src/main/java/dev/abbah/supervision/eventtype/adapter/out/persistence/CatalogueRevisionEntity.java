@@ -0,0 +1,29 @@
+package dev.abbah.supervision.eventtype.adapter.out.persistence;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * MongoDB document counting the writes applied to the event type catalogue.
+ */
+@Document(collection = "event_type_catalogue_revision")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CatalogueRevisionEntity {
+
+    @Id
+    private String id;
+
+    private long revision;
+
+    // Server time of the latest write, so that clocks of the application nodes play no part
+    private Instant lastModified;
+}
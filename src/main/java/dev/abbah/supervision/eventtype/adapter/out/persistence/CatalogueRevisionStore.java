@@ -0,0 +1,62 @@
+package dev.abbah.supervision.eventtype.adapter.out.persistence;
+
+import dev.abbah.supervision.eventtype.domain.CatalogueVersion;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+
+/**
+ * Revision of the event type catalogue, kept in a single document shared by every node.
+ * It is advanced only once a write has been applied, so the content read after any revision
+ * includes every write counted by it: a version read before the content can only be older than it.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CatalogueRevisionStore {
+
+    static final String CATALOGUE_ID = "event_types";
+
+    private static final int ADVANCE_ATTEMPTS = 3;
+    private static final Duration ADVANCE_BACKOFF = Duration.ofMillis(50);
+
+    private final ReactiveMongoTemplate mongoTemplate;
+
+    /**
+     * Reads the current catalogue version with a single lookup by ID.
+     *
+     * @return The catalogue version, at revision 0 before the first counted write
+     */
+    public Mono<CatalogueVersion> current() {
+        return mongoTemplate.findById(CATALOGUE_ID, CatalogueRevisionEntity.class)
+                .map(entity -> new CatalogueVersion(Long.toString(entity.getRevision()), entity.getLastModified()))
+                .defaultIfEmpty(new CatalogueVersion("0", null));
+    }
+
+    /**
+     * Counts a write that has been applied.
+     * Never fails: the write itself succeeded, and failing it now would make clients retry and write twice.
+     *
+     * @return Completes once the revision is advanced, or once advancing it was given up
+     */
+    public Mono<Void> advance() {
+        Update update = new Update()
+                .inc("revision", 1)
+                .currentDate("lastModified");
+
+        return mongoTemplate.upsert(Query.query(Criteria.where("id").is(CATALOGUE_ID)), update, CatalogueRevisionEntity.class)
+                .retryWhen(Retry.backoff(ADVANCE_ATTEMPTS, ADVANCE_BACKOFF))
+                // Clients holding the current version keep getting 304 until the next write advances it
+                .doOnError(ex -> log.error("Could not advance the event type catalogue revision", ex))
+                .onErrorComplete()
+                .then();
+    }
+}
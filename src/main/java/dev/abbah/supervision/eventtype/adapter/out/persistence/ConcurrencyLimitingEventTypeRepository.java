@@ -0,0 +1,163 @@
+package dev.abbah.supervision.eventtype.adapter.out.persistence;
+
+import dev.abbah.supervision.eventtype.application.port.out.CapacityExceededException;
+import dev.abbah.supervision.eventtype.application.port.out.EventTypeRepository;
+import dev.abbah.supervision.eventtype.domain.BatchWriteResult;
+import dev.abbah.supervision.eventtype.domain.BulkOperationResult;
+import dev.abbah.supervision.eventtype.domain.CatalogueVersion;
+import dev.abbah.supervision.eventtype.domain.EventType;
+import dev.abbah.supervision.eventtype.domain.EventTypeCursor;
+import dev.abbah.supervision.eventtype.domain.EventTypeField;
+import dev.abbah.supervision.eventtype.domain.EventTypeFilter;
+import dev.abbah.supervision.eventtype.domain.EventTypeListFilter;
+import dev.abbah.supervision.eventtype.domain.EventTypePage;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.data.domain.Pageable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Decorator that bounds the operations in flight against MongoDB with adaptive limits, separate for reads and
+ * writes. Once a limit is reached, further operations fail fast with {@link CapacityExceededException} instead of
+ * queueing in the driver, where they would only add to the latency of everything already waiting.
+ * <p>
+ * Export streams are not limited: they hold their cursor for as long as the client reads, which says nothing
+ * about how loaded the store is.
+ */
+public class ConcurrencyLimitingEventTypeRepository extends ForwardingEventTypeRepository {
+
+    private final AimdConcurrencyLimit reads;
+    private final AimdConcurrencyLimit writes;
+    private final Duration retryAfter;
+
+    public ConcurrencyLimitingEventTypeRepository(EventTypeRepository delegate,
+                                                  EventTypeConcurrencyLimitProperties properties,
+                                                  MeterRegistry meterRegistry) {
+        super(delegate);
+        this.reads = new AimdConcurrencyLimit("read", properties.getReads(), meterRegistry);
+        this.writes = new AimdConcurrencyLimit("write", properties.getWrites(), meterRegistry);
+        this.retryAfter = properties.getRetryAfter();
+    }
+
+    @Override
+    public Mono<EventType> save(EventType eventType) {
+        return limited(writes, () -> super.save(eventType));
+    }
+
+    @Override
+    public Flux<BatchWriteResult> upsertAll(List<EventType> eventTypes) {
+        return limitedMany(writes, () -> super.upsertAll(eventTypes));
+    }
+
+    @Override
+    public Mono<EventType> update(EventType eventType) {
+        return limited(writes, () -> super.update(eventType));
+    }
+
+    @Override
+    public Mono<EventType> findById(String id) {
+        return limited(reads, () -> super.findById(id));
+    }
+
+    @Override
+    public Flux<EventType> findAllById(Collection<String> ids) {
+        return limitedMany(reads, () -> super.findAllById(ids));
+    }
+
+    @Override
+    public Mono<Void> deleteById(String id) {
+        return limited(writes, () -> super.deleteById(id));
+    }
+
+    @Override
+    public Mono<BulkOperationResult> updateActive(EventTypeFilter filter, boolean active, Instant updatedAt) {
+        return limited(writes, () -> super.updateActive(filter, active, updatedAt));
+    }
+
+    @Override
+    public Mono<BulkOperationResult> deleteAll(EventTypeFilter filter) {
+        return limited(writes, () -> super.deleteAll(filter));
+    }
+
+    @Override
+    public Flux<EventType> findAll(Pageable pageable) {
+        return limitedMany(reads, () -> super.findAll(pageable));
+    }
+
+    @Override
+    public Flux<EventType> findAllAfter(EventTypeCursor after, int limit) {
+        return limitedMany(reads, () -> super.findAllAfter(after, limit));
+    }
+
+    @Override
+    public Mono<Long> count() {
+        return limited(reads, super::count);
+    }
+
+    @Override
+    public Mono<CatalogueVersion> catalogueVersion() {
+        return limited(reads, super::catalogueVersion);
+    }
+
+    @Override
+    public Mono<EventTypePage> findPage(EventTypeListFilter filter, Pageable pageable, boolean exactTotal,
+                                        Set<EventTypeField> fields) {
+        return limited(reads, () -> super.findPage(filter, pageable, exactTotal, fields));
+    }
+
+    @Override
+    public Flux<EventType> search(String query, Pageable pageable) {
+        return limitedMany(reads, () -> super.search(query, pageable));
+    }
+
+    @Override
+    public Mono<Long> countByQuery(String query) {
+        return limited(reads, () -> super.countByQuery(query));
+    }
+
+    @Override
+    public Mono<EventTypePage> searchPage(String query, Pageable pageable, boolean exactTotal, Set<EventTypeField> fields) {
+        return limited(reads, () -> super.searchPage(query, pageable, exactTotal, fields));
+    }
+
+    private <T> Mono<T> limited(AimdConcurrencyLimit limit, Supplier<Mono<T>> operation) {
+        return Mono.defer(() -> {
+            if (!limit.tryAcquire()) {
+                return Mono.error(rejection());
+            }
+            long start = System.nanoTime();
+            // Deferred so an operation throwing while it is assembled still errors through doFinally
+            return Mono.defer(operation).doFinally(signal -> release(limit, signal, start));
+        });
+    }
+
+    private <T> Flux<T> limitedMany(AimdConcurrencyLimit limit, Supplier<Flux<T>> operation) {
+        return Flux.defer(() -> {
+            if (!limit.tryAcquire()) {
+                return Flux.error(rejection());
+            }
+            long start = System.nanoTime();
+            return Flux.defer(operation).doFinally(signal -> release(limit, signal, start));
+        });
+    }
+
+    private static void release(AimdConcurrencyLimit limit, SignalType signal, long start) {
+        if (signal == SignalType.CANCEL) {
+            limit.releaseWithoutSample();
+        } else {
+            limit.release(System.nanoTime() - start);
+        }
+    }
+
+    private CapacityExceededException rejection() {
+        return new CapacityExceededException("Too many event type operations in flight, retry later", retryAfter);
+    }
+}
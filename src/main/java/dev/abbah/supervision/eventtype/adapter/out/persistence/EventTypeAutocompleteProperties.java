@@ -0,0 +1,31 @@
+package dev.abbah.supervision.eventtype.adapter.out.persistence;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the in-memory name index behind autocompletion.
+ */
+@Data
+@ConfigurationProperties(prefix = "event-type.autocomplete")
+public class EventTypeAutocompleteProperties {
+
+    /**
+     * Number of suggestions kept per prefix, hence the largest number a request can get.
+     */
+    private int maxSuggestions = 20;
+
+    /**
+     * How often the index is rebuilt from the database, to pick up changes written by other nodes.
+     * Changes written through this node are indexed immediately.
+     */
+    private Duration resyncInterval = Duration.ofMinutes(5);
+
+    /**
+     * How long a lookup waits for the first build of the index, for instance while the database is unreachable,
+     * before it is rejected as unavailable.
+     */
+    private Duration loadTimeout = Duration.ofSeconds(1);
+}
@@ -0,0 +1,17 @@
+package dev.abbah.supervision.eventtype.adapter.out.persistence;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration of batch writes of event types.
+ */
+@Data
+@ConfigurationProperties(prefix = "event-type.batch")
+public class EventTypeBatchProperties {
+
+    /**
+     * Maximum number of writes sent to MongoDB in a single bulk write.
+     */
+    private int chunkSize = 500;
+}
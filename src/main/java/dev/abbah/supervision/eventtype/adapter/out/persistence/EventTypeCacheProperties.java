@@ -0,0 +1,29 @@
+package dev.abbah.supervision.eventtype.adapter.out.persistence;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the in-process event type near-cache.
+ */
+@Data
+@ConfigurationProperties(prefix = "event-type.cache")
+public class EventTypeCacheProperties {
+
+    /**
+     * Whether lookups by ID are served from the near-cache.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Maximum number of cached event types.
+     */
+    private long maximumSize = 10_000;
+
+    /**
+     * How long a cached event type may be served after it was loaded.
+     */
+    private Duration ttl = Duration.ofMinutes(5);
+}
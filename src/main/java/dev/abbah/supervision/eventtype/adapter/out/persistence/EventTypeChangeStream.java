@@ -0,0 +1,151 @@
+package dev.abbah.supervision.eventtype.adapter.out.persistence;
+
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.FullDocument;
+import dev.abbah.supervision.eventtype.application.port.out.EventTypeChangeFeed;
+import dev.abbah.supervision.eventtype.adapter.out.persistence.mapper.EventTypePersistenceMapper;
+import dev.abbah.supervision.eventtype.domain.EventTypeChange;
+import lombok.RequiredArgsConstructor;
+import org.bson.BsonDocument;
+import org.bson.BsonTimestamp;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.ChangeStreamEvent;
+import org.springframework.data.mongodb.core.ChangeStreamOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.function.Consumer;
+
+/**
+ * Tails the MongoDB change stream of the event type collection.
+ * Change streams require MongoDB to run as a replica set or sharded cluster.
+ */
+@Component
+@RequiredArgsConstructor
+public class EventTypeChangeStream implements EventTypeChangeFeed {
+
+    // Marks a token minted from a cluster time rather than taken from a change
+    private static final String OPERATION_TIME = "operationTime";
+
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final EventTypePersistenceMapper mapper;
+
+    /**
+     * Streams the changes made after the given resume token.
+     *
+     * @param resumeToken A token from a previous change, or null to start from now
+     * @return The changes, as they happen
+     * @throws IllegalArgumentException if the resume token is malformed
+     */
+    @Override
+    public Flux<EventTypeChange> changes(String resumeToken) {
+        if (resumeToken == null) {
+            return listen(options -> { });
+        }
+        BsonDocument token = decodeToken(resumeToken);
+        if (token.isTimestamp(OPERATION_TIME)) {
+            return changesFrom(token.getTimestamp(OPERATION_TIME));
+        }
+        return listen(options -> options.resumeAfter(token));
+    }
+
+    /**
+     * Mints a resume token for the current cluster time; resuming from it replays the changes made from that time on.
+     *
+     * @return The token of the current position
+     */
+    @Override
+    public Mono<String> currentPosition() {
+        return operationTime()
+                .switchIfEmpty(Mono.error(() -> new IllegalStateException("MongoDB reported no cluster time")))
+                .map(time -> encodeToken(new BsonDocument(OPERATION_TIME, time)));
+    }
+
+    /**
+     * Streams the changes made from the given cluster time on.
+     *
+     * @param operationTime The cluster time to start from, as returned by {@link #operationTime()}
+     * @return The changes, as they happen
+     */
+    public Flux<EventTypeChange> changesFrom(BsonTimestamp operationTime) {
+        return listen(options -> options.resumeAt(operationTime));
+    }
+
+    /**
+     * Reads the current cluster time, to start a change stream at a point fixed before reading a snapshot.
+     *
+     * @return The current cluster time
+     */
+    public Mono<BsonTimestamp> operationTime() {
+        return mongoTemplate.executeCommand(new Document("hello", 1))
+                .mapNotNull(reply -> reply.get("operationTime", BsonTimestamp.class));
+    }
+
+    private Flux<EventTypeChange> listen(Consumer<ChangeStreamOptions.ChangeStreamOptionsBuilder> position) {
+        return mongoTemplate.changeStream(EventTypeEntity.class)
+                .watchCollection(EventTypeEntity.class)
+                .withOptions(options -> {
+                    // Updates carry the whole current document, so consumers never need to read it back
+                    options.fullDocumentLookup(FullDocument.UPDATE_LOOKUP);
+                    position.accept(options);
+                })
+                .listen()
+                .<EventTypeChange>handle((event, sink) -> {
+                    EventTypeChange change = toChange(event);
+                    if (change != null) {
+                        sink.next(change);
+                    }
+                });
+    }
+
+    private EventTypeChange toChange(ChangeStreamEvent<EventTypeEntity> event) {
+        ChangeStreamDocument<Document> raw = event.getRaw();
+        if (raw == null || event.getOperationType() == null) {
+            return null;
+        }
+
+        String token = encodeToken(event.getResumeToken());
+        return switch (event.getOperationType()) {
+            case INSERT -> new EventTypeChange(EventTypeChange.Type.CREATED, idOf(raw), mapper.toDomain(event.getBody()), token);
+            case UPDATE, REPLACE -> event.getBody() == null
+                    // Deleted before the lookup ran; the delete follows in the stream
+                    ? null
+                    : new EventTypeChange(EventTypeChange.Type.UPDATED, idOf(raw), mapper.toDomain(event.getBody()), token);
+            case DELETE -> new EventTypeChange(EventTypeChange.Type.DELETED, idOf(raw), null, token);
+            case DROP, DROP_DATABASE, RENAME, INVALIDATE ->
+                    throw new IllegalStateException("Event type change stream invalidated by " + event.getOperationType());
+            default -> null;
+        };
+    }
+
+    private static String idOf(ChangeStreamDocument<Document> raw) {
+        BsonValue id = raw.getDocumentKey() != null ? raw.getDocumentKey().get("_id") : null;
+        if (id == null) {
+            return null;
+        }
+        return id.isObjectId() ? id.asObjectId().getValue().toHexString() : id.asString().getValue();
+    }
+
+    static String encodeToken(BsonValue token) {
+        if (token == null) {
+            return null;
+        }
+        // The token is opaque to clients; base64url keeps it safe in query strings and SSE IDs
+        byte[] json = token.asDocument().toJson().getBytes(StandardCharsets.UTF_8);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(json);
+    }
+
+    static BsonDocument decodeToken(String token) {
+        try {
+            String json = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            return BsonDocument.parse(json);
+        } catch (RuntimeException ex) {
+            throw new IllegalArgumentException("Invalid resume token", ex);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package dev.abbah.supervision.eventtype.adapter.out.persistence;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the adaptive limits on the number of MongoDB operations in flight.
+ */
+@Data
+@ConfigurationProperties(prefix = "event-type.concurrency-limit")
+public class EventTypeConcurrencyLimitProperties {
+
+    /**
+     * Whether operations beyond the current limit are rejected instead of queued in the driver.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Delay suggested to rejected clients through the Retry-After header.
+     */
+    private Duration retryAfter = Duration.ofSeconds(1);
+
+    /**
+     * Limit on queries.
+     */
+    private Limit reads = new Limit(50, 5, 500, Duration.ofMillis(100));
+
+    /**
+     * Limit on inserts, updates and deletes.
+     */
+    private Limit writes = new Limit(20, 2, 200, Duration.ofMillis(250));
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Limit {
+
+        /**
+         * Operations allowed in flight before any latency has been observed.
+         */
+        private int initialLimit;
+
+        /**
+         * Floor the limit never shrinks below.
+         */
+        private int minLimit;
+
+        /**
+         * Ceiling the limit never grows above.
+         */
+        private int maxLimit;
+
+        /**
+         * Latency above which an operation counts as a sign of overload and shrinks the limit.
+         */
+        private Duration latencyThreshold;
+
+        /**
+         * Factor the limit is multiplied by on each sign of overload.
+         */
+        private double backoffRatio = 0.9;
+
+        public Limit(int initialLimit, int minLimit, int maxLimit, Duration latencyThreshold) {
+            this(initialLimit, minLimit, maxLimit, latencyThreshold, 0.9);
+        }
+    }
+}
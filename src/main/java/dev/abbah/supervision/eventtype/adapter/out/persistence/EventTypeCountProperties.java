@@ -0,0 +1,57 @@
+package dev.abbah.supervision.eventtype.adapter.out.persistence;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration of how page totals are counted for the list and search endpoints.
+ * Callers can always request an exact total, whatever strategy is configured.
+ */
+@Data
+@ConfigurationProperties(prefix = "event-type.count")
+public class EventTypeCountProperties {
+
+    /**
+     * How the total of an unfiltered list page is obtained.
+     */
+    private ListCountStrategy list = ListCountStrategy.ESTIMATED;
+
+    /**
+     * How the total of a search page is obtained.
+     */
+    private SearchCountStrategy search = SearchCountStrategy.CACHED;
+
+    /**
+     * How long a search total may be reused when the search strategy is {@code CACHED}.
+     */
+    private Duration searchTotalTtl = Duration.ofSeconds(30);
+
+    /**
+     * Maximum number of distinct search queries whose totals are kept.
+     */
+    private long searchTotalMaximumSize = 1_000;
+
+    public enum ListCountStrategy {
+        /**
+         * Count matching documents alongside the page.
+         */
+        EXACT,
+        /**
+         * Read the document count from collection metadata.
+         */
+        ESTIMATED
+    }
+
+    public enum SearchCountStrategy {
+        /**
+         * Count matching documents alongside every page.
+         */
+        EXACT,
+        /**
+         * Count once per normalized query and reuse the total until it expires or this node writes.
+         */
+        CACHED
+    }
+}
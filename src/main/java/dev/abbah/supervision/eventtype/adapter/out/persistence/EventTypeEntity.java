@@ -5,14 +5,15 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
-import org.springframework.data.mongodb.core.index.Indexed;
-import org.springframework.data.mongodb.core.index.TextIndexed;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.Instant;
+import java.util.Locale;
 
 /**
  * MongoDB document entity for event types.
+ * Its indexes are declared in {@link EventTypeIndexes} and built by {@link EventTypeIndexManager}.
  */
 @Document(collection = "event_types")
 @Data
@@ -24,11 +25,11 @@ public class EventTypeEntity {
     @Id
     private String id;
     
-    @Indexed
-    @TextIndexed
     private String name;
     
-    @TextIndexed
+    // Lower-cased copy of the name, so that case-insensitive prefix filters remain index range scans
+    private String nameKey;
+    
     private String description;
     
     private boolean active;
@@ -36,4 +37,17 @@ public class EventTypeEntity {
     private Instant createdAt;
     
     private Instant updatedAt;
+    
+    @Version
+    private Long version;
+
+    /**
+     * Computes the name key stored alongside a name.
+     *
+     * @param name The name of the event type
+     * @return The lower-cased name, or null if there is no name
+     */
+    public static String nameKeyOf(String name) {
+        return name == null ? null : name.toLowerCase(Locale.ROOT);
+    }
 }
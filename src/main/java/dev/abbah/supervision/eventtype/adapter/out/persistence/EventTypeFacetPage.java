@@ -0,0 +1,29 @@
+package dev.abbah.supervision.eventtype.adapter.out.persistence;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Result document of a paging {@code $facet} stage: the requested slice and the total match count.
+ */
+@Data
+@NoArgsConstructor
+class EventTypeFacetPage {
+
+    private List<EventTypeEntity> content = new ArrayList<>();
+
+    private List<Total> total = new ArrayList<>();
+
+    long totalElements() {
+        return total.isEmpty() ? 0 : total.get(0).getTotal();
+    }
+
+    @Data
+    @NoArgsConstructor
+    static class Total {
+        private long total;
+    }
+}
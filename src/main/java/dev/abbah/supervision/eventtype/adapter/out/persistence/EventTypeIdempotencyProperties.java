@@ -0,0 +1,34 @@
+package dev.abbah.supervision.eventtype.adapter.out.persistence;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the idempotency keys accepted when creating event types.
+ */
+@Data
+@ConfigurationProperties(prefix = "event-type.idempotency")
+public class EventTypeIdempotencyProperties {
+
+    /**
+     * How long the outcome of a creation is replayed to requests with the same key.
+     */
+    private Duration ttl = Duration.ofHours(24);
+
+    /**
+     * How long a key stays claimed by a request that never completes, for instance because its node crashed.
+     */
+    private Duration pendingTimeout = Duration.ofMinutes(1);
+
+    /**
+     * Maximum number of recent keys answered from memory without reading MongoDB.
+     */
+    private long cacheMaximumSize = 10_000;
+
+    /**
+     * How long a recent key is answered from memory.
+     */
+    private Duration cacheTtl = Duration.ofMinutes(5);
+}
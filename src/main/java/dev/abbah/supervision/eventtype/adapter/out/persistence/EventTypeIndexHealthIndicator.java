@@ -0,0 +1,50 @@
+package dev.abbah.supervision.eventtype.adapter.out.persistence;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.ReactiveHealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+/**
+ * Reports the state of the indexes managed by {@link EventTypeIndexManager}.
+ * Down once a build failed; unknown while builds are still pending, since queries are served meanwhile, only slower.
+ */
+@Component
+@RequiredArgsConstructor
+public class EventTypeIndexHealthIndicator implements ReactiveHealthIndicator {
+
+    private final EventTypeIndexManager indexManager;
+
+    @Override
+    public Mono<Health> health() {
+        return Mono.fromSupplier(() -> {
+            Map<String, EventTypeIndexManager.IndexStatus> statuses = indexManager.statuses();
+
+            Status status;
+            if (hasState(statuses, EventTypeIndexManager.State.FAILED)) {
+                status = Status.DOWN;
+            } else if (hasState(statuses, EventTypeIndexManager.State.PENDING)
+                    || hasState(statuses, EventTypeIndexManager.State.BUILDING)) {
+                status = Status.UNKNOWN;
+            } else {
+                status = Status.UP;
+            }
+
+            Health.Builder health = Health.status(status);
+
+            statuses.forEach((index, indexStatus) -> health.withDetail(index, indexStatus.error() != null
+                    ? indexStatus.state() + ": " + indexStatus.error()
+                    : indexStatus.state().toString()));
+            return health.build();
+        });
+    }
+
+    private static boolean hasState(Map<String, EventTypeIndexManager.IndexStatus> statuses,
+                                    EventTypeIndexManager.State state) {
+        return statuses.values().stream().anyMatch(status -> status.state() == state);
+    }
+}
@@ -0,0 +1,165 @@
+package dev.abbah.supervision.eventtype.adapter.out.persistence;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Collectors;
+
+/**
+ * Builds the indexes declared by {@link EventTypeIndexes} that are missing, in the background once started,
+ * so that a long build on a large collection no longer holds up startup. Builds run one after the other;
+ * until they complete, queries still run, only without the missing indexes: see {@link #isReady}.
+ * The state of every index is reported by {@link EventTypeIndexHealthIndicator}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventTypeIndexManager implements SmartLifecycle {
+
+    private static final Duration MAX_RETRY_BACKOFF = Duration.ofMinutes(1);
+
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final Map<String, IndexStatus> statuses = pendingStatuses();
+    private volatile Disposable running;
+
+    /**
+     * State of a declared index.
+     */
+    enum State {
+        PENDING,
+        BUILDING,
+        READY,
+        FAILED
+    }
+
+    /**
+     * Status of a declared index.
+     *
+     * @param state The state of the index
+     * @param error Why the build failed, if it did
+     */
+    record IndexStatus(State state, String error) {
+    }
+
+    @Override
+    public void start() {
+        running = ensureIndexes()
+                .doOnError(ex -> log.error("Could not build the event type indexes", ex))
+                .onErrorComplete()
+                .subscribe();
+    }
+
+    @Override
+    public void stop() {
+        Disposable current = running;
+        if (current != null) {
+            current.dispose();
+            running = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running != null;
+    }
+
+    /**
+     * Builds the missing indexes of every collection.
+     *
+     * @return Completes once every index is either built or failed
+     */
+    Mono<Void> ensureIndexes() {
+        return Flux.fromIterable(EventTypeIndexes.REQUIRED.entrySet())
+                .concatMap(required -> ensureIndexes(required.getKey(), required.getValue()))
+                .then();
+    }
+
+    /**
+     * Returns the state of every declared index, keyed by collection and index name.
+     *
+     * @return The index statuses, sorted by key
+     */
+    Map<String, IndexStatus> statuses() {
+        return Collections.unmodifiableMap(statuses);
+    }
+
+    /**
+     * Tells whether an index is built. MongoDB rejects a query hinting at an index that does not exist
+     * or is still building, so queries only pin an index once it is.
+     *
+     * @param collection The collection of the index
+     * @param index The index definition
+     * @return true if the index is built
+     */
+    boolean isReady(String collection, IndexDefinition index) {
+        IndexStatus status = statuses.get(key(collection, index));
+        return status != null && status.state() == State.READY;
+    }
+
+    private Flux<Void> ensureIndexes(String collection, List<IndexDefinition> indexes) {
+        return retryingUnavailable(mongoTemplate.indexOps(collection).getIndexInfo()
+                        .map(IndexInfo::getName)
+                        .collect(Collectors.toSet()))
+                .flatMapMany(existing -> Flux.fromIterable(indexes)
+                        .concatMap(index -> ensureIndex(collection, index, existing)));
+    }
+
+    private Mono<Void> ensureIndex(String collection, IndexDefinition index, Set<String> existing) {
+        String key = key(collection, index);
+        if (existing.contains(EventTypeIndexes.nameOf(index))) {
+            statuses.put(key, new IndexStatus(State.READY, null));
+            return Mono.empty();
+        }
+
+        return Mono.defer(() -> {
+                    log.info("Building index {}", key);
+                    statuses.put(key, new IndexStatus(State.BUILDING, null));
+                    return retryingUnavailable(mongoTemplate.indexOps(collection).ensureIndex(index));
+                })
+                .doOnNext(name -> {
+                    statuses.put(key, new IndexStatus(State.READY, null));
+                    log.info("Built index {}", key);
+                })
+                // A conflicting definition will not fix itself: report it and carry on with the other indexes
+                .onErrorResume(ex -> {
+                    statuses.put(key, new IndexStatus(State.FAILED, ex.getMessage()));
+                    log.error("Could not build index {}", key, ex);
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    private static <T> Mono<T> retryingUnavailable(Mono<T> command) {
+        // Waits out an unreachable database rather than giving up on its indexes
+        return command.retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1))
+                .maxBackoff(MAX_RETRY_BACKOFF)
+                .filter(DataAccessResourceFailureException.class::isInstance));
+    }
+
+    private static Map<String, IndexStatus> pendingStatuses() {
+        Map<String, IndexStatus> pending = new ConcurrentSkipListMap<>();
+        EventTypeIndexes.REQUIRED.forEach((collection, indexes) -> indexes.forEach(index ->
+                pending.put(key(collection, index), new IndexStatus(State.PENDING, null))));
+        return pending;
+    }
+
+    private static String key(String collection, IndexDefinition index) {
+        return collection + "." + EventTypeIndexes.nameOf(index);
+    }
+}
@@ -0,0 +1,90 @@
+package dev.abbah.supervision.eventtype.adapter.out.persistence;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.TextIndexDefinition;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Indexes of the event type collections, declared once for {@link EventTypeIndexManager}
+ * and for the queries that pin one of them.
+ */
+final class EventTypeIndexes {
+
+    static final String EVENT_TYPES = "event_types";
+    static final String IDEMPOTENCY_KEYS = "event_type_idempotency_keys";
+
+    // Carries the name so that id and name listings are answered from the index alone
+    static final Index CREATED_AT_ID_NAME = new Index()
+            .on("createdAt", Sort.Direction.DESC)
+            .on("_id", Sort.Direction.DESC)
+            .on("name", Sort.Direction.ASC)
+            .named("createdAt_id_name");
+
+    static final Index UPDATED_AT_ID = new Index()
+            .on("updatedAt", Sort.Direction.ASC)
+            .on("_id", Sort.Direction.ASC)
+            .named("updatedAt_id");
+
+    // Ends with _id so that name listings, tiebreaker included, are read in order; also bounds name prefix filters
+    static final Index NAME_ID = new Index()
+            .on("name", Sort.Direction.ASC)
+            .on("_id", Sort.Direction.ASC)
+            .named("name_id");
+
+    // Equality on the flag first, then the listing order: filtered listings are read in order without sorting
+    static final Index ACTIVE_CREATED_AT_ID = new Index()
+            .on("active", Sort.Direction.ASC)
+            .on("createdAt", Sort.Direction.DESC)
+            .on("_id", Sort.Direction.DESC)
+            .named("active_createdAt_id");
+
+    // Lower-cased copy of the name, so that case-insensitive prefix filters remain index range scans
+    static final Index NAME_KEY = new Index()
+            .on("nameKey", Sort.Direction.ASC)
+            .named("nameKey");
+
+    // A collection holds a single text index: keep the name it was first created with from the entity annotations
+    static final TextIndexDefinition NAME_DESCRIPTION_TEXT = TextIndexDefinition.builder()
+            .onField("name")
+            .onField("description")
+            .named("EventTypeEntity_TextIndex")
+            .build();
+
+    // Removed by MongoDB's TTL monitor, which runs about once a minute, once this date has passed
+    static final Index EXPIRES_AT_TTL = new Index()
+            .on("expiresAt", Sort.Direction.ASC)
+            .expire(Duration.ZERO)
+            .named("expiresAt_ttl");
+
+    /**
+     * Every required index, by collection.
+     */
+    static final Map<String, List<IndexDefinition>> REQUIRED = Map.of(
+            EVENT_TYPES, List.of(
+                    CREATED_AT_ID_NAME,
+                    UPDATED_AT_ID,
+                    NAME_ID,
+                    ACTIVE_CREATED_AT_ID,
+                    NAME_KEY,
+                    NAME_DESCRIPTION_TEXT),
+            IDEMPOTENCY_KEYS, List.of(
+                    EXPIRES_AT_TTL));
+
+    private EventTypeIndexes() {
+    }
+
+    /**
+     * Returns the name of an index, as reported by MongoDB.
+     *
+     * @param index The index definition
+     * @return The index name
+     */
+    static String nameOf(IndexDefinition index) {
+        return index.getIndexOptions().getString("name");
+    }
+}
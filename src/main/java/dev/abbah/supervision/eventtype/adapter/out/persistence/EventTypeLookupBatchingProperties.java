@@ -0,0 +1,29 @@
+package dev.abbah.supervision.eventtype.adapter.out.persistence;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the collapsing and micro-batching of event type lookups by ID.
+ */
+@Data
+@ConfigurationProperties(prefix = "event-type.lookup-batching")
+public class EventTypeLookupBatchingProperties {
+
+    /**
+     * Whether concurrent lookups by ID are collapsed and batched into {@code $in} queries.
+     */
+    private boolean enabled = true;
+
+    /**
+     * How long the first lookup of a batch waits for others to join it; zero only collapses identical lookups.
+     */
+    private Duration window = Duration.ofMillis(2);
+
+    /**
+     * Number of distinct IDs at which a batch is sent without waiting for the window to elapse.
+     */
+    private int maxBatchSize = 100;
+}
@@ -0,0 +1,56 @@
+package dev.abbah.supervision.eventtype.adapter.out.persistence;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.aggregation.StringOperators;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+
+/**
+ * Fills in the name key of the event types written before it existed, once on start.
+ * Runs in the background with a single server-side update; until it completes, those event types
+ * are left out of listings filtered by name prefix.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventTypeNameKeyBackfill implements SmartLifecycle {
+
+    private final ReactiveMongoTemplate mongoTemplate;
+    private volatile Disposable running;
+
+    @Override
+    public void start() {
+        // $toLower only folds ASCII letters, where the application lower-cases with the root locale
+        AggregationUpdate update = AggregationUpdate.update()
+                .set("nameKey").toValue(StringOperators.valueOf("name").toLower());
+
+        running = mongoTemplate.updateMulti(Query.query(Criteria.where("nameKey").exists(false)), update, EventTypeEntity.class)
+                .subscribe(
+                        result -> {
+                            if (result.getModifiedCount() > 0) {
+                                log.info("Backfilled the name key of {} event types", result.getModifiedCount());
+                            }
+                        },
+                        ex -> log.warn("Could not backfill the name key of event types", ex));
+    }
+
+    @Override
+    public void stop() {
+        Disposable current = running;
+        if (current != null) {
+            current.dispose();
+            running = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running != null;
+    }
+}
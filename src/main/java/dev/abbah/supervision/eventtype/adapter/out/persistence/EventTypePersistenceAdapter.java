@@ -1,24 +1,60 @@
 package dev.abbah.supervision.eventtype.adapter.out.persistence;
 
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.bulk.BulkWriteUpsert;
 import dev.abbah.supervision.eventtype.adapter.out.persistence.mapper.EventTypePersistenceMapper;
 import dev.abbah.supervision.eventtype.application.port.out.EventTypeRepository;
+import dev.abbah.supervision.eventtype.domain.BatchWriteResult;
+import dev.abbah.supervision.eventtype.domain.BulkOperationResult;
+import dev.abbah.supervision.eventtype.domain.CatalogueVersion;
 import dev.abbah.supervision.eventtype.domain.EventType;
+import dev.abbah.supervision.eventtype.domain.EventTypeCursor;
+import dev.abbah.supervision.eventtype.domain.EventTypeField;
+import dev.abbah.supervision.eventtype.domain.EventTypeFilter;
+import dev.abbah.supervision.eventtype.domain.EventTypeListFilter;
+import dev.abbah.supervision.eventtype.domain.EventTypePage;
+import dev.abbah.supervision.eventtype.domain.EventTypeSortKey;
 import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.ReactiveBulkOperations;
 import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
 import org.springframework.data.mongodb.core.aggregation.Aggregation;
 import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.aggregation.ArithmeticOperators;
+import org.springframework.data.mongodb.core.aggregation.ComparisonOperators;
+import org.springframework.data.mongodb.core.aggregation.ConditionalOperators;
+import org.springframework.data.mongodb.core.aggregation.LiteralOperators;
 import org.springframework.data.mongodb.core.aggregation.TypedAggregation;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.TextCriteria;
 import org.springframework.data.mongodb.core.query.TextQuery;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Persistence adapter implementation for event type repository.
@@ -26,17 +62,90 @@ import java.util.List;
 @Component
 @RequiredArgsConstructor
 public class EventTypePersistenceAdapter implements EventTypeRepository {
+
+    private static final int STREAM_BATCH_SIZE = 500;
     
     private final EventTypeMongoRepository repository;
     private final EventTypePersistenceMapper mapper;
     private final ReactiveMongoTemplate mongoTemplate;
+    private final EventTypeCountProperties countProperties;
+    private final EventTypeBatchProperties batchProperties;
+    private final SearchTotalCache searchTotalCache;
+    private final CatalogueRevisionStore catalogueRevisions;
+    private final EventTypeIndexManager indexManager;
 
     @Override
     public Mono<EventType> save(EventType eventType) {
         return Mono.just(eventType)
                 .map(mapper::toEntity)
                 .flatMap(repository::save)
-                .map(mapper::toDomain);
+                .map(mapper::toDomain)
+                .flatMap(this::revised)
+                .doOnNext(saved -> searchTotalCache.clear());
+    }
+    
+    @Override
+    public Flux<BatchWriteResult> upsertAll(List<EventType> eventTypes) {
+        int chunkSize = Math.max(1, batchProperties.getChunkSize());
+        int chunks = (eventTypes.size() + chunkSize - 1) / chunkSize;
+
+        // Chunks are written one after the other to bound the size of each bulk write
+        return Flux.range(0, chunks)
+                .concatMap(chunk -> writeChunk(
+                        eventTypes,
+                        chunk * chunkSize,
+                        Math.min(eventTypes.size(), (chunk + 1) * chunkSize)))
+                .doFinally(signal -> searchTotalCache.clear());
+    }
+    
+    @Override
+    public Mono<EventType> update(EventType eventType) {
+        Query query = Query.query(Criteria.where("id").is(eventType.id()));
+        if (eventType.version() != null) {
+            query.addCriteria(versionIs(eventType.version()));
+        }
+
+        // createdAt is left untouched server-side, so no read is needed before writing
+        Update update = new Update()
+                .set("name", eventType.name())
+                .set("nameKey", EventTypeEntity.nameKeyOf(eventType.name()))
+                .set("description", eventType.description())
+                .set("active", eventType.active())
+                .set("updatedAt", eventType.updatedAt())
+                .inc("version", 1);
+
+        return mongoTemplate.findAndModify(query, update, FindAndModifyOptions.options().returnNew(true), EventTypeEntity.class)
+                .map(mapper::toDomain)
+                .flatMap(this::revised)
+                .switchIfEmpty(Mono.defer(() -> versionConflict(eventType)))
+                .doOnNext(updated -> searchTotalCache.clear());
+    }
+
+    private Mono<EventType> versionConflict(EventType eventType) {
+        if (eventType.version() == null) {
+            return Mono.empty();
+        }
+        // Only reached when nothing matched: tell a stale version apart from a missing event type
+        return repository.existsById(eventType.id())
+                .flatMap(exists -> exists
+                        ? Mono.error(new OptimisticLockingFailureException(
+                                "Event type " + eventType.id() + " is no longer at version " + eventType.version()))
+                        : Mono.empty());
+    }
+
+    private <T> Mono<T> revised(T written) {
+        // Advanced after the write, never before: a reader could otherwise pair the new revision with the old content
+        return catalogueRevisions.advance().thenReturn(written);
+    }
+
+    private static Criteria versionIs(long version) {
+        // Documents written before versioning have no version and count as version 0
+        if (version == 0) {
+            return new Criteria().orOperator(
+                    Criteria.where("version").is(0L),
+                    Criteria.where("version").exists(false));
+        }
+        return Criteria.where("version").is(version);
     }
     
     @Override
@@ -45,46 +154,175 @@ public class EventTypePersistenceAdapter implements EventTypeRepository {
                 .map(mapper::toDomain);
     }
     
+    @Override
+    public Flux<EventType> findAllById(Collection<String> ids) {
+        // A single $in query on _id, however many IDs are asked for
+        return repository.findAllById(ids)
+                .map(mapper::toDomain);
+    }
+    
     @Override
     public Mono<Void> deleteById(String id) {
-        return repository.deleteById(id);
+        return repository.deleteById(id)
+                .then(catalogueRevisions.advance())
+                .doOnSuccess(done -> searchTotalCache.clear());
+    }
+    
+    @Override
+    public Mono<BulkOperationResult> updateActive(EventTypeFilter filter, boolean active, Instant updatedAt) {
+        // Pipeline update: updatedAt and version only move on documents whose flag actually flips
+        AggregationUpdate update = AggregationUpdate.update()
+                .set("updatedAt").toValue(ConditionalOperators
+                        .when(ComparisonOperators.valueOf("active").equalToValue(active))
+                        .thenValueOf("updatedAt")
+                        .otherwise(updatedAt))
+                .set("version").toValue(ConditionalOperators
+                        .when(ComparisonOperators.valueOf("active").equalToValue(active))
+                        .thenValueOf("version")
+                        .otherwise(ArithmeticOperators.valueOf(ConditionalOperators.ifNull("version").then(0L)).add(1)))
+                .set("active").toValue(active);
+
+        return mongoTemplate.updateMulti(EventTypeQueries.matching(filter), update, EventTypeEntity.class)
+                .map(result -> new BulkOperationResult(result.getMatchedCount(), result.getModifiedCount()))
+                .flatMap(result -> result.modified() > 0 ? revised(result) : Mono.just(result))
+                .doOnSuccess(result -> searchTotalCache.clear());
+    }
+    
+    @Override
+    public Mono<BulkOperationResult> deleteAll(EventTypeFilter filter) {
+        return mongoTemplate.remove(EventTypeQueries.matching(filter), EventTypeEntity.class)
+                .map(result -> new BulkOperationResult(result.getDeletedCount(), result.getDeletedCount()))
+                .flatMap(result -> result.modified() > 0 ? revised(result) : Mono.just(result))
+                .doOnSuccess(result -> searchTotalCache.clear());
     }
     
     @Override
     public Flux<EventType> findAll(Pageable pageable) {
+        return findAll(EventTypeListFilter.NONE, pageable, null);
+    }
+
+    private Flux<EventType> findAll(EventTypeListFilter filter, Pageable pageable, Set<EventTypeField> fields) {
         // Create list of aggregation operations
         List<AggregationOperation> operations = new ArrayList<>();
+        addMatch(operations, filter);
 
-        // Add sort if present
-        if (pageable.getSort().isSorted()) {
-            operations.add(Aggregation.sort(pageable.getSort()));
-        } else {
-            // Default sort by createdAt desc
-            operations.add(Aggregation.sort(Sort.by(Sort.Direction.DESC, "createdAt")));
-        }
+        // Add sort, newest first by default
+        operations.add(indexedSort(pageable.getSort(), false));
 
         // Add pagination
         operations.add(Aggregation.skip((long) pageable.getPageNumber() * pageable.getPageSize()));
         operations.add(Aggregation.limit(pageable.getPageSize()));
+        addProjection(operations, fields);
 
         // Create aggregation
         TypedAggregation<EventTypeEntity> aggregation = Aggregation.newAggregation(
                 EventTypeEntity.class,
                 operations
-        );
+        ).withOptions(listingOptions(pageable.getSort(), filter));
 
         // Execute aggregation
         return mongoTemplate.aggregate(aggregation, EventTypeEntity.class)
                 .map(mapper::toDomain);
     }
     
+    @Override
+    public Flux<EventType> findAllAfter(EventTypeCursor after, int limit) {
+        List<AggregationOperation> operations = new ArrayList<>();
+
+        // Seek past the cursor instead of skipping, so the (createdAt, _id) index bounds the scan;
+        // the bound sits outside the $or, which would otherwise be planned as a union of scans to sort
+        if (after != null) {
+            operations.add(Aggregation.match(Criteria.where("createdAt").lte(after.timestamp()).orOperator(
+                    Criteria.where("createdAt").lt(after.timestamp()),
+                    Criteria.where("id").lt(after.id())
+            )));
+        }
+
+        operations.add(Aggregation.sort(Sort.by(Sort.Direction.DESC, "createdAt", "id")));
+        operations.add(Aggregation.limit(limit));
+
+        TypedAggregation<EventTypeEntity> aggregation = Aggregation.newAggregation(
+                EventTypeEntity.class,
+                operations
+        ).withOptions(hint(EventTypeIndexes.CREATED_AT_ID_NAME));
+
+        return mongoTemplate.aggregate(aggregation, EventTypeEntity.class)
+                .map(mapper::toDomain);
+    }
+    
+    @Override
+    public Flux<EventType> streamAll(EventTypeCursor after) {
+        Query query = new Query();
+
+        if (after != null) {
+            query.addCriteria(Criteria.where("updatedAt").gte(after.timestamp()).orOperator(
+                    Criteria.where("updatedAt").gt(after.timestamp()),
+                    Criteria.where("id").gt(after.id())
+            ));
+        }
+
+        // Walk the (updatedAt, _id) index; the driver only fetches the next batch once it is requested
+        query.with(Sort.by(Sort.Direction.ASC, "updatedAt", "id"));
+        if (indexManager.isReady(EventTypeIndexes.EVENT_TYPES, EventTypeIndexes.UPDATED_AT_ID)) {
+            query.withHint(EventTypeIndexes.UPDATED_AT_ID.getIndexKeys());
+        }
+        query.cursorBatchSize(STREAM_BATCH_SIZE);
+
+        return mongoTemplate.find(query, EventTypeEntity.class)
+                .map(mapper::toDomain);
+    }
+    
+    @Override
+    public Flux<EventType> streamNames() {
+        // Natural order: no sort to satisfy, and only the small part of each document the name index needs
+        Query query = new Query();
+        query.fields().include("name", "version");
+        query.cursorBatchSize(STREAM_BATCH_SIZE);
+
+        return mongoTemplate.find(query, EventTypeEntity.class)
+                .map(mapper::toDomain);
+    }
+    
     @Override
     public Mono<Long> count() {
         return repository.count();
     }
     
+    @Override
+    public Mono<CatalogueVersion> catalogueVersion() {
+        return catalogueRevisions.current();
+    }
+    
+    @Override
+    public Mono<EventTypePage> findPage(EventTypeListFilter filter, Pageable pageable, boolean exactTotal,
+                                        Set<EventTypeField> fields) {
+        if (!exactTotal && filter.isEmpty()
+                && countProperties.getList() == EventTypeCountProperties.ListCountStrategy.ESTIMATED) {
+            // The estimated count reads collection metadata instead of counting documents, so it ignores any filter
+            return findAll(filter, pageable, fields)
+                    .collectList()
+                    .zipWith(mongoTemplate.estimatedCount(EventTypeEntity.class))
+                    .map(tuple -> new EventTypePage(tuple.getT1(), tuple.getT2(), false));
+        }
+
+        List<AggregationOperation> operations = new ArrayList<>();
+        addMatch(operations, filter);
+
+        // Sort ahead of $facet: facet sub-pipelines cannot use indexes
+        operations.add(indexedSort(pageable.getSort(), false));
+
+        addProjection(operations, fields);
+        operations.add(pageFacet(pageable));
+
+        return aggregatePage(operations, listingOptions(pageable.getSort(), filter));
+    }
+    
     @Override
     public Flux<EventType> search(String query, Pageable pageable) {
+        return search(query, pageable, null);
+    }
+
+    private Flux<EventType> search(String query, Pageable pageable, Set<EventTypeField> fields) {
         // Create text criteria for search
         TextCriteria textCriteria = TextCriteria.forDefaultLanguage().matching(query);
 
@@ -94,17 +332,13 @@ public class EventTypePersistenceAdapter implements EventTypeRepository {
         // Add text match operation
         operations.add(Aggregation.match(textCriteria));
 
-        // Add sort if present
-        if (pageable.getSort().isSorted()) {
-            operations.add(Aggregation.sort(pageable.getSort()));
-        } else {
-            // Default sort by text score
-            operations.add(Aggregation.sort(Sort.by("score").descending()));
-        }
+        // Add sort, most relevant first by default
+        operations.add(indexedSort(pageable.getSort(), true));
 
         // Add pagination
         operations.add(Aggregation.skip((long) pageable.getPageNumber() * pageable.getPageSize()));
         operations.add(Aggregation.limit(pageable.getPageSize()));
+        addProjection(operations, fields);
 
         // Create aggregation
         TypedAggregation<EventTypeEntity> aggregation = Aggregation.newAggregation(
@@ -119,8 +353,244 @@ public class EventTypePersistenceAdapter implements EventTypeRepository {
     
     @Override
     public Mono<Long> countByQuery(String query) {
-        TextCriteria textCriteria = TextCriteria.forDefaultLanguage().matching(query);
-        Query textQuery = TextQuery.queryText(textCriteria).limit(0);
-        return mongoTemplate.count(textQuery, EventTypeEntity.class);
+        boolean cached = countProperties.getSearch() == EventTypeCountProperties.SearchCountStrategy.CACHED;
+
+        return Mono.defer(() -> {
+            Long cachedTotal = cached ? searchTotalCache.get(query) : null;
+            if (cachedTotal != null) {
+                return Mono.just(cachedTotal);
+            }
+
+            long generation = searchTotalCache.generation();
+            TextCriteria textCriteria = TextCriteria.forDefaultLanguage().matching(query);
+            Query textQuery = TextQuery.queryText(textCriteria).limit(0);
+            return mongoTemplate.count(textQuery, EventTypeEntity.class)
+                    .doOnNext(total -> {
+                        if (cached) {
+                            searchTotalCache.put(query, total, generation);
+                        }
+                    });
+        });
+    }
+    
+    @Override
+    public Mono<EventTypePage> searchPage(String query, Pageable pageable, boolean exactTotal, Set<EventTypeField> fields) {
+        boolean cached = !exactTotal && countProperties.getSearch() == EventTypeCountProperties.SearchCountStrategy.CACHED;
+
+        return Mono.defer(() -> {
+            Long cachedTotal = cached ? searchTotalCache.get(query) : null;
+            if (cachedTotal != null) {
+                // Reuse the total counted by an earlier page of the same query and fetch only the content
+                return search(query, pageable, fields)
+                        .collectList()
+                        .map(content -> new EventTypePage(content, cachedTotal, false));
+            }
+
+            long generation = searchTotalCache.generation();
+            return searchFacetPage(query, pageable, fields)
+                    .doOnNext(page -> {
+                        if (cached) {
+                            searchTotalCache.put(query, page.totalElements(), generation);
+                        }
+                    });
+        });
+    }
+
+    private Mono<EventTypePage> searchFacetPage(String query, Pageable pageable, Set<EventTypeField> fields) {
+        List<AggregationOperation> operations = new ArrayList<>();
+
+        // The text match runs once and feeds both the page and the total
+        operations.add(Aggregation.match(TextCriteria.forDefaultLanguage().matching(query)));
+
+        operations.add(indexedSort(pageable.getSort(), true));
+
+        addProjection(operations, fields);
+        operations.add(pageFacet(pageable));
+
+        // Not pinned: a $text match always goes through the text index
+        return aggregatePage(operations, Aggregation.newAggregationOptions().build());
+    }
+
+    private static AggregationOperation indexedSort(Sort sort, boolean search) {
+        EventTypeSortKey key = search ? EventTypeSortKey.RELEVANCE : EventTypeSortKey.CREATED_AT;
+        Sort.Direction direction = Sort.Direction.DESC;
+
+        if (sort.isSorted()) {
+            List<Sort.Order> orders = sort.toList();
+            // A trailing order on the ID is the tiebreaker added below anyway
+            boolean single = orders.size() == 1 || (orders.size() == 2 && orders.get(1).getProperty().equals("id"));
+            key = single
+                    ? EventTypeSortKey.fromPropertyName(orders.get(0).getProperty())
+                            .filter(candidate -> search || candidate != EventTypeSortKey.RELEVANCE)
+                            .orElse(null)
+                    : null;
+            if (key == null) {
+                // Anything else would be sorted in memory, and fail past the sort memory limit on a large collection
+                throw new IllegalArgumentException("Event types cannot be sorted by " + sort);
+            }
+            direction = orders.get(0).getDirection();
+        }
+
+        if (key == EventTypeSortKey.RELEVANCE) {
+            // The text score only exists after the $text match, and is always sorted best first
+            return context -> new Document("$sort", new Document("score", new Document("$meta", "textScore"))
+                    .append("_id", -1));
+        }
+        // Every key leads an index that ends with _id, which the tiebreaker follows in the same direction
+        return Aggregation.sort(Sort.by(new Sort.Order(direction, key.propertyName()), new Sort.Order(direction, "id")));
+    }
+
+    private AggregationOptions listingOptions(Sort sort, EventTypeListFilter filter) {
+        // Called after indexedSort, which already rejected any other order
+        EventTypeSortKey key = sort.isSorted()
+                ? EventTypeSortKey.fromPropertyName(sort.iterator().next().getProperty()).orElseThrow()
+                : EventTypeSortKey.CREATED_AT;
+        Index index = switch (key) {
+            case NAME -> EventTypeIndexes.NAME_ID;
+            case UPDATED_AT -> EventTypeIndexes.UPDATED_AT_ID;
+            default -> filter.active() != null
+                    ? EventTypeIndexes.ACTIVE_CREATED_AT_ID
+                    : EventTypeIndexes.CREATED_AT_ID_NAME;
+        };
+        // Pinned to the index giving the order: the planner could otherwise pick the index of a selective filter,
+        // then sort every match in memory
+        return hint(index);
+    }
+
+    private AggregationOptions hint(Index index) {
+        // Until the index is built, a hint would fail the query: leave the choice to the planner meanwhile
+        return indexManager.isReady(EventTypeIndexes.EVENT_TYPES, index)
+                ? Aggregation.newAggregationOptions().hint(index.getIndexKeys()).build()
+                : Aggregation.newAggregationOptions().build();
+    }
+
+    private static void addMatch(List<AggregationOperation> operations, EventTypeListFilter filter) {
+        // First stage, so that the filter and the sort that follows are both served from an index
+        EventTypeQueries.listing(filter).ifPresent(criteria -> operations.add(Aggregation.match(criteria)));
+    }
+
+    private static void addProjection(List<AggregationOperation> operations, Set<EventTypeField> fields) {
+        if (!EventTypeField.isPartial(fields)) {
+            return;
+        }
+        // Placed after the sort, so that an index on the sort and selected fields can cover the whole query
+        String[] included = Stream.concat(Stream.of(EventTypeField.ID), fields.stream())
+                .distinct()
+                .map(EventTypeField::propertyName)
+                .toArray(String[]::new);
+        operations.add(Aggregation.project(included));
+    }
+
+    private AggregationOperation pageFacet(Pageable pageable) {
+        return Aggregation.facet(
+                        Aggregation.skip(pageable.getOffset()),
+                        Aggregation.limit(pageable.getPageSize()))
+                .as("content")
+                .and(Aggregation.count().as("total"))
+                .as("total");
+    }
+
+    private Mono<EventTypePage> aggregatePage(List<AggregationOperation> operations, AggregationOptions options) {
+        TypedAggregation<EventTypeEntity> aggregation = Aggregation.newAggregation(
+                EventTypeEntity.class,
+                operations
+        ).withOptions(options);
+
+        return mongoTemplate.aggregate(aggregation, EventTypeFacetPage.class)
+                .next()
+                .map(facet -> new EventTypePage(
+                        facet.getContent().stream().map(mapper::toDomain).toList(),
+                        facet.totalElements(),
+                        true))
+                .defaultIfEmpty(new EventTypePage(List.of(), 0, true));
+    }
+
+    private Flux<BatchWriteResult> writeChunk(List<EventType> eventTypes, int from, int to) {
+        ReactiveBulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, EventTypeEntity.class);
+        List<PendingWrite> writes = new ArrayList<>(to - from);
+
+        for (int index = from; index < to; index++) {
+            EventType eventType = eventTypes.get(index);
+            if (eventType.id() == null) {
+                // Assign the ID up front so it can be reported without reading the inserted documents back
+                String id = new ObjectId().toHexString();
+                bulk.insert(mapper.toEntity(eventType.toBuilder().id(id).version(0L).build()));
+                writes.add(new PendingWrite(index, id, true));
+            } else {
+                bulk.upsert(Query.query(Criteria.where("id").is(eventType.id())), upsertOf(eventType));
+                writes.add(new PendingWrite(index, eventType.id(), false));
+            }
+        }
+
+        return bulk.execute()
+                .map(result -> chunkResults(writes, result, List.of()))
+                .onErrorResume(BulkOperationException.class,
+                        ex -> Mono.just(chunkResults(writes, ex.getResult(), ex.getErrors())))
+                .onErrorResume(ex -> bulkWriteFailure(ex) != null, ex -> {
+                    MongoBulkWriteException failure = bulkWriteFailure(ex);
+                    return Mono.just(chunkResults(writes, failure.getWriteResult(), failure.getWriteErrors()));
+                })
+                // Anything else means the chunk never reached the server as a whole
+                .onErrorResume(ex -> Mono.just(writes.stream()
+                        .map(write -> BatchWriteResult.failed(write.index(), write.id(), ex.getMessage()))
+                        .toList()))
+                .flatMap(results -> results.stream().anyMatch(result -> result.status() != BatchWriteResult.Status.FAILED)
+                        ? revised(results)
+                        : Mono.just(results))
+                .flatMapIterable(results -> results);
+    }
+
+    private static AggregationUpdate upsertOf(EventType eventType) {
+        // Pipeline update: an upserted document starts from the query fields alone, so a missing version means
+        // an insert, which starts at 0 like any other creation, while an update increments the stored version
+        return AggregationUpdate.update()
+                .set("name").toValue(literal(eventType.name()))
+                .set("nameKey").toValue(literal(EventTypeEntity.nameKeyOf(eventType.name())))
+                .set("description").toValue(literal(eventType.description()))
+                .set("active").toValue(eventType.active())
+                .set("updatedAt").toValue(eventType.updatedAt())
+                .set("createdAt").toValue(ConditionalOperators.ifNull("createdAt").then(eventType.createdAt()))
+                .set("version").toValue(ArithmeticOperators.valueOf(ConditionalOperators.ifNull("version").then(-1L)).add(1));
+    }
+
+    private static Object literal(String value) {
+        // A pipeline would read a leading '$' as a field path
+        return value == null ? null : LiteralOperators.valueOf(value).asLiteral();
+    }
+
+    private static List<BatchWriteResult> chunkResults(List<PendingWrite> writes, BulkWriteResult result,
+                                                       List<BulkWriteError> errors) {
+        // Bulk write indexes are relative to the chunk
+        Map<Integer, String> failures = new HashMap<>();
+        errors.forEach(error -> failures.put(error.getIndex(), error.getMessage()));
+        Set<Integer> upserted = result.getUpserts().stream()
+                .map(BulkWriteUpsert::getIndex)
+                .collect(Collectors.toSet());
+
+        List<BatchWriteResult> results = new ArrayList<>(writes.size());
+        for (int i = 0; i < writes.size(); i++) {
+            PendingWrite write = writes.get(i);
+            if (failures.containsKey(i)) {
+                results.add(BatchWriteResult.failed(write.index(), write.id(), failures.get(i)));
+            } else if (write.insert() || upserted.contains(i)) {
+                results.add(BatchWriteResult.created(write.index(), write.id()));
+            } else {
+                results.add(BatchWriteResult.updated(write.index(), write.id()));
+            }
+        }
+        return results;
+    }
+
+    private static MongoBulkWriteException bulkWriteFailure(Throwable ex) {
+        // Duplicate key errors are translated to DuplicateKeyException, which keeps the driver exception as cause
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof MongoBulkWriteException failure) {
+                return failure;
+            }
+        }
+        return null;
+    }
+
+    private record PendingWrite(int index, String id, boolean insert) {
     }
 }
@@ -0,0 +1,95 @@
+package dev.abbah.supervision.eventtype.adapter.out.persistence;
+
+import dev.abbah.supervision.eventtype.domain.EventTypeFilter;
+import dev.abbah.supervision.eventtype.domain.EventTypeListFilter;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.TextCriteria;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Translates domain filters into MongoDB queries on the event type collection.
+ */
+final class EventTypeQueries {
+
+    private static final Pattern REGEX_METACHARACTERS = Pattern.compile("[\\\\^$.|?*+()\\[\\]{}]");
+
+    private EventTypeQueries() {
+    }
+
+    /**
+     * Builds the query selecting the event types matching a filter.
+     *
+     * @param filter The filter to translate
+     * @return The query, matching every event type if the filter is empty
+     */
+    static Query matching(EventTypeFilter filter) {
+        Query query = new Query();
+
+        if (filter.ids() != null && !filter.ids().isEmpty()) {
+            query.addCriteria(Criteria.where("id").in(filter.ids()));
+        }
+        if (filter.namePrefix() != null && !filter.namePrefix().isEmpty()) {
+            // Anchored, case-sensitive regex so the name index can bound the scan
+            query.addCriteria(Criteria.where("name").regex("^" + escapeRegex(filter.namePrefix())));
+        }
+        if (filter.text() != null && !filter.text().isBlank()) {
+            query.addCriteria(TextCriteria.forDefaultLanguage().matching(filter.text()));
+        }
+        range("createdAt", filter.createdFrom(), filter.createdTo()).ifPresent(query::addCriteria);
+
+        return query;
+    }
+
+    /**
+     * Builds the criteria selecting the event types of a listing.
+     *
+     * @param filter The filter to translate
+     * @return The criteria, or empty if the filter lists every event type
+     */
+    static Optional<Criteria> listing(EventTypeListFilter filter) {
+        List<Criteria> criteria = new ArrayList<>();
+
+        if (filter.active() != null) {
+            criteria.add(Criteria.where("active").is(filter.active()));
+        }
+        if (filter.namePrefix() != null && !filter.namePrefix().isEmpty()) {
+            // Matched against the lower-cased name key: an anchored regex without the i flag keeps the index bounds
+            String prefix = EventTypeEntity.nameKeyOf(filter.namePrefix());
+            criteria.add(Criteria.where("nameKey").regex("^" + escapeRegex(prefix)));
+        }
+        range("createdAt", filter.createdFrom(), filter.createdTo()).ifPresent(criteria::add);
+        range("updatedAt", filter.updatedFrom(), filter.updatedTo()).ifPresent(criteria::add);
+
+        return switch (criteria.size()) {
+            case 0 -> Optional.empty();
+            case 1 -> Optional.of(criteria.get(0));
+            default -> Optional.of(new Criteria().andOperator(criteria));
+        };
+    }
+
+    private static Optional<Criteria> range(String key, Instant from, Instant to) {
+        if (from == null && to == null) {
+            return Optional.empty();
+        }
+        Criteria range = Criteria.where(key);
+        if (from != null) {
+            range.gte(from);
+        }
+        if (to != null) {
+            range.lt(to);
+        }
+        return Optional.of(range);
+    }
+
+    private static String escapeRegex(String literal) {
+        // Escaping each metacharacter keeps the pattern a plain prefix, unlike a \Q...\E quote
+        return REGEX_METACHARACTERS.matcher(literal).replaceAll(match -> Matcher.quoteReplacement("\\" + match.group()));
+    }
+}
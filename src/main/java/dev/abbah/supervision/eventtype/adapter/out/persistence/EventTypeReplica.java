@@ -0,0 +1,245 @@
+package dev.abbah.supervision.eventtype.adapter.out.persistence;
+
+import dev.abbah.supervision.eventtype.domain.CatalogueVersion;
+import dev.abbah.supervision.eventtype.domain.EventType;
+import dev.abbah.supervision.eventtype.domain.EventTypeCursor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory copy of the event type collection, indexed by ID, by creation date and by name.
+ * Reads are lock-free; writes are serialized and ignore changes older than the copy they would replace,
+ * so replaying part of the change stream over a fresh snapshot is harmless.
+ * A deletion made through this node leaves a tombstone, so that the insertions and updates the change stream
+ * delivers afterwards, older than the deletion, do not bring the event type back.
+ */
+class EventTypeReplica {
+
+    private static final Comparator<EventTypeCursor> NEWEST_FIRST = Comparator
+            .comparing(EventTypeCursor::timestamp)
+            .thenComparing(EventTypeCursor::id)
+            .reversed();
+
+    // Until the change stream delivers the deletion itself, but bounded in case it never does
+    private static final Duration TOMBSTONE_LIFETIME = Duration.ofMinutes(1);
+
+    private static final Comparator<NameKey> BY_NAME = Comparator
+            .comparing(NameKey::name)
+            .thenComparing(NameKey::id);
+
+    private final Map<String, EventType> byId = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<EventTypeCursor, EventType> byCreatedAt = new ConcurrentSkipListMap<>(NEWEST_FIRST);
+    private final ConcurrentSkipListMap<NameKey, EventType> byName = new ConcurrentSkipListMap<>(BY_NAME);
+    private final Map<String, Tombstone> tombstones = new HashMap<>();
+    private volatile Copy copy = new Copy();
+
+    private volatile boolean ready;
+
+    /**
+     * Tells whether the replica holds a complete snapshot and may serve reads.
+     *
+     * @return true once the snapshot is loaded
+     */
+    boolean isReady() {
+        return ready;
+    }
+
+    void markReady() {
+        ready = true;
+    }
+
+    /**
+     * Empties the replica and stops it from serving reads until the next snapshot is loaded.
+     */
+    synchronized void reset() {
+        ready = false;
+        byId.clear();
+        byCreatedAt.clear();
+        byName.clear();
+        tombstones.clear();
+        copy = new Copy();
+    }
+
+    /**
+     * Stores the state of an event type, unless the replica already holds a newer version of it,
+     * or this node deleted it after that version.
+     *
+     * @param eventType The event type as written in the database
+     */
+    synchronized void put(EventType eventType) {
+        EventType current = byId.get(eventType.id());
+        if ((current != null && isOlder(eventType, current)) || isDeleted(eventType)) {
+            return;
+        }
+
+        // Index the new state before unindexing the old one, so readers never miss the event type
+        byCreatedAt.put(createdKey(eventType), eventType);
+        byName.put(nameKey(eventType), eventType);
+        byId.put(eventType.id(), eventType);
+        if (current != null) {
+            if (!createdKey(current).equals(createdKey(eventType))) {
+                byCreatedAt.remove(createdKey(current));
+            }
+            if (!nameKey(current).equals(nameKey(eventType))) {
+                byName.remove(nameKey(current));
+            }
+        }
+        copy.applied().incrementAndGet();
+    }
+
+    /**
+     * Applies a deletion delivered by the change stream, which comes after every earlier change to the event type.
+     *
+     * @param id The ID of the deleted event type
+     */
+    synchronized void remove(String id) {
+        tombstones.remove(id);
+        unindex(id);
+    }
+
+    /**
+     * Applies a deletion made through this node, ahead of the change stream, which may still deliver older changes.
+     *
+     * @param id The ID of the deleted event type
+     */
+    synchronized void delete(String id) {
+        long now = System.nanoTime();
+        tombstones.values().removeIf(tombstone -> tombstone.isExpired(now));
+        EventType current = unindex(id);
+        tombstones.put(id, new Tombstone(current != null ? current.version() : null, now + TOMBSTONE_LIFETIME.toNanos()));
+    }
+
+    private EventType unindex(String id) {
+        EventType current = byId.remove(id);
+        if (current != null) {
+            byCreatedAt.remove(createdKey(current));
+            byName.remove(nameKey(current));
+            copy.applied().incrementAndGet();
+        }
+        return current;
+    }
+
+    Optional<EventType> findById(String id) {
+        return Optional.ofNullable(byId.get(id));
+    }
+
+    /**
+     * Reads a page in the requested order, if that order is one of the indexed ones.
+     *
+     * @param pageable The page to read; unsorted means newest first
+     * @return The page content, or empty if the sort is not served from memory
+     */
+    Optional<List<EventType>> page(Pageable pageable) {
+        Collection<EventType> ordered = ordered(pageable.getSort());
+        if (ordered == null) {
+            return Optional.empty();
+        }
+        return Optional.of(ordered.stream()
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .toList());
+    }
+
+    /**
+     * Reads the event types created just before a cursor, newest first.
+     *
+     * @param after The position to continue from, or null to start with the newest
+     * @param limit The maximum number of event types
+     * @return The event types following the cursor
+     */
+    List<EventType> after(EventTypeCursor after, int limit) {
+        Collection<EventType> following = after != null
+                ? byCreatedAt.tailMap(after, false).values()
+                : byCreatedAt.values();
+        return following.stream().limit(limit).toList();
+    }
+
+    long size() {
+        return byId.size();
+    }
+
+    /**
+     * Returns the version of this copy, counting the changes applied to it since it was last reset.
+     * Read before the content, it can only be older than it. The database is never behind this copy,
+     * so the version is just as safe for reads it leaves to the database.
+     * Nodes apply changes at their own pace, so no date is given: one node's clock says nothing of another's content.
+     *
+     * @return The version, never equal to one of another copy
+     */
+    CatalogueVersion version() {
+        Copy current = copy;
+        return new CatalogueVersion(current.epoch() + "." + current.applied().get(), null);
+    }
+
+    private Collection<EventType> ordered(Sort sort) {
+        if (sort.isUnsorted()) {
+            return byCreatedAt.values();
+        }
+
+        Sort.Order first = sort.iterator().next();
+        boolean singleOrTiebreak = sort.stream().count() == 1
+                || (sort.stream().count() == 2 && sort.getOrderFor("id") != null);
+        if (!singleOrTiebreak) {
+            return null;
+        }
+        if (first.getProperty().equals("createdAt")) {
+            return first.isDescending() ? byCreatedAt.values() : byCreatedAt.descendingMap().values();
+        }
+        if (first.getProperty().equals("name")) {
+            return first.isAscending() ? byName.values() : byName.descendingMap().values();
+        }
+        return null;
+    }
+
+    private boolean isDeleted(EventType candidate) {
+        Tombstone tombstone = tombstones.get(candidate.id());
+        if (tombstone == null || tombstone.isExpired(System.nanoTime())) {
+            return false;
+        }
+        // Without the deleted version, every change is assumed to predate the deletion
+        return tombstone.version() == null || candidate.version() == null || candidate.version() <= tombstone.version();
+    }
+
+    private static boolean isOlder(EventType candidate, EventType current) {
+        return candidate.version() != null && current.version() != null && candidate.version() < current.version();
+    }
+
+    private static EventTypeCursor createdKey(EventType eventType) {
+        return new EventTypeCursor(eventType.createdAt() != null ? eventType.createdAt() : Instant.EPOCH, eventType.id());
+    }
+
+    private static NameKey nameKey(EventType eventType) {
+        return new NameKey(eventType.name() != null ? eventType.name() : "", eventType.id());
+    }
+
+    private record NameKey(String name, String id) {
+    }
+
+    private record Tombstone(Long version, long expiresAt) {
+
+        boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+
+    // Identifies the content loaded since the last reset, with the number of changes applied to it
+    private record Copy(String epoch, AtomicLong applied) {
+
+        Copy() {
+            this(Long.toHexString(ThreadLocalRandom.current().nextLong()), new AtomicLong());
+        }
+    }
+}
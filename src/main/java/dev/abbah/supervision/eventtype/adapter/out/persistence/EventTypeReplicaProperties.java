@@ -0,0 +1,29 @@
+package dev.abbah.supervision.eventtype.adapter.out.persistence;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the in-memory replica of the event type collection, enabled by the {@code replica} profile.
+ */
+@Data
+@ConfigurationProperties(prefix = "event-type.replica")
+public class EventTypeReplicaProperties {
+
+    /**
+     * Key under which this replica stores its change stream resume token.
+     */
+    private String stateId = "event-types";
+
+    /**
+     * How often the latest resume token is written back to MongoDB.
+     */
+    private Duration tokenSaveInterval = Duration.ofSeconds(5);
+
+    /**
+     * Longest delay between attempts to reload the replica after the change stream failed.
+     */
+    private Duration maxRetryBackoff = Duration.ofSeconds(30);
+}
@@ -0,0 +1,139 @@
+package dev.abbah.supervision.eventtype.adapter.out.persistence;
+
+import dev.abbah.supervision.eventtype.adapter.out.persistence.mapper.EventTypePersistenceMapper;
+import dev.abbah.supervision.eventtype.domain.EventTypeChange;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Keeps the in-memory {@link EventTypeReplica} current.
+ * On start it fixes a change stream position, loads the whole collection, then applies the changes
+ * made since that position. The position is the resume token stored by the previous run when there
+ * is one, and the current cluster time otherwise. Any failure of the change stream triggers a full reload.
+ */
+@Slf4j
+@Component
+@Profile("replica")
+@RequiredArgsConstructor
+public class EventTypeReplicator implements SmartLifecycle {
+
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final EventTypePersistenceMapper mapper;
+    private final EventTypeChangeStream changeStream;
+    private final EventTypeReplicaProperties properties;
+
+    @Getter
+    private final EventTypeReplica replica = new EventTypeReplica();
+
+    private final AtomicReference<String> lastToken = new AtomicReference<>();
+    private final AtomicReference<String> savedToken = new AtomicReference<>();
+    private final AtomicBoolean firstAttempt = new AtomicBoolean(true);
+    private volatile Disposable running;
+
+    @Override
+    public void start() {
+        Disposable replication = Flux.defer(this::replicate)
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1))
+                        .maxBackoff(properties.getMaxRetryBackoff())
+                        .doBeforeRetry(signal -> {
+                            // Stale reads are worse than slower ones: fall back to MongoDB until reloaded
+                            replica.reset();
+                            log.warn("Event type replica lost its change stream, reloading", signal.failure());
+                        }))
+                .subscribe();
+
+        Disposable tokenSaver = Flux.interval(properties.getTokenSaveInterval())
+                .concatMap(tick -> saveToken().onErrorResume(ex -> {
+                    log.warn("Could not save the event type replica resume token", ex);
+                    return Mono.empty();
+                }))
+                .subscribe();
+
+        running = Disposables.composite(replication, tokenSaver);
+    }
+
+    @Override
+    public void stop() {
+        Disposable current = running;
+        if (current != null) {
+            current.dispose();
+            running = null;
+            saveToken().onErrorResume(ex -> Mono.empty()).block(Duration.ofSeconds(5));
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running != null;
+    }
+
+    private Flux<EventTypeChange> replicate() {
+        // The position is fixed before the snapshot is read, so no change can fall in between
+        return startPosition()
+                .flatMapMany(changes -> load().thenMany(changes))
+                .doOnNext(this::apply);
+    }
+
+    private Mono<Flux<EventTypeChange>> startPosition() {
+        Mono<String> storedToken = firstAttempt.getAndSet(false)
+                ? mongoTemplate.findById(properties.getStateId(), ReplicaStateEntity.class)
+                        .mapNotNull(ReplicaStateEntity::getResumeToken)
+                : Mono.empty();
+
+        return storedToken
+                .map(changeStream::changes)
+                .switchIfEmpty(Mono.defer(() -> changeStream.operationTime().map(changeStream::changesFrom)));
+    }
+
+    private Mono<Void> load() {
+        return Mono.fromRunnable(replica::reset)
+                .thenMany(mongoTemplate.findAll(EventTypeEntity.class))
+                .map(mapper::toDomain)
+                .doOnNext(replica::put)
+                .then(Mono.fromRunnable(() -> {
+                    replica.markReady();
+                    log.info("Event type replica loaded {} event types", replica.size());
+                }));
+    }
+
+    private void apply(EventTypeChange change) {
+        if (change.type() == EventTypeChange.Type.DELETED) {
+            replica.remove(change.id());
+        } else {
+            replica.put(change.eventType());
+        }
+        lastToken.set(change.resumeToken());
+    }
+
+    private Mono<Void> saveToken() {
+        String token = lastToken.get();
+        if (token == null || Objects.equals(token, savedToken.get())) {
+            return Mono.empty();
+        }
+
+        ReplicaStateEntity state = ReplicaStateEntity.builder()
+                .id(properties.getStateId())
+                .resumeToken(token)
+                .savedAt(Instant.now())
+                .build();
+        return mongoTemplate.save(state)
+                .doOnNext(saved -> savedToken.set(token))
+                .then();
+    }
+}
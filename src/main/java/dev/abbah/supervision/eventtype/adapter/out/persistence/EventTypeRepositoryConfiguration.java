@@ -0,0 +1,64 @@
+package dev.abbah.supervision.eventtype.adapter.out.persistence;
+
+import dev.abbah.supervision.eventtype.application.port.out.EventTypeRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * Assembles the event type repository exposed to the application layer,
+ * stacking the enabled decorators on top of the MongoDB persistence adapter.
+ */
+@Configuration
+public class EventTypeRepositoryConfiguration {
+
+    @Bean
+    public InMemoryEventTypeNameIndex eventTypeNameIndex(EventTypePersistenceAdapter persistenceAdapter,
+                                                         EventTypeAutocompleteProperties autocompleteProperties) {
+        return new InMemoryEventTypeNameIndex(persistenceAdapter, autocompleteProperties);
+    }
+
+    @Bean
+    public WriteBehindEventTypeBuffer eventTypeWriteBuffer(EventTypeRepository eventTypeRepository,
+                                                           EventTypeWriteBehindProperties writeBehindProperties,
+                                                           MeterRegistry meterRegistry) {
+        // Written through the decorated repository, so caches and the name index see background creations
+        return new WriteBehindEventTypeBuffer(eventTypeRepository, writeBehindProperties, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public EventTypeRepository eventTypeRepository(EventTypePersistenceAdapter persistenceAdapter,
+                                                   EventTypeCacheProperties cacheProperties,
+                                                   EventTypeSearchCacheProperties searchCacheProperties,
+                                                   EventTypeLookupBatchingProperties lookupBatchingProperties,
+                                                   EventTypeConcurrencyLimitProperties concurrencyLimitProperties,
+                                                   MeterRegistry meterRegistry,
+                                                   ObjectProvider<EventTypeReplicator> replicator,
+                                                   InMemoryEventTypeNameIndex nameIndex) {
+        EventTypeRepository repository = persistenceAdapter;
+        if (concurrencyLimitProperties.isEnabled()) {
+            // Innermost, so that only operations that actually reach MongoDB take a slot
+            repository = new ConcurrencyLimitingEventTypeRepository(repository, concurrencyLimitProperties, meterRegistry);
+        }
+        if (lookupBatchingProperties.isEnabled()) {
+            repository = new BatchingEventTypeRepository(repository, lookupBatchingProperties, meterRegistry);
+        }
+
+        EventTypeReplicator activeReplicator = replicator.getIfAvailable();
+        if (activeReplicator != null) {
+            // The replica already serves lookups by ID from memory, so the near-cache would only add staleness
+            repository = new ReplicatedEventTypeRepository(repository, activeReplicator.getReplica());
+        } else if (cacheProperties.isEnabled()) {
+            repository = new CachingEventTypeRepository(repository, cacheProperties, meterRegistry);
+        }
+        if (searchCacheProperties.isEnabled()) {
+            repository = new SearchCachingEventTypeRepository(repository, searchCacheProperties, meterRegistry);
+        }
+        repository = new NameIndexingEventTypeRepository(repository, nameIndex);
+
+        return repository;
+    }
+}
@@ -0,0 +1,31 @@
+package dev.abbah.supervision.eventtype.adapter.out.persistence;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the in-process cache of search result pages.
+ */
+@Data
+@ConfigurationProperties(prefix = "event-type.search-cache")
+public class EventTypeSearchCacheProperties {
+
+    /**
+     * Whether search result pages are served from the cache.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Approximate heap budget of the cached pages; the least valuable pages are evicted beyond it.
+     */
+    private DataSize maximumSize = DataSize.ofMegabytes(32);
+
+    /**
+     * How long a cached page may be served after it was loaded.
+     * Writes on this node invalidate immediately; this bounds how long writes made on other nodes go unseen.
+     */
+    private Duration ttl = Duration.ofSeconds(30);
+}
@@ -0,0 +1,44 @@
+package dev.abbah.supervision.eventtype.adapter.out.persistence;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the background creation of event types, buffered and written in batches.
+ */
+@Data
+@ConfigurationProperties(prefix = "event-type.write-behind")
+public class EventTypeWriteBehindProperties {
+
+    /**
+     * Whether clients may ask for background creation with {@code Prefer: respond-async}.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Number of queued event types at which a batch is written without waiting for the flush interval.
+     */
+    private int batchSize = 500;
+
+    /**
+     * How long the first event type of a batch waits for others before the batch is written.
+     */
+    private Duration flushInterval = Duration.ofMillis(100);
+
+    /**
+     * Maximum number of accepted event types not yet persisted; creations beyond it are rejected.
+     */
+    private int capacity = 10_000;
+
+    /**
+     * How long the outcome of a background creation can be queried once it is known.
+     */
+    private Duration statusRetention = Duration.ofMinutes(10);
+
+    /**
+     * How long shutdown waits for the buffered event types to be written.
+     */
+    private Duration shutdownTimeout = Duration.ofSeconds(30);
+}
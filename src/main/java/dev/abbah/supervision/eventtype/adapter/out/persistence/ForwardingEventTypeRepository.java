@@ -0,0 +1,123 @@
+package dev.abbah.supervision.eventtype.adapter.out.persistence;
+
+import dev.abbah.supervision.eventtype.application.port.out.EventTypeRepository;
+import dev.abbah.supervision.eventtype.domain.BatchWriteResult;
+import dev.abbah.supervision.eventtype.domain.BulkOperationResult;
+import dev.abbah.supervision.eventtype.domain.CatalogueVersion;
+import dev.abbah.supervision.eventtype.domain.EventType;
+import dev.abbah.supervision.eventtype.domain.EventTypeCursor;
+import dev.abbah.supervision.eventtype.domain.EventTypeField;
+import dev.abbah.supervision.eventtype.domain.EventTypeFilter;
+import dev.abbah.supervision.eventtype.domain.EventTypeListFilter;
+import dev.abbah.supervision.eventtype.domain.EventTypePage;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Base class for event type repository decorators.
+ * Forwards every operation to the delegate; subclasses override only what they enrich.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PROTECTED)
+public abstract class ForwardingEventTypeRepository implements EventTypeRepository {
+
+    private final EventTypeRepository delegate;
+
+    @Override
+    public Mono<EventType> save(EventType eventType) {
+        return delegate.save(eventType);
+    }
+
+    @Override
+    public Flux<BatchWriteResult> upsertAll(List<EventType> eventTypes) {
+        return delegate.upsertAll(eventTypes);
+    }
+
+    @Override
+    public Mono<EventType> update(EventType eventType) {
+        return delegate.update(eventType);
+    }
+
+    @Override
+    public Mono<EventType> findById(String id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public Flux<EventType> findAllById(Collection<String> ids) {
+        return delegate.findAllById(ids);
+    }
+
+    @Override
+    public Mono<Void> deleteById(String id) {
+        return delegate.deleteById(id);
+    }
+
+    @Override
+    public Mono<BulkOperationResult> updateActive(EventTypeFilter filter, boolean active, Instant updatedAt) {
+        return delegate.updateActive(filter, active, updatedAt);
+    }
+
+    @Override
+    public Mono<BulkOperationResult> deleteAll(EventTypeFilter filter) {
+        return delegate.deleteAll(filter);
+    }
+
+    @Override
+    public Flux<EventType> findAll(Pageable pageable) {
+        return delegate.findAll(pageable);
+    }
+
+    @Override
+    public Flux<EventType> findAllAfter(EventTypeCursor after, int limit) {
+        return delegate.findAllAfter(after, limit);
+    }
+
+    @Override
+    public Flux<EventType> streamAll(EventTypeCursor after) {
+        return delegate.streamAll(after);
+    }
+
+    @Override
+    public Flux<EventType> streamNames() {
+        return delegate.streamNames();
+    }
+
+    @Override
+    public Mono<Long> count() {
+        return delegate.count();
+    }
+
+    @Override
+    public Mono<CatalogueVersion> catalogueVersion() {
+        return delegate.catalogueVersion();
+    }
+
+    @Override
+    public Mono<EventTypePage> findPage(EventTypeListFilter filter, Pageable pageable, boolean exactTotal,
+                                        Set<EventTypeField> fields) {
+        return delegate.findPage(filter, pageable, exactTotal, fields);
+    }
+
+    @Override
+    public Flux<EventType> search(String query, Pageable pageable) {
+        return delegate.search(query, pageable);
+    }
+
+    @Override
+    public Mono<Long> countByQuery(String query) {
+        return delegate.countByQuery(query);
+    }
+
+    @Override
+    public Mono<EventTypePage> searchPage(String query, Pageable pageable, boolean exactTotal, Set<EventTypeField> fields) {
+        return delegate.searchPage(query, pageable, exactTotal, fields);
+    }
+}
@@ -0,0 +1,45 @@
+package dev.abbah.supervision.eventtype.adapter.out.persistence;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * MongoDB document recording the outcome of a creation made under an idempotency key.
+ * The created event type is copied flat rather than embedded, so that none of its indexes apply here.
+ * A record without an event type ID is still being processed.
+ */
+@Document(collection = "event_type_idempotency_keys")
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdempotencyKeyEntity {
+
+    @Id
+    private String key;
+
+    private String fingerprint;
+
+    // Removed by MongoDB's TTL monitor once this date has passed, see EventTypeIndexes.EXPIRES_AT_TTL
+    private Instant expiresAt;
+
+    private String eventTypeId;
+
+    private String name;
+
+    private String description;
+
+    private Boolean active;
+
+    private Instant createdAt;
+
+    private Instant updatedAt;
+
+    private Long version;
+}
@@ -0,0 +1,144 @@
+package dev.abbah.supervision.eventtype.adapter.out.persistence;
+
+import dev.abbah.supervision.eventtype.application.port.out.CapacityExceededException;
+import dev.abbah.supervision.eventtype.application.port.out.EventTypeNameIndex;
+import dev.abbah.supervision.eventtype.application.port.out.EventTypeRepository;
+import dev.abbah.supervision.eventtype.domain.CatalogueVersion;
+import dev.abbah.supervision.eventtype.domain.EventType;
+import dev.abbah.supervision.eventtype.domain.EventTypeSuggestion;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Name index kept in memory: updated by this node's writes as they complete,
+ * and rebuilt from the database periodically to pick up the writes of other nodes.
+ * Lookups wait a bounded time for the first build, then never leave the process.
+ * A rebuild reads only the ID, name and version of each event type, and is skipped while the catalogue
+ * revision is the one the index was last built from.
+ */
+@Slf4j
+public class InMemoryEventTypeNameIndex implements EventTypeNameIndex, SmartLifecycle {
+
+    private final EventTypeRepository source;
+    private final EventTypeAutocompleteProperties properties;
+    private final NamePrefixIndex index;
+    private final AtomicReference<String> indexedRevision = new AtomicReference<>();
+    private final Sinks.Empty<Void> loaded = Sinks.empty();
+    private final Sinks.Many<Boolean> resyncRequests = Sinks.many().multicast().directBestEffort();
+    private volatile boolean built;
+    private volatile Disposable running;
+
+    /**
+     * Creates an empty index.
+     *
+     * @param source The repository the index is rebuilt from, read directly rather than through any decorator
+     * @param properties The autocompletion settings
+     */
+    public InMemoryEventTypeNameIndex(EventTypeRepository source, EventTypeAutocompleteProperties properties) {
+        this.source = source;
+        this.properties = properties;
+        this.index = new NamePrefixIndex(properties.getMaxSuggestions());
+    }
+
+    @Override
+    public Flux<EventTypeSuggestion> suggest(String prefix, int limit) {
+        return Flux.defer(() -> {
+            // Once built, lookups skip the timer entirely
+            Mono<Void> firstBuild = built ? Mono.empty() : loaded.asMono()
+                    .timeout(properties.getLoadTimeout(), Mono.error(() -> new CapacityExceededException(
+                            "The event type name index is not loaded yet", properties.getLoadTimeout())));
+            return firstBuild
+                    .then(Mono.fromCallable(() -> index.suggest(prefix, limit)))
+                    .flatMapIterable(suggestions -> suggestions);
+        });
+    }
+
+    /**
+     * Indexes an event type written through this node.
+     *
+     * @param eventType The event type as written
+     */
+    public void put(EventType eventType) {
+        index.put(eventType);
+    }
+
+    /**
+     * Removes an event type deleted through this node.
+     *
+     * @param id The ID of the deleted event type
+     */
+    public void remove(String id) {
+        index.remove(id);
+    }
+
+    /**
+     * Asks for a rebuild from the database, when a write cannot tell which event types it changed.
+     */
+    public void requestResync() {
+        resyncRequests.tryEmitNext(Boolean.TRUE);
+    }
+
+    /**
+     * Rebuilds the whole index from the database, unless the catalogue revision did not change since the last rebuild.
+     *
+     * @return Completes once the rebuilt index serves lookups
+     */
+    public Mono<Void> resync() {
+        // Read before the snapshot: the revision only advances once a write completed, so it never covers a write
+        // the snapshot misses, and a write made while the snapshot is read triggers the next rebuild
+        return source.catalogueVersion()
+                .map(CatalogueVersion::revision)
+                .filter(revision -> !revision.equals(indexedRevision.get()))
+                .flatMap(revision -> Mono.fromRunnable(index::beginRebuild)
+                        .thenMany(source.streamNames())
+                        .collectList()
+                        // Building the tree is CPU-bound: keep it off the event loop
+                        .publishOn(Schedulers.boundedElastic())
+                        .doOnNext(snapshot -> {
+                            index.completeRebuild(snapshot);
+                            indexedRevision.set(revision);
+                            log.debug("Event type name index rebuilt with {} event types", index.size());
+                        })
+                        .doOnError(ex -> index.abortRebuild()))
+                .doOnSuccess(ignored -> {
+                    built = true;
+                    loaded.tryEmitEmpty();
+                })
+                .then();
+    }
+
+    @Override
+    public void start() {
+        Flux<Boolean> scheduled = Flux.interval(Duration.ZERO, properties.getResyncInterval()).map(tick -> Boolean.TRUE);
+        running = Flux.merge(scheduled, resyncRequests.asFlux())
+                // Requests made while a rebuild runs collapse into a single next rebuild
+                .onBackpressureLatest()
+                .concatMap(trigger -> resync().onErrorResume(ex -> {
+                    log.warn("Could not rebuild the event type name index", ex);
+                    return Mono.empty();
+                }), 1)
+                .subscribe();
+    }
+
+    @Override
+    public void stop() {
+        Disposable current = running;
+        if (current != null) {
+            current.dispose();
+            running = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running != null;
+    }
+}
@@ -0,0 +1,156 @@
+package dev.abbah.supervision.eventtype.adapter.out.persistence;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dev.abbah.supervision.eventtype.application.port.out.IdempotencyKeyConflictException;
+import dev.abbah.supervision.eventtype.application.port.out.IdempotencyKeyStore;
+import dev.abbah.supervision.eventtype.domain.EventType;
+import dev.abbah.supervision.eventtype.domain.IdempotentCreation;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency key store backed by a TTL-indexed MongoDB collection, fronted by an in-process cache.
+ * <p>
+ * The first request with a key claims it by inserting a pending record, runs the creation, then records the
+ * created event type. Requests with the same key on this node wait for that same outcome instead of claiming
+ * the key again; on other nodes, they find the record. A failed creation releases its key so it can be retried.
+ * Once the event type exists the key is never released: if its outcome cannot be recorded, the key stays
+ * claimed until the pending timeout, so retries meanwhile are told the request is in progress rather than
+ * creating the event type a second time.
+ */
+@Slf4j
+@Component
+public class MongoIdempotencyKeyStore implements IdempotencyKeyStore {
+
+    static final String CACHE_NAME = "eventTypeIdempotencyKeys";
+
+    private static final int RECORD_ATTEMPTS = 3;
+    private static final Duration RECORD_BACKOFF = Duration.ofMillis(50);
+
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final EventTypeIdempotencyProperties properties;
+    private final AsyncCache<String, Outcome> recent;
+
+    public MongoIdempotencyKeyStore(ReactiveMongoTemplate mongoTemplate,
+                                    EventTypeIdempotencyProperties properties,
+                                    MeterRegistry meterRegistry) {
+        this.mongoTemplate = mongoTemplate;
+        this.properties = properties;
+        this.recent = Caffeine.newBuilder()
+                .maximumSize(properties.getCacheMaximumSize())
+                .expireAfterWrite(min(properties.getCacheTtl(), properties.getTtl()))
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, recent.synchronous(), CACHE_NAME);
+    }
+
+    @Override
+    public Mono<IdempotentCreation> createOnce(String key, String fingerprint, Supplier<Mono<EventType>> creation) {
+        return Mono.defer(() -> {
+            AtomicBoolean claimed = new AtomicBoolean();
+            // Concurrent requests with the key share the future of the first one; failed futures are not kept
+            CompletableFuture<Outcome> outcome = recent.get(key, (k, executor) -> {
+                claimed.set(true);
+                return claimAndCreate(k, fingerprint, creation).toFuture();
+            });
+            return Mono.fromFuture(outcome, true)
+                    .map(result -> {
+                        if (!result.fingerprint().equals(fingerprint)) {
+                            throw new IdempotencyKeyConflictException(key, IdempotencyKeyConflictException.Reason.PAYLOAD_MISMATCH);
+                        }
+                        return new IdempotentCreation(result.eventType(), !claimed.get() || result.replayed());
+                    });
+        });
+    }
+
+    private Mono<Outcome> claimAndCreate(String key, String fingerprint, Supplier<Mono<EventType>> creation) {
+        IdempotencyKeyEntity pending = IdempotencyKeyEntity.builder()
+                .key(key)
+                .fingerprint(fingerprint)
+                .expiresAt(Instant.now().plus(properties.getPendingTimeout()))
+                .build();
+
+        // Only a duplicate on the claim itself means the key is taken, not one raised by the creation
+        return mongoTemplate.insert(pending)
+                .thenReturn(true)
+                .onErrorResume(DuplicateKeyException.class, ex -> Mono.just(false))
+                .flatMap(claimed -> claimed ? create(pending, creation) : replay(key));
+    }
+
+    private Mono<Outcome> create(IdempotencyKeyEntity pending, Supplier<Mono<EventType>> creation) {
+        // Only the creation itself releases the key on failure: past it, a release would let a retry create again
+        return Mono.defer(creation)
+                .onErrorResume(ex -> release(pending.getKey()).then(Mono.error(ex)))
+                .flatMap(created -> record(pending, created).thenReturn(new Outcome(pending.getFingerprint(), created, false)));
+    }
+
+    private Mono<Void> record(IdempotencyKeyEntity pending, EventType created) {
+        IdempotencyKeyEntity outcome = pending.toBuilder()
+                .expiresAt(Instant.now().plus(properties.getTtl()))
+                .eventTypeId(created.id())
+                .name(created.name())
+                .description(created.description())
+                .active(created.active())
+                .createdAt(created.createdAt())
+                .updatedAt(created.updatedAt())
+                .version(created.version())
+                .build();
+
+        return mongoTemplate.save(outcome)
+                .retryWhen(Retry.backoff(RECORD_ATTEMPTS, RECORD_BACKOFF))
+                // The event type was created all the same: answer with it, and leave the key claimed
+                .doOnError(ex -> log.error("Could not record the outcome of idempotency key {}", pending.getKey(), ex))
+                .onErrorComplete()
+                .then();
+    }
+
+    private Mono<Outcome> replay(String key) {
+        return mongoTemplate.findById(key, IdempotencyKeyEntity.class)
+                .filter(existing -> existing.getEventTypeId() != null)
+                .map(existing -> new Outcome(existing.getFingerprint(), toEventType(existing), true))
+                // Still pending, or expired and reaped in between: the first request has no outcome to replay yet
+                .switchIfEmpty(Mono.error(() -> new IdempotencyKeyConflictException(
+                        key, IdempotencyKeyConflictException.Reason.IN_PROGRESS)));
+    }
+
+    private Mono<Void> release(String key) {
+        Query pendingKey = Query.query(Criteria.where("_id").is(key).and("eventTypeId").exists(false));
+        return mongoTemplate.remove(pendingKey, IdempotencyKeyEntity.class)
+                .onErrorResume(ex -> Mono.empty())
+                .then();
+    }
+
+    private static EventType toEventType(IdempotencyKeyEntity entity) {
+        return EventType.builder()
+                .id(entity.getEventTypeId())
+                .name(entity.getName())
+                .description(entity.getDescription())
+                .active(Boolean.TRUE.equals(entity.getActive()))
+                .createdAt(entity.getCreatedAt())
+                .updatedAt(entity.getUpdatedAt())
+                .version(entity.getVersion())
+                .build();
+    }
+
+    private static Duration min(Duration first, Duration second) {
+        return first.compareTo(second) <= 0 ? first : second;
+    }
+
+    private record Outcome(String fingerprint, EventType eventType, boolean replayed) {
+    }
+}
@@ -0,0 +1,67 @@
+package dev.abbah.supervision.eventtype.adapter.out.persistence;
+
+import dev.abbah.supervision.eventtype.application.port.out.EventTypeRepository;
+import dev.abbah.supervision.eventtype.domain.BatchWriteResult;
+import dev.abbah.supervision.eventtype.domain.BulkOperationResult;
+import dev.abbah.supervision.eventtype.domain.EventType;
+import dev.abbah.supervision.eventtype.domain.EventTypeFilter;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Decorator keeping the autocompletion name index in step with the writes made through this node,
+ * so a created or renamed event type can be suggested as soon as the write completes.
+ */
+public class NameIndexingEventTypeRepository extends ForwardingEventTypeRepository {
+
+    private final InMemoryEventTypeNameIndex nameIndex;
+
+    public NameIndexingEventTypeRepository(EventTypeRepository delegate, InMemoryEventTypeNameIndex nameIndex) {
+        super(delegate);
+        this.nameIndex = nameIndex;
+    }
+
+    @Override
+    public Mono<EventType> save(EventType eventType) {
+        return super.save(eventType)
+                .doOnNext(nameIndex::put);
+    }
+
+    @Override
+    public Mono<EventType> update(EventType eventType) {
+        return super.update(eventType)
+                .doOnNext(nameIndex::put);
+    }
+
+    @Override
+    public Flux<BatchWriteResult> upsertAll(List<EventType> eventTypes) {
+        return super.upsertAll(eventTypes)
+                .doOnNext(result -> {
+                    if (result.status() != BatchWriteResult.Status.FAILED) {
+                        nameIndex.put(eventTypes.get(result.index()).toBuilder()
+                                .id(result.id())
+                                .version(null)
+                                .build());
+                    }
+                });
+    }
+
+    @Override
+    public Mono<Void> deleteById(String id) {
+        return super.deleteById(id)
+                .doOnSuccess(ignored -> nameIndex.remove(id));
+    }
+
+    @Override
+    public Mono<BulkOperationResult> deleteAll(EventTypeFilter filter) {
+        // The deleted IDs are not known here: rebuild rather than guess
+        return super.deleteAll(filter)
+                .doOnNext(result -> {
+                    if (result.modified() > 0) {
+                        nameIndex.requestResync();
+                    }
+                });
+    }
+}
@@ -0,0 +1,501 @@
+package dev.abbah.supervision.eventtype.adapter.out.persistence;
+
+import dev.abbah.supervision.eventtype.domain.EventType;
+import dev.abbah.supervision.eventtype.domain.EventTypeSuggestion;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Prefix index over event type names, answering "the best N names starting with ..." without scanning.
+ * Every name is indexed from its start and from the start of each of its words, in a radix tree whose
+ * nodes keep the best entries of their subtree: a lookup walks the prefix, then copies at most N entries.
+ * The tree is immutable. Writes copy the path they change and publish a new root, so reads never lock
+ * and never observe half of a rename. Writes are serialized, and ignore versions older than the indexed one.
+ */
+final class NamePrefixIndex {
+
+    // Whole-name matches first, then shorter names, so "order" ranks "Order" above "Order Cancelled"
+    private static final Comparator<Entry> RANKING = (left, right) -> {
+        int order = Integer.compare(left.rank(), right.rank());
+        if (order == 0) {
+            order = Integer.compare(left.name().length(), right.name().length());
+        }
+        if (order == 0) {
+            order = left.name().compareTo(right.name());
+        }
+        return order != 0 ? order : left.id().compareTo(right.id());
+    };
+
+    private static final int NAME_START = 0;
+    private static final int WORD_START = 1;
+
+    private static final Node[] NO_CHILDREN = new Node[0];
+
+    private final int capacity;
+    private volatile Tree tree;
+    private List<Consumer<Tree>> pendingWrites;
+
+    /**
+     * Creates an empty index.
+     *
+     * @param capacity The number of entries kept per prefix, hence the largest limit a lookup can honour
+     */
+    NamePrefixIndex(int capacity) {
+        this.capacity = capacity;
+        this.tree = new Tree(capacity, Node.empty(), new ConcurrentHashMap<>());
+    }
+
+    /**
+     * Finds the best event types whose name, or a word of it, starts with the given prefix, ignoring case.
+     *
+     * @param prefix The name prefix
+     * @param limit The maximum number of suggestions, capped to the capacity of the index
+     * @return The best matches, best first
+     */
+    List<EventTypeSuggestion> suggest(String prefix, int limit) {
+        List<Entry> matches = find(tree.root, normalize(prefix));
+        int count = Math.min(Math.min(limit, capacity), matches.size());
+        List<EventTypeSuggestion> suggestions = new ArrayList<>(count);
+        for (int index = 0; index < count; index++) {
+            Entry entry = matches.get(index);
+            suggestions.add(new EventTypeSuggestion(entry.id(), entry.name()));
+        }
+        return suggestions;
+    }
+
+    int size() {
+        return tree.byId.size();
+    }
+
+    /**
+     * Indexes the name of an event type, replacing its previous name.
+     *
+     * @param eventType The event type as written in the database
+     */
+    synchronized void put(EventType eventType) {
+        tree.put(eventType);
+        if (pendingWrites != null) {
+            pendingWrites.add(rebuilt -> rebuilt.put(eventType));
+        }
+    }
+
+    /**
+     * Removes an event type from the index.
+     *
+     * @param id The ID of the deleted event type
+     */
+    synchronized void remove(String id) {
+        tree.remove(id);
+        if (pendingWrites != null) {
+            pendingWrites.add(rebuilt -> rebuilt.remove(id));
+        }
+    }
+
+    /**
+     * Starts recording writes, to replay them over the snapshot passed to {@link #completeRebuild(Collection)}.
+     * Must be called before the snapshot is read.
+     */
+    synchronized void beginRebuild() {
+        pendingWrites = new ArrayList<>();
+    }
+
+    /**
+     * Replaces the whole index with the given snapshot, plus the writes made since {@link #beginRebuild()}.
+     *
+     * @param snapshot Every event type, as read from the database
+     */
+    void completeRebuild(Collection<EventType> snapshot) {
+        // Built outside the lock: writers only wait for the replay
+        Tree rebuilt = Tree.build(capacity, snapshot);
+        synchronized (this) {
+            if (pendingWrites != null) {
+                pendingWrites.forEach(write -> write.accept(rebuilt));
+            }
+            pendingWrites = null;
+            tree = rebuilt;
+        }
+    }
+
+    synchronized void abortRebuild() {
+        pendingWrites = null;
+    }
+
+    private static List<Entry> find(Node root, String prefix) {
+        Node node = root;
+        int offset = 0;
+        while (offset < prefix.length()) {
+            int index = childIndex(node.children, prefix.charAt(offset));
+            if (index < 0) {
+                return List.of();
+            }
+            Node child = node.children[index];
+            int remaining = prefix.length() - offset;
+            if (remaining <= child.edge.length()) {
+                // The prefix ends on this edge: the whole subtree matches
+                return child.edge.regionMatches(0, prefix, offset, remaining) ? child.top : List.of();
+            }
+            if (!prefix.regionMatches(offset, child.edge, 0, child.edge.length())) {
+                return List.of();
+            }
+            offset += child.edge.length();
+            node = child;
+        }
+        return node.top;
+    }
+
+    private static String normalize(String text) {
+        return text.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * The keys a name is found by: the name itself, then every suffix starting a word.
+     * Words start after a separator, and at an upper case letter following a lower case one.
+     */
+    private static List<Token> tokens(String id, String name) {
+        List<Token> tokens = new ArrayList<>();
+        tokens.add(new Token(normalize(name), new Entry(id, name, NAME_START)));
+        for (int index = 1; index < name.length(); index++) {
+            char previous = name.charAt(index - 1);
+            char current = name.charAt(index);
+            boolean wordStart = Character.isLetterOrDigit(current)
+                    && (!Character.isLetterOrDigit(previous)
+                    || Character.isLowerCase(previous) && Character.isUpperCase(current));
+            if (wordStart) {
+                tokens.add(new Token(normalize(name.substring(index)), new Entry(id, name, WORD_START)));
+            }
+        }
+        return tokens;
+    }
+
+    private static int childIndex(Node[] children, char first) {
+        int low = 0;
+        int high = children.length - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            char key = children[middle].edge.charAt(0);
+            if (key < first) {
+                low = middle + 1;
+            } else if (key > first) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private static int commonPrefixLength(String left, String right, int from) {
+        int length = Math.min(left.length(), right.length());
+        int index = from;
+        while (index < length && left.charAt(index) == right.charAt(index)) {
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * The IDs and names indexed, and the radix tree over them.
+     * Mutated only under the lock of the owning index, or before being published.
+     */
+    private static final class Tree {
+
+        private final int capacity;
+        private final Map<String, Indexed> byId;
+        private volatile Node root;
+
+        private Tree(int capacity, Node root, Map<String, Indexed> byId) {
+            this.capacity = capacity;
+            this.root = root;
+            this.byId = byId;
+        }
+
+        static Tree build(int capacity, Collection<EventType> eventTypes) {
+            Map<String, Indexed> byId = new ConcurrentHashMap<>();
+            List<Token> tokens = new ArrayList<>();
+            for (EventType eventType : eventTypes) {
+                Indexed current = byId.get(eventType.id());
+                if (eventType.name() == null || current != null && isOlder(eventType.version(), current.version())) {
+                    continue;
+                }
+                if (current != null) {
+                    tokens.removeIf(token -> token.entry().id().equals(eventType.id()));
+                }
+                byId.put(eventType.id(), new Indexed(eventType.name(), eventType.version()));
+                tokens.addAll(NamePrefixIndex.tokens(eventType.id(), eventType.name()));
+            }
+            tokens.sort(Comparator.comparing(Token::key));
+
+            Tree tree = new Tree(capacity, null, byId);
+            tree.root = tree.build("", tokens, 0, tokens.size(), 0);
+            return tree;
+        }
+
+        void put(EventType eventType) {
+            Indexed current = byId.get(eventType.id());
+            if (current != null && isOlder(eventType.version(), current.version())) {
+                return;
+            }
+            if (current != null && current.name().equals(eventType.name())) {
+                byId.put(eventType.id(), new Indexed(eventType.name(), eventType.version()));
+                return;
+            }
+
+            Node updated = root;
+            if (current != null) {
+                updated = removeTokens(updated, eventType.id(), current.name());
+            }
+            if (eventType.name() != null) {
+                for (Token token : tokens(eventType.id(), eventType.name())) {
+                    updated = insert(updated, token.key(), token.entry());
+                }
+                byId.put(eventType.id(), new Indexed(eventType.name(), eventType.version()));
+            } else {
+                byId.remove(eventType.id());
+            }
+            // A single publication, so readers see either the old name or the new one
+            root = updated;
+        }
+
+        void remove(String id) {
+            Indexed current = byId.remove(id);
+            if (current != null) {
+                root = removeTokens(root, id, current.name());
+            }
+        }
+
+        private Node removeTokens(Node node, String id, String name) {
+            Node updated = node;
+            for (Token token : tokens(id, name)) {
+                updated = remove(updated, token.key(), id, true);
+            }
+            return updated;
+        }
+
+        private Node build(String edge, List<Token> tokens, int from, int to, int depth) {
+            List<Entry> terminals = new ArrayList<>();
+            int index = from;
+            // Sorted keys: those ending at this node come first
+            while (index < to && tokens.get(index).key().length() == depth) {
+                terminals.add(tokens.get(index).entry());
+                index++;
+            }
+
+            List<Node> children = new ArrayList<>();
+            while (index < to) {
+                char first = tokens.get(index).key().charAt(depth);
+                int end = index + 1;
+                while (end < to && tokens.get(end).key().charAt(depth) == first) {
+                    end++;
+                }
+                String firstKey = tokens.get(index).key();
+                int common = commonPrefixLength(firstKey, tokens.get(end - 1).key(), depth + 1);
+                children.add(build(firstKey.substring(depth, common), tokens, index, end, common));
+                index = end;
+            }
+
+            Node[] childArray = children.toArray(NO_CHILDREN);
+            List<Entry> terminalList = List.copyOf(terminals);
+            return new Node(edge, childArray, terminalList, topOf(terminalList, childArray));
+        }
+
+        private Node insert(Node node, String rest, Entry entry) {
+            if (rest.isEmpty()) {
+                return new Node(node.edge, node.children, withEntry(node.terminals, entry), merge(node.top, entry));
+            }
+
+            Node[] children = node.children;
+            int index = childIndex(children, rest.charAt(0));
+            if (index < 0) {
+                Node leaf = new Node(rest, NO_CHILDREN, List.of(entry), List.of(entry));
+                return new Node(node.edge, insertChild(children, -index - 1, leaf), node.terminals, merge(node.top, entry));
+            }
+
+            Node child = children[index];
+            int common = commonPrefixLength(child.edge, rest, 1);
+            Node replacement;
+            if (common == child.edge.length()) {
+                replacement = insert(child, rest.substring(common), entry);
+            } else {
+                // Split the edge where the new key diverges from it
+                Node tail = new Node(child.edge.substring(common), child.children, child.terminals, child.top);
+                Node split = new Node(child.edge.substring(0, common), new Node[]{tail}, List.of(), child.top);
+                replacement = insert(split, rest.substring(common), entry);
+            }
+            return new Node(node.edge, replaceChild(children, index, replacement), node.terminals, merge(node.top, entry));
+        }
+
+        private Node remove(Node node, String rest, String id, boolean isRoot) {
+            Node[] children = node.children;
+            List<Entry> terminals = node.terminals;
+            if (rest.isEmpty()) {
+                terminals = withoutId(terminals, id);
+            } else {
+                int index = childIndex(children, rest.charAt(0));
+                if (index < 0 || !rest.startsWith(children[index].edge)) {
+                    return node;
+                }
+                Node child = children[index];
+                Node replacement = remove(child, rest.substring(child.edge.length()), id, false);
+                if (replacement == child) {
+                    return node;
+                }
+                children = replacement == null ? removeChild(children, index) : replaceChild(children, index, replacement);
+            }
+
+            if (!isRoot && terminals.isEmpty()) {
+                if (children.length == 0) {
+                    return null;
+                }
+                if (children.length == 1) {
+                    // Merge with the only child to keep the tree compressed
+                    Node only = children[0];
+                    return new Node(node.edge + only.edge, only.children, only.terminals, only.top);
+                }
+            }
+            List<Entry> top = containsId(node.top, id) ? topOf(terminals, children) : node.top;
+            return new Node(node.edge, children, terminals, top);
+        }
+
+        private List<Entry> merge(List<Entry> top, Entry entry) {
+            List<Entry> merged = new ArrayList<>(top.size() + 1);
+            for (Entry current : top) {
+                if (!current.id().equals(entry.id())) {
+                    merged.add(current);
+                } else if (RANKING.compare(current, entry) <= 0) {
+                    return top;
+                }
+            }
+            int position = -(Collections.binarySearch(merged, entry, RANKING) + 1);
+            if (position >= capacity) {
+                return top;
+            }
+            merged.add(position, entry);
+            if (merged.size() > capacity) {
+                merged.remove(merged.size() - 1);
+            }
+            return List.copyOf(merged);
+        }
+
+        private List<Entry> topOf(List<Entry> terminals, Node[] children) {
+            if (children.length == 0 && terminals.size() <= 1) {
+                return terminals;
+            }
+
+            // Merge the already ranked lists of the children rather than sorting their union
+            List<List<Entry>> sources = new ArrayList<>(children.length + 1);
+            if (!terminals.isEmpty()) {
+                List<Entry> ranked = new ArrayList<>(terminals);
+                ranked.sort(RANKING);
+                sources.add(ranked);
+            }
+            for (Node child : children) {
+                sources.add(child.top);
+            }
+
+            int[] positions = new int[sources.size()];
+            List<Entry> top = new ArrayList<>(capacity);
+            while (top.size() < capacity) {
+                int bestSource = -1;
+                Entry best = null;
+                for (int source = 0; source < sources.size(); source++) {
+                    List<Entry> entries = sources.get(source);
+                    if (positions[source] < entries.size()) {
+                        Entry candidate = entries.get(positions[source]);
+                        if (best == null || RANKING.compare(candidate, best) < 0) {
+                            best = candidate;
+                            bestSource = source;
+                        }
+                    }
+                }
+                if (best == null) {
+                    break;
+                }
+                positions[bestSource]++;
+                // An event type can match through several of its words: keep its best entry only
+                if (!containsId(top, best.id())) {
+                    top.add(best);
+                }
+            }
+            return List.copyOf(top);
+        }
+
+        private static boolean isOlder(Long candidate, Long current) {
+            return candidate != null && current != null && candidate < current;
+        }
+
+        private static List<Entry> withEntry(List<Entry> entries, Entry entry) {
+            List<Entry> updated = new ArrayList<>(withoutId(entries, entry.id()));
+            updated.add(entry);
+            return List.copyOf(updated);
+        }
+
+        private static List<Entry> withoutId(List<Entry> entries, String id) {
+            return containsId(entries, id)
+                    ? entries.stream().filter(entry -> !entry.id().equals(id)).toList()
+                    : entries;
+        }
+
+        private static boolean containsId(List<Entry> entries, String id) {
+            for (Entry entry : entries) {
+                if (entry.id().equals(id)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static Node[] insertChild(Node[] children, int index, Node child) {
+            Node[] updated = new Node[children.length + 1];
+            System.arraycopy(children, 0, updated, 0, index);
+            updated[index] = child;
+            System.arraycopy(children, index, updated, index + 1, children.length - index);
+            return updated;
+        }
+
+        private static Node[] replaceChild(Node[] children, int index, Node child) {
+            Node[] updated = Arrays.copyOf(children, children.length);
+            updated[index] = child;
+            return updated;
+        }
+
+        private static Node[] removeChild(Node[] children, int index) {
+            Node[] updated = new Node[children.length - 1];
+            System.arraycopy(children, 0, updated, 0, index);
+            System.arraycopy(children, index + 1, updated, index, children.length - index - 1);
+            return updated;
+        }
+    }
+
+    /**
+     * An immutable radix tree node.
+     *
+     * @param edge The label of the edge leading to this node
+     * @param children The child nodes, sorted by the first character of their edge
+     * @param terminals The entries whose key ends at this node
+     * @param top The best entries of the whole subtree, best first, one per event type
+     */
+    private record Node(String edge, Node[] children, List<Entry> terminals, List<Entry> top) {
+
+        static Node empty() {
+            return new Node("", NO_CHILDREN, List.of(), List.of());
+        }
+    }
+
+    private record Entry(String id, String name, int rank) {
+    }
+
+    private record Token(String key, Entry entry) {
+    }
+
+    private record Indexed(String name, Long version) {
+    }
+}
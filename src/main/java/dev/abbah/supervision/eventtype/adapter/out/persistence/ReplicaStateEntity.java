@@ -0,0 +1,28 @@
+package dev.abbah.supervision.eventtype.adapter.out.persistence;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * MongoDB document holding the change stream position reached by an in-memory replica.
+ */
+@Document(collection = "event_type_replica_state")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReplicaStateEntity {
+
+    @Id
+    private String id;
+
+    private String resumeToken;
+
+    private Instant savedAt;
+}
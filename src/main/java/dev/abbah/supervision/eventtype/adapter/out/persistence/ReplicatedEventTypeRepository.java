@@ -0,0 +1,136 @@
+package dev.abbah.supervision.eventtype.adapter.out.persistence;
+
+import dev.abbah.supervision.eventtype.application.port.out.EventTypeRepository;
+import dev.abbah.supervision.eventtype.domain.BatchWriteResult;
+import dev.abbah.supervision.eventtype.domain.CatalogueVersion;
+import dev.abbah.supervision.eventtype.domain.EventType;
+import dev.abbah.supervision.eventtype.domain.EventTypeCursor;
+import dev.abbah.supervision.eventtype.domain.EventTypeField;
+import dev.abbah.supervision.eventtype.domain.EventTypeListFilter;
+import dev.abbah.supervision.eventtype.domain.EventTypePage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Decorator serving lookups, listings and counts from the in-memory {@link EventTypeReplica}.
+ * Writes still go to the decorated repository. Saves, updates, deletions by ID and batch upserts are applied
+ * to the replica before they complete, so this node reads them back before the change stream delivers them.
+ * Updates and deletions by filter do not tell which event types they changed: they only reach the replica
+ * through the change stream, like the writes of other nodes.
+ * Until the replica is loaded, every read goes to the decorated repository.
+ */
+@Slf4j
+public class ReplicatedEventTypeRepository extends ForwardingEventTypeRepository {
+
+    private final EventTypeReplica replica;
+
+    ReplicatedEventTypeRepository(EventTypeRepository delegate, EventTypeReplica replica) {
+        super(delegate);
+        this.replica = replica;
+    }
+
+    @Override
+    public Mono<EventType> save(EventType eventType) {
+        return super.save(eventType)
+                .doOnNext(replica::put);
+    }
+
+    @Override
+    public Mono<EventType> update(EventType eventType) {
+        return super.update(eventType)
+                .doOnNext(replica::put);
+    }
+
+    @Override
+    public Flux<BatchWriteResult> upsertAll(List<EventType> eventTypes) {
+        return super.upsertAll(eventTypes)
+                .collectList()
+                .flatMapMany(results -> reload(results).thenMany(Flux.fromIterable(results)));
+    }
+
+    @Override
+    public Mono<Void> deleteById(String id) {
+        return super.deleteById(id)
+                .doOnSuccess(done -> replica.delete(id));
+    }
+
+    @Override
+    public Mono<EventType> findById(String id) {
+        return Mono.defer(() -> replica.isReady()
+                ? Mono.justOrEmpty(replica.findById(id))
+                : super.findById(id));
+    }
+
+    @Override
+    public Flux<EventType> findAllById(Collection<String> ids) {
+        return Flux.defer(() -> replica.isReady()
+                ? Flux.fromStream(ids.stream().map(replica::findById).flatMap(Optional::stream))
+                : super.findAllById(ids));
+    }
+
+    @Override
+    public Flux<EventType> findAll(Pageable pageable) {
+        return Flux.defer(() -> {
+            Optional<List<EventType>> page = replica.isReady() ? replica.page(pageable) : Optional.empty();
+            return page.map(Flux::fromIterable).orElseGet(() -> super.findAll(pageable));
+        });
+    }
+
+    @Override
+    public Flux<EventType> findAllAfter(EventTypeCursor after, int limit) {
+        return Flux.defer(() -> replica.isReady()
+                ? Flux.fromIterable(replica.after(after, limit))
+                : super.findAllAfter(after, limit));
+    }
+
+    @Override
+    public Mono<Long> count() {
+        return Mono.defer(() -> replica.isReady()
+                ? Mono.just(replica.size())
+                : super.count());
+    }
+
+    @Override
+    public Mono<CatalogueVersion> catalogueVersion() {
+        // Even while loading: the revision in the database may count changes this node has not applied yet
+        return Mono.fromSupplier(replica::version);
+    }
+
+    @Override
+    public Mono<EventTypePage> findPage(EventTypeListFilter filter, Pageable pageable, boolean exactTotal,
+                                        Set<EventTypeField> fields) {
+        return Mono.defer(() -> {
+            // Filtered listings are left to the indexes of the database, as the replica would have to scan everything
+            Optional<List<EventType>> page = replica.isReady() && filter.isEmpty()
+                    ? replica.page(pageable)
+                    : Optional.empty();
+            // The replica knows the exact total for free, and its whole event types cost nothing to return
+            return page.map(content -> Mono.just(new EventTypePage(content, replica.size(), true)))
+                    .orElseGet(() -> super.findPage(filter, pageable, exactTotal, fields));
+        });
+    }
+
+    private Mono<Void> reload(List<BatchWriteResult> results) {
+        // The results only carry IDs, so read back the stored state, creation date and version included
+        List<String> written = results.stream()
+                .filter(result -> result.status() != BatchWriteResult.Status.FAILED)
+                .map(BatchWriteResult::id)
+                .toList();
+        if (written.isEmpty()) {
+            return Mono.empty();
+        }
+        return super.findAllById(written)
+                .doOnNext(replica::put)
+                // The writes did happen: leave them to the change stream rather than failing the batch
+                .doOnError(ex -> log.warn("Could not apply {} upserted event types to the replica", written.size(), ex))
+                .onErrorComplete()
+                .then();
+    }
+}
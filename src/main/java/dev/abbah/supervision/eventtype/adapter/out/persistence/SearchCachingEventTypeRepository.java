@@ -0,0 +1,152 @@
+package dev.abbah.supervision.eventtype.adapter.out.persistence;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dev.abbah.supervision.eventtype.application.port.out.EventTypeRepository;
+import dev.abbah.supervision.eventtype.domain.BatchWriteResult;
+import dev.abbah.supervision.eventtype.domain.BulkOperationResult;
+import dev.abbah.supervision.eventtype.domain.EventType;
+import dev.abbah.supervision.eventtype.domain.EventTypeField;
+import dev.abbah.supervision.eventtype.domain.EventTypeFilter;
+import dev.abbah.supervision.eventtype.domain.EventTypePage;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Cache decorator for search result pages, keyed by normalized query, page, size and sort.
+ * Every key also carries the write generation it was read at: a write on this node bumps the
+ * generation, which makes all earlier entries unreachable at once, and the orphaned entries are
+ * then evicted by the size bound or the TTL.
+ */
+public class SearchCachingEventTypeRepository extends ForwardingEventTypeRepository {
+
+    static final String CACHE_NAME = "eventTypeSearchResults";
+
+    // Rough heap footprint of a cache entry and of a cached event type, excluding their strings
+    private static final int ENTRY_OVERHEAD = 160;
+    private static final int EVENT_TYPE_OVERHEAD = 200;
+
+    private final AsyncCache<SearchKey, EventTypePage> results;
+    private final AtomicLong generation = new AtomicLong();
+
+    public SearchCachingEventTypeRepository(EventTypeRepository delegate,
+                                            EventTypeSearchCacheProperties properties,
+                                            MeterRegistry meterRegistry) {
+        super(delegate);
+        this.results = Caffeine.newBuilder()
+                .maximumWeight(properties.getMaximumSize().toBytes())
+                .weigher(SearchCachingEventTypeRepository::weigh)
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, results, CACHE_NAME);
+        Gauge.builder("cache.hit.ratio", results, cache -> cache.synchronous().stats().hitRate())
+                .tag("cache", CACHE_NAME)
+                .description("Share of lookups served from the cache since startup")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Flux<EventType> search(String query, Pageable pageable) {
+        return cached(query, pageable, false, null, () -> super.search(query, pageable)
+                        .collectList()
+                        .map(content -> new EventTypePage(content, content.size(), false)))
+                .flatMapIterable(EventTypePage::content);
+    }
+
+    @Override
+    public Mono<EventTypePage> searchPage(String query, Pageable pageable, boolean exactTotal, Set<EventTypeField> fields) {
+        if (exactTotal) {
+            // The caller explicitly asked for a fresh count
+            return super.searchPage(query, pageable, true, fields);
+        }
+        return cached(query, pageable, true, fields, () -> super.searchPage(query, pageable, false, fields));
+    }
+
+    @Override
+    public Mono<EventType> save(EventType eventType) {
+        return invalidating(super.save(eventType));
+    }
+
+    @Override
+    public Mono<EventType> update(EventType eventType) {
+        return invalidating(super.update(eventType));
+    }
+
+    @Override
+    public Flux<BatchWriteResult> upsertAll(List<EventType> eventTypes) {
+        // Also on every result: it reaches the caller before the batch terminates
+        return super.upsertAll(eventTypes)
+                .doOnSubscribe(subscription -> invalidate())
+                .doOnNext(result -> invalidate())
+                .doOnTerminate(this::invalidate)
+                .doOnCancel(this::invalidate);
+    }
+
+    @Override
+    public Mono<Void> deleteById(String id) {
+        return invalidating(super.deleteById(id));
+    }
+
+    @Override
+    public Mono<BulkOperationResult> updateActive(EventTypeFilter filter, boolean active, Instant updatedAt) {
+        return invalidating(super.updateActive(filter, active, updatedAt));
+    }
+
+    @Override
+    public Mono<BulkOperationResult> deleteAll(EventTypeFilter filter) {
+        return invalidating(super.deleteAll(filter));
+    }
+
+    private Mono<EventTypePage> cached(String query, Pageable pageable, boolean withTotal, Set<EventTypeField> fields,
+                                       Supplier<Mono<EventTypePage>> loader) {
+        return Mono.defer(() -> {
+            SearchKey key = new SearchKey(generation.get(), SearchTotalCache.normalize(query),
+                    pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort(), withTotal,
+                    EventTypeField.isPartial(fields) ? Set.copyOf(fields) : EventTypeField.ALL);
+            // Concurrent misses on a key share one query, which a single caller cancelling must not abort
+            return Mono.fromFuture(results.get(key, (ignored, executor) -> loader.get().toFuture()), true);
+        });
+    }
+
+    private <T> Mono<T> invalidating(Mono<T> write) {
+        // Bump before and after the write, so a search running alongside it cannot be served afterwards; the second
+        // bump happens before the outcome reaches the caller, and on cancellation, after which the write may still apply
+        return write
+                .doOnSubscribe(subscription -> invalidate())
+                .doOnTerminate(this::invalidate)
+                .doOnCancel(this::invalidate);
+    }
+
+    private void invalidate() {
+        generation.incrementAndGet();
+    }
+
+    private static int weigh(SearchKey key, EventTypePage page) {
+        long bytes = ENTRY_OVERHEAD + 2L * key.query().length();
+        for (EventType eventType : page.content()) {
+            bytes += EVENT_TYPE_OVERHEAD + 2L * (length(eventType.id()) + length(eventType.name())
+                    + length(eventType.description()));
+        }
+        return (int) Math.min(bytes, Integer.MAX_VALUE);
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+
+    record SearchKey(long generation, String query, int page, int size, Sort sort, boolean withTotal,
+                     Set<EventTypeField> fields) {
+    }
+}
@@ -0,0 +1,76 @@
+package dev.abbah.supervision.eventtype.adapter.out.persistence;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Short-lived cache of search totals keyed by normalized query.
+ * Every write on this node clears it; a total computed while a write was in progress is discarded.
+ */
+@Component
+public class SearchTotalCache {
+
+    static final String CACHE_NAME = "eventTypeSearchTotals";
+
+    private final Cache<String, Long> totals;
+    private final AtomicLong generation = new AtomicLong();
+
+    public SearchTotalCache(EventTypeCountProperties properties, MeterRegistry meterRegistry) {
+        this.totals = Caffeine.newBuilder()
+                .maximumSize(properties.getSearchTotalMaximumSize())
+                .expireAfterWrite(properties.getSearchTotalTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, totals, CACHE_NAME);
+    }
+
+    /**
+     * Returns the current generation, to be passed back to {@link #put(String, long, long)}.
+     *
+     * @return The generation
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Looks up the cached total of a search query.
+     *
+     * @param query The search query
+     * @return The total, or null if unknown
+     */
+    public Long get(String query) {
+        return totals.getIfPresent(normalize(query));
+    }
+
+    /**
+     * Caches the total of a search query, unless the cache was cleared since the count started.
+     *
+     * @param query The search query
+     * @param total The total number of matches
+     * @param generation The generation read before the count started
+     */
+    public synchronized void put(String query, long total, long generation) {
+        if (this.generation.get() == generation) {
+            totals.put(normalize(query), total);
+        }
+    }
+
+    /**
+     * Drops all cached totals.
+     */
+    public synchronized void clear() {
+        generation.incrementAndGet();
+        totals.invalidateAll();
+    }
+
+    static String normalize(String query) {
+        return query.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,214 @@
+package dev.abbah.supervision.eventtype.adapter.out.persistence;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dev.abbah.supervision.eventtype.application.port.out.CapacityExceededException;
+import dev.abbah.supervision.eventtype.application.port.out.EventTypeRepository;
+import dev.abbah.supervision.eventtype.application.port.out.EventTypeWriteBuffer;
+import dev.abbah.supervision.eventtype.domain.BatchWriteResult;
+import dev.abbah.supervision.eventtype.domain.CreationStatus;
+import dev.abbah.supervision.eventtype.domain.EventType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.context.SmartLifecycle;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Write-behind buffer for event type creation.
+ * Accepted event types get their ID up front and are written with a single bulk write once the batch is full or
+ * the flush interval has elapsed. The buffer is bounded: past its capacity, creations are rejected until batches
+ * in flight are written. It is flushed on shutdown, after the web server stopped taking requests.
+ */
+@Slf4j
+public class WriteBehindEventTypeBuffer implements EventTypeWriteBuffer, SmartLifecycle {
+
+    static final String BUFFERED_METRIC = "event.type.write.behind.buffered";
+    static final String REJECTED_METRIC = "event.type.write.behind.rejected";
+    static final String FLUSH_SIZE_METRIC = "event.type.write.behind.flush.size";
+
+    private final EventTypeRepository repository;
+    private final EventTypeWriteBehindProperties properties;
+    private final Scheduler scheduler;
+    private final Map<String, CreationStatus> queued = new ConcurrentHashMap<>();
+    private final Cache<String, CreationStatus> outcomes;
+    private final Set<CompletableFuture<Void>> flushing = ConcurrentHashMap.newKeySet();
+    private final Counter rejected;
+    private final DistributionSummary flushSizes;
+
+    // Guarded by this: the batch still gathering event types, and how many accepted ones are not written yet
+    private List<EventType> gathering;
+    private int buffered;
+    private boolean running;
+
+    public WriteBehindEventTypeBuffer(EventTypeRepository repository,
+                                      EventTypeWriteBehindProperties properties,
+                                      MeterRegistry meterRegistry) {
+        this(repository, properties, meterRegistry, Schedulers.parallel());
+    }
+
+    WriteBehindEventTypeBuffer(EventTypeRepository repository,
+                               EventTypeWriteBehindProperties properties,
+                               MeterRegistry meterRegistry,
+                               Scheduler scheduler) {
+        this.repository = repository;
+        this.properties = properties;
+        this.scheduler = scheduler;
+        this.outcomes = Caffeine.newBuilder()
+                .expireAfterWrite(properties.getStatusRetention())
+                .build();
+        Gauge.builder(BUFFERED_METRIC, this, WriteBehindEventTypeBuffer::getBuffered)
+                .description("Event types accepted for background creation and not written yet")
+                .register(meterRegistry);
+        this.rejected = Counter.builder(REJECTED_METRIC)
+                .description("Background creations rejected because the buffer was full")
+                .register(meterRegistry);
+        this.flushSizes = DistributionSummary.builder(FLUSH_SIZE_METRIC)
+                .description("Event types written per background bulk write")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<EventType> enqueue(EventType eventType) {
+        if (!properties.isEnabled()) {
+            return Mono.empty();
+        }
+        return Mono.defer(() -> {
+            EventType assigned = eventType.toBuilder().id(new ObjectId().toHexString()).build();
+            List<EventType> full = null;
+            synchronized (this) {
+                if (!running || buffered >= properties.getCapacity()) {
+                    rejected.increment();
+                    return Mono.error(new CapacityExceededException(
+                            "The event type creation buffer is full, retry later", properties.getFlushInterval()));
+                }
+                buffered++;
+                queued.put(assigned.id(), CreationStatus.queued(assigned.id()));
+
+                if (gathering == null) {
+                    gathering = new ArrayList<>();
+                    List<EventType> scheduled = gathering;
+                    scheduler.schedule(() -> send(scheduled),
+                            properties.getFlushInterval().toNanos(), TimeUnit.NANOSECONDS);
+                }
+                gathering.add(assigned);
+                if (gathering.size() >= properties.getBatchSize()) {
+                    full = gathering;
+                    gathering = null;
+                }
+            }
+            if (full != null) {
+                write(full);
+            }
+            return Mono.just(assigned);
+        });
+    }
+
+    @Override
+    public Mono<CreationStatus> status(String id) {
+        return Mono.fromSupplier(() -> {
+            CreationStatus status = queued.get(id);
+            return status != null ? status : outcomes.getIfPresent(id);
+        });
+    }
+
+    private void send(List<EventType> batch) {
+        synchronized (this) {
+            // Already written because it filled up before the interval elapsed
+            if (gathering != batch) {
+                return;
+            }
+            gathering = null;
+        }
+        write(batch);
+    }
+
+    private void write(List<EventType> batch) {
+        flushSizes.record(batch.size());
+        CompletableFuture<Void> written = repository.upsertAll(batch)
+                .doOnNext(this::complete)
+                .onErrorResume(ex -> {
+                    log.warn("Could not write a batch of {} event types created in the background", batch.size(), ex);
+                    batch.forEach(eventType -> complete(BatchWriteResult.failed(0, eventType.id(), ex.getMessage())));
+                    return Mono.empty();
+                })
+                .doFinally(signal -> {
+                    synchronized (this) {
+                        buffered -= batch.size();
+                    }
+                })
+                .then()
+                .toFuture();
+        flushing.add(written);
+        written.whenComplete((ignored, ex) -> flushing.remove(written));
+    }
+
+    private void complete(BatchWriteResult result) {
+        CreationStatus status = result.status() == BatchWriteResult.Status.FAILED
+                ? CreationStatus.failed(result.id(), result.error())
+                : CreationStatus.persisted(result.id());
+        // Record the outcome before forgetting the queued state, so a status query always finds one of them
+        outcomes.put(result.id(), status);
+        queued.remove(result.id());
+    }
+
+    @Override
+    public synchronized void start() {
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        List<EventType> remaining;
+        synchronized (this) {
+            running = false;
+            remaining = gathering;
+            gathering = null;
+        }
+        if (remaining != null) {
+            write(remaining);
+        }
+
+        Duration timeout = properties.getShutdownTimeout();
+        try {
+            CompletableFuture.allOf(flushing.toArray(CompletableFuture[]::new))
+                    .get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException ex) {
+            log.warn("{} event types created in the background were not written within {}", getBuffered(), timeout);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (Exception ex) {
+            log.warn("Could not flush the event types created in the background", ex);
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        // Stop after the web server, so that no creation is accepted once the final flush has started
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    synchronized int getBuffered() {
+        return buffered;
+    }
+}
@@ -43,6 +43,7 @@ public interface EventTypePersistenceMapper {
      * @param eventType The domain event type
      * @return The persistence entity
      */
+    @Mapping(target = "nameKey", expression = "java(EventTypeEntity.nameKeyOf(eventType.name()))")
     EventTypeEntity toEntity(EventType eventType);
 
     /**
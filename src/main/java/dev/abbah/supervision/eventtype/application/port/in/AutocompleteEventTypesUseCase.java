@@ -0,0 +1,19 @@
+package dev.abbah.supervision.eventtype.application.port.in;
+
+import dev.abbah.supervision.eventtype.domain.EventTypeSuggestion;
+import reactor.core.publisher.Flux;
+
+/**
+ * Input port for completing event type names as they are typed.
+ */
+public interface AutocompleteEventTypesUseCase {
+    /**
+     * Suggests the event types whose name, or a word of it, starts with the given prefix, ignoring case.
+     * Names starting with the prefix come first, then shorter names.
+     *
+     * @param prefix The text typed so far
+     * @param limit The maximum number of suggestions
+     * @return The best suggestions, best first
+     */
+    Flux<EventTypeSuggestion> autocompleteEventTypes(String prefix, int limit);
+}
@@ -1,8 +1,14 @@
 package dev.abbah.supervision.eventtype.application.port.in;
 
+import dev.abbah.supervision.eventtype.domain.BatchWriteResult;
+import dev.abbah.supervision.eventtype.domain.CreationStatus;
 import dev.abbah.supervision.eventtype.domain.EventType;
+import dev.abbah.supervision.eventtype.domain.IdempotentCreation;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 /**
  * Input port for creating a new event type.
  */
@@ -14,4 +20,38 @@ public interface CreateEventTypeUseCase {
      * @return The created event type
      */
     Mono<EventType> createEventType(EventType eventType);
+
+    /**
+     * Creates a new event type at most once per idempotency key, so that a client can safely retry.
+     *
+     * @param eventType The event type to create
+     * @param idempotencyKey The key the client sends with every attempt of the same creation
+     * @return The event type created by the first attempt, and whether this attempt was a replay
+     */
+    Mono<IdempotentCreation> createEventType(EventType eventType, String idempotencyKey);
+
+    /**
+     * Creates event types in batch, upserting those that carry an ID.
+     *
+     * @param eventTypes The event types to create or upsert
+     * @return One result per event type, carrying its index in the batch
+     */
+    Flux<BatchWriteResult> createEventTypes(List<EventType> eventTypes);
+
+    /**
+     * Accepts an event type for creation in the background, batched with other creations.
+     *
+     * @param eventType The event type to create
+     * @return The event type with its assigned ID, before it is persisted; empty if background creation
+     *         is disabled, in which case the caller should create it right away
+     */
+    Mono<EventType> acceptEventType(EventType eventType);
+
+    /**
+     * Gets the progress of an event type accepted for creation in the background.
+     *
+     * @param id The ID assigned on acceptance
+     * @return The status, or empty if no event type with that ID was accepted or persisted
+     */
+    Mono<CreationStatus> getCreationStatus(String id);
 }
@@ -1,5 +1,7 @@
 package dev.abbah.supervision.eventtype.application.port.in;
 
+import dev.abbah.supervision.eventtype.domain.BulkOperationResult;
+import dev.abbah.supervision.eventtype.domain.EventTypeFilter;
 import reactor.core.publisher.Mono;
 
 /**
@@ -13,4 +15,12 @@ public interface DeleteEventTypeUseCase {
      * @return A Mono that completes when the deletion is done
      */
     Mono<Void> deleteEventType(String id);
+
+    /**
+     * Deletes every event type selected by a filter in a single server-side delete.
+     *
+     * @param filter The non-empty filter selecting the event types
+     * @return The matched and deleted counts
+     */
+    Mono<BulkOperationResult> deleteEventTypes(EventTypeFilter filter);
 }
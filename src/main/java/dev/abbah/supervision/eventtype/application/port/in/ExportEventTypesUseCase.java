@@ -0,0 +1,19 @@
+package dev.abbah.supervision.eventtype.application.port.in;
+
+import dev.abbah.supervision.eventtype.domain.EventType;
+import dev.abbah.supervision.eventtype.domain.EventTypeCursor;
+import reactor.core.publisher.Flux;
+
+/**
+ * Input port for exporting the whole event type catalogue as a stream.
+ */
+public interface ExportEventTypesUseCase {
+    /**
+     * Streams every event type ordered by last update, oldest first.
+     * Event types updated while the export runs are emitted again at the end of the stream.
+     *
+     * @param after The position of the last event type already received, or null to start from the beginning
+     * @return A flux of event types ordered by update date then ID
+     */
+    Flux<EventType> exportEventTypes(EventTypeCursor after);
+}
@@ -1,8 +1,11 @@
 package dev.abbah.supervision.eventtype.application.port.in;
 
 import dev.abbah.supervision.eventtype.domain.EventType;
+import dev.abbah.supervision.eventtype.domain.EventTypeLookup;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 /**
  * Input port for retrieving an event type.
  */
@@ -14,4 +17,12 @@ public interface GetEventTypeUseCase {
      * @return The event type, or empty if not found
      */
     Mono<EventType> getEventTypeById(String id);
+
+    /**
+     * Retrieves several event types by their IDs at once.
+     *
+     * @param ids The IDs of the event types to retrieve; repeated IDs are looked up once
+     * @return The event types found in request order, and the IDs that were not found
+     */
+    Mono<EventTypeLookup> getEventTypesByIds(List<String> ids);
 }
@@ -1,10 +1,18 @@
 package dev.abbah.supervision.eventtype.application.port.in;
 
+import dev.abbah.supervision.eventtype.domain.CatalogueVersion;
+import dev.abbah.supervision.eventtype.domain.CursorPage;
 import dev.abbah.supervision.eventtype.domain.EventType;
+import dev.abbah.supervision.eventtype.domain.EventTypeCursor;
+import dev.abbah.supervision.eventtype.domain.EventTypeField;
+import dev.abbah.supervision.eventtype.domain.EventTypeListFilter;
+import dev.abbah.supervision.eventtype.domain.EventTypePage;
 import org.springframework.data.domain.Pageable;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Set;
+
 /**
  * Input port for listing event types with pagination.
  */
@@ -17,10 +25,37 @@ public interface ListEventTypesUseCase {
      */
     Flux<EventType> listEventTypes(Pageable pageable);
     
+    /**
+     * Lists a page of event types together with the total count.
+     *
+     * @param filter The criteria the listed event types must match
+     * @param pageable Pagination information
+     * @param exactTotal Whether the total must be counted exactly rather than estimated
+     * @param fields The fields to read, or null for all of them
+     * @return The page content and total count
+     */
+    Mono<EventTypePage> listEventTypePage(EventTypeListFilter filter, Pageable pageable, boolean exactTotal, Set<EventTypeField> fields);
+    
+    /**
+     * Lists event types newest first using keyset pagination.
+     *
+     * @param after The cursor returned by the previous page, or null for the first page
+     * @param size The maximum number of event types in the page
+     * @return The page, with the cursor to resume from when more event types follow
+     */
+    Mono<CursorPage> listEventTypes(EventTypeCursor after, int size);
+    
     /**
      * Counts the total number of event types.
      *
      * @return The total count of event types
      */
     Mono<Long> countEventTypes();
+    
+    /**
+     * Gets the version of the whole catalogue, which changes whenever any event type is written.
+     *
+     * @return The catalogue version
+     */
+    Mono<CatalogueVersion> getCatalogueVersion();
 }
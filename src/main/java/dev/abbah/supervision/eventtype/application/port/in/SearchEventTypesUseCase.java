@@ -1,10 +1,14 @@
 package dev.abbah.supervision.eventtype.application.port.in;
 
 import dev.abbah.supervision.eventtype.domain.EventType;
+import dev.abbah.supervision.eventtype.domain.EventTypeField;
+import dev.abbah.supervision.eventtype.domain.EventTypePage;
 import org.springframework.data.domain.Pageable;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Set;
+
 /**
  * Input port for searching event types.
  */
@@ -18,6 +22,17 @@ public interface SearchEventTypesUseCase {
      */
     Flux<EventType> searchEventTypes(String query, Pageable pageable);
     
+    /**
+     * Searches for a page of event types together with the total match count.
+     *
+     * @param query The search query
+     * @param pageable Pagination information
+     * @param exactTotal Whether the total must be counted exactly rather than reused
+     * @param fields The fields to read, or null for all of them
+     * @return The page content and total match count
+     */
+    Mono<EventTypePage> searchEventTypePage(String query, Pageable pageable, boolean exactTotal, Set<EventTypeField> fields);
+    
     /**
      * Counts the total number of event types matching the search query.
      *
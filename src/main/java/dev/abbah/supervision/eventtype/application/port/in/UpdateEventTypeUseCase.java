@@ -1,6 +1,8 @@
 package dev.abbah.supervision.eventtype.application.port.in;
 
+import dev.abbah.supervision.eventtype.domain.BulkOperationResult;
 import dev.abbah.supervision.eventtype.domain.EventType;
+import dev.abbah.supervision.eventtype.domain.EventTypeFilter;
 import reactor.core.publisher.Mono;
 
 /**
@@ -9,10 +11,21 @@ import reactor.core.publisher.Mono;
 public interface UpdateEventTypeUseCase {
     /**
      * Updates an existing event type.
+     * When the event type data carries a version, the update only applies if it is still the stored version.
      *
      * @param id The ID of the event type to update
      * @param eventType The updated event type data
-     * @return The updated event type
+     * @return The updated event type, or an
+     *         {@link org.springframework.dao.OptimisticLockingFailureException} if the version does not match
      */
     Mono<EventType> updateEventType(String id, EventType eventType);
+
+    /**
+     * Activates or deactivates every event type selected by a filter in a single server-side update.
+     *
+     * @param filter The non-empty filter selecting the event types
+     * @param active The active flag to set
+     * @return The matched and modified counts
+     */
+    Mono<BulkOperationResult> updateEventTypesActive(EventTypeFilter filter, boolean active);
 }
@@ -0,0 +1,26 @@
+package dev.abbah.supervision.eventtype.application.port.in;
+
+import dev.abbah.supervision.eventtype.domain.EventTypeChange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Input port for subscribing to the changes made to the event type catalogue.
+ */
+public interface WatchEventTypesUseCase {
+    /**
+     * Streams the creations, updates and deletions of event types as they happen.
+     *
+     * @param since The resume token of the last change already received, or null to start from now
+     * @return A never-ending flux of changes
+     * @throws IllegalArgumentException if the resume token is malformed
+     */
+    Flux<EventTypeChange> watchEventTypes(String since);
+
+    /**
+     * Reads a resume token for the current position of the changes, to watch from before any change was received.
+     *
+     * @return A token accepted by {@link #watchEventTypes(String)}
+     */
+    Mono<String> currentChangePosition();
+}
@@ -0,0 +1,21 @@
+package dev.abbah.supervision.eventtype.application.port.out;
+
+import lombok.Getter;
+import org.springframework.dao.TransientDataAccessResourceException;
+
+import java.time.Duration;
+
+/**
+ * Signals that the repository shed an operation because the store is already handling as much as it can.
+ * The operation was not attempted and may be retried after {@link #getRetryAfter()}.
+ */
+@Getter
+public class CapacityExceededException extends TransientDataAccessResourceException {
+
+    private final Duration retryAfter;
+
+    public CapacityExceededException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+}
@@ -0,0 +1,26 @@
+package dev.abbah.supervision.eventtype.application.port.out;
+
+import dev.abbah.supervision.eventtype.domain.EventTypeChange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Output port for following the changes made to the event type catalogue.
+ */
+public interface EventTypeChangeFeed {
+    /**
+     * Streams the changes made after the given resume token.
+     *
+     * @param resumeToken The resume token of the last change already received, or null to start from now
+     * @return The changes, as they happen
+     * @throws IllegalArgumentException if the resume token is malformed
+     */
+    Flux<EventTypeChange> changes(String resumeToken);
+
+    /**
+     * Reads a resume token for the current position of the feed, which no change has carried yet.
+     *
+     * @return A token that {@link #changes(String)} resumes from, including the changes made from now on
+     */
+    Mono<String> currentPosition();
+}
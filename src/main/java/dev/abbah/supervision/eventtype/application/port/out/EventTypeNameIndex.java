@@ -0,0 +1,18 @@
+package dev.abbah.supervision.eventtype.application.port.out;
+
+import dev.abbah.supervision.eventtype.domain.EventTypeSuggestion;
+import reactor.core.publisher.Flux;
+
+/**
+ * Output port for looking event types up by name prefix.
+ */
+public interface EventTypeNameIndex {
+    /**
+     * Finds the event types whose name, or a word of it, starts with the given prefix, ignoring case.
+     *
+     * @param prefix The name prefix
+     * @param limit The maximum number of suggestions; implementations may return fewer
+     * @return The best matches, names starting with the prefix first, then shorter names
+     */
+    Flux<EventTypeSuggestion> suggest(String prefix, int limit);
+}
@@ -1,10 +1,23 @@
 package dev.abbah.supervision.eventtype.application.port.out;
 
+import dev.abbah.supervision.eventtype.domain.BatchWriteResult;
+import dev.abbah.supervision.eventtype.domain.BulkOperationResult;
+import dev.abbah.supervision.eventtype.domain.CatalogueVersion;
 import dev.abbah.supervision.eventtype.domain.EventType;
+import dev.abbah.supervision.eventtype.domain.EventTypeCursor;
+import dev.abbah.supervision.eventtype.domain.EventTypeField;
+import dev.abbah.supervision.eventtype.domain.EventTypeFilter;
+import dev.abbah.supervision.eventtype.domain.EventTypeListFilter;
+import dev.abbah.supervision.eventtype.domain.EventTypePage;
 import org.springframework.data.domain.Pageable;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
 /**
  * Output port for event type repository operations.
  */
@@ -17,6 +30,28 @@ public interface EventTypeRepository {
      */
     Mono<EventType> save(EventType eventType);
     
+    /**
+     * Writes a batch of event types with unordered bulk writes.
+     * Event types without an ID are inserted; the others are upserted by ID, keeping the stored creation date.
+     * Created event types start at version 0; updated ones get their stored version incremented.
+     * A failing item does not prevent the others from being written.
+     *
+     * @param eventTypes The event types to write
+     * @return One result per event type, carrying its index in the batch
+     */
+    Flux<BatchWriteResult> upsertAll(List<EventType> eventTypes);
+    
+    /**
+     * Updates the name, description, active flag and update date of a stored event type in one round trip,
+     * keeping its creation date and incrementing its version.
+     * When the event type carries a version, the update only applies if the stored version still matches.
+     *
+     * @param eventType The new state of the event type, identified by its ID
+     * @return The updated event type, empty if it does not exist, or an
+     *         {@link org.springframework.dao.OptimisticLockingFailureException} if the version does not match
+     */
+    Mono<EventType> update(EventType eventType);
+    
     /**
      * Finds an event type by its ID.
      *
@@ -25,6 +60,14 @@ public interface EventTypeRepository {
      */
     Mono<EventType> findById(String id);
     
+    /**
+     * Finds the event types with the given IDs in a single query.
+     *
+     * @param ids The IDs of the event types to find, without duplicates
+     * @return The event types found, in no particular order; IDs matching no event type are skipped
+     */
+    Flux<EventType> findAllById(Collection<String> ids);
+    
     /**
      * Deletes an event type by its ID.
      *
@@ -33,6 +76,25 @@ public interface EventTypeRepository {
      */
     Mono<Void> deleteById(String id);
     
+    /**
+     * Sets the active flag of every event type matching a filter with one update.
+     * Only the event types whose flag changes get the given update date.
+     *
+     * @param filter The filter selecting the event types
+     * @param active The active flag to set
+     * @param updatedAt The update date to record on changed event types
+     * @return The matched and modified counts
+     */
+    Mono<BulkOperationResult> updateActive(EventTypeFilter filter, boolean active, Instant updatedAt);
+    
+    /**
+     * Deletes every event type matching a filter with one delete.
+     *
+     * @param filter The filter selecting the event types
+     * @return The matched and deleted counts
+     */
+    Mono<BulkOperationResult> deleteAll(EventTypeFilter filter);
+    
     /**
      * Finds all event types with pagination.
      *
@@ -41,6 +103,32 @@ public interface EventTypeRepository {
      */
     Flux<EventType> findAll(Pageable pageable);
     
+    /**
+     * Finds event types positioned strictly after the given cursor, newest first.
+     *
+     * @param after The cursor of the last event type already returned, or null to start from the newest
+     * @param limit The maximum number of event types to return
+     * @return A flux of event types ordered by creation date then ID, descending
+     */
+    Flux<EventType> findAllAfter(EventTypeCursor after, int limit);
+    
+    /**
+     * Streams all event types positioned strictly after the given cursor, oldest update first.
+     * The stream is read lazily from a database cursor and honours backpressure.
+     *
+     * @param after The update date and ID of the last event type already streamed, or null to start from the beginning
+     * @return A flux of event types ordered by update date then ID, ascending
+     */
+    Flux<EventType> streamAll(EventTypeCursor after);
+    
+    /**
+     * Streams the ID, name and version of every event type, in no particular order.
+     * The stream is read lazily from a database cursor; the other fields are left empty.
+     *
+     * @return A flux of partially read event types
+     */
+    Flux<EventType> streamNames();
+    
     /**
      * Counts the total number of event types.
      *
@@ -48,6 +136,28 @@ public interface EventTypeRepository {
      */
     Mono<Long> count();
     
+    /**
+     * Reads the version of the whole catalogue without reading any event type.
+     * Its revision only changes once a write completed, so a revision read before some event types
+     * is never newer than what they reflect.
+     *
+     * @return The current revision and, when known, the date of the latest write
+     */
+    Mono<CatalogueVersion> catalogueVersion();
+    
+    /**
+     * Finds a page of event types together with the total count.
+     * An exact total is counted in the same query as the page; otherwise the configured, cheaper strategy applies.
+     * Only the selected fields need to be read; the others may be left empty in the returned event types.
+     *
+     * @param filter The criteria the listed event types must match; the total counts the matching ones only
+     * @param pageable Pagination information
+     * @param exactTotal Whether the total must be counted exactly
+     * @param fields The fields to read, or null for all of them
+     * @return The page content and total count
+     */
+    Mono<EventTypePage> findPage(EventTypeListFilter filter, Pageable pageable, boolean exactTotal, Set<EventTypeField> fields);
+    
     /**
      * Searches for event types by name or description with pagination.
      *
@@ -64,4 +174,17 @@ public interface EventTypeRepository {
      * @return The total count of matching event types
      */
     Mono<Long> countByQuery(String query);
+    
+    /**
+     * Searches for a page of event types together with the total match count.
+     * An exact total is counted in the same query as the page; otherwise the configured, cheaper strategy applies.
+     * Only the selected fields need to be read; the others may be left empty in the returned event types.
+     *
+     * @param query The search query
+     * @param pageable Pagination information
+     * @param exactTotal Whether the total must be counted exactly
+     * @param fields The fields to read, or null for all of them
+     * @return The page content and total match count
+     */
+    Mono<EventTypePage> searchPage(String query, Pageable pageable, boolean exactTotal, Set<EventTypeField> fields);
 }
@@ -0,0 +1,27 @@
+package dev.abbah.supervision.eventtype.application.port.out;
+
+import dev.abbah.supervision.eventtype.domain.CreationStatus;
+import dev.abbah.supervision.eventtype.domain.EventType;
+import reactor.core.publisher.Mono;
+
+/**
+ * Output port for creating event types in the background, written to the store in batches.
+ */
+public interface EventTypeWriteBuffer {
+    /**
+     * Queues an event type for creation, assigning its ID.
+     *
+     * @param eventType The event type to create, without an ID
+     * @return The event type with its assigned ID; empty if background creation is disabled,
+     *         or {@link CapacityExceededException} if the buffer is full
+     */
+    Mono<EventType> enqueue(EventType eventType);
+
+    /**
+     * Finds the progress of an event type queued through this buffer.
+     *
+     * @param id The assigned ID
+     * @return The status, or empty if the ID was not queued here or its outcome is no longer retained
+     */
+    Mono<CreationStatus> status(String id);
+}
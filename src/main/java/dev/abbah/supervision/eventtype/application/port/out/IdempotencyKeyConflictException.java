@@ -0,0 +1,25 @@
+package dev.abbah.supervision.eventtype.application.port.out;
+
+import lombok.Getter;
+
+/**
+ * Signals that a request cannot be answered under its idempotency key: either the key was first used for a
+ * different payload, or the request that first used it is still being processed elsewhere.
+ */
+@Getter
+public class IdempotencyKeyConflictException extends RuntimeException {
+
+    public enum Reason {
+        PAYLOAD_MISMATCH,
+        IN_PROGRESS
+    }
+
+    private final Reason reason;
+
+    public IdempotencyKeyConflictException(String key, Reason reason) {
+        super(reason == Reason.PAYLOAD_MISMATCH
+                ? "Idempotency key " + key + " was already used for a different request"
+                : "A request with idempotency key " + key + " is still being processed");
+        this.reason = reason;
+    }
+}
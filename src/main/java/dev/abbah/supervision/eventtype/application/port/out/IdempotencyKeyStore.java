@@ -0,0 +1,24 @@
+package dev.abbah.supervision.eventtype.application.port.out;
+
+import dev.abbah.supervision.eventtype.domain.EventType;
+import dev.abbah.supervision.eventtype.domain.IdempotentCreation;
+import reactor.core.publisher.Mono;
+
+import java.util.function.Supplier;
+
+/**
+ * Output port remembering the outcome of creations made under an idempotency key.
+ */
+public interface IdempotencyKeyStore {
+    /**
+     * Runs a creation at most once per key: duplicates within the retention window get the outcome of the first
+     * request, and concurrent duplicates wait for it instead of writing too.
+     *
+     * @param key The idempotency key chosen by the client
+     * @param fingerprint A digest of the request payload, telling a retry apart from a reuse of the key
+     * @param creation The creation to run if the key is new
+     * @return The outcome; {@link IdempotencyKeyConflictException} if the key was used for another payload
+     *         or its first request is still being processed elsewhere
+     */
+    Mono<IdempotentCreation> createOnce(String key, String fingerprint, Supplier<Mono<EventType>> creation);
+}
@@ -1,20 +1,47 @@
 package dev.abbah.supervision.eventtype.application.service;
 
+import dev.abbah.supervision.eventtype.application.port.in.AutocompleteEventTypesUseCase;
 import dev.abbah.supervision.eventtype.application.port.in.CreateEventTypeUseCase;
 import dev.abbah.supervision.eventtype.application.port.in.DeleteEventTypeUseCase;
+import dev.abbah.supervision.eventtype.application.port.in.ExportEventTypesUseCase;
 import dev.abbah.supervision.eventtype.application.port.in.GetEventTypeUseCase;
 import dev.abbah.supervision.eventtype.application.port.in.ListEventTypesUseCase;
 import dev.abbah.supervision.eventtype.application.port.in.SearchEventTypesUseCase;
 import dev.abbah.supervision.eventtype.application.port.in.UpdateEventTypeUseCase;
+import dev.abbah.supervision.eventtype.application.port.in.WatchEventTypesUseCase;
+import dev.abbah.supervision.eventtype.application.port.out.EventTypeChangeFeed;
+import dev.abbah.supervision.eventtype.application.port.out.EventTypeNameIndex;
 import dev.abbah.supervision.eventtype.application.port.out.EventTypeRepository;
+import dev.abbah.supervision.eventtype.application.port.out.EventTypeWriteBuffer;
+import dev.abbah.supervision.eventtype.application.port.out.IdempotencyKeyStore;
+import dev.abbah.supervision.eventtype.domain.BatchWriteResult;
+import dev.abbah.supervision.eventtype.domain.BulkOperationResult;
+import dev.abbah.supervision.eventtype.domain.CatalogueVersion;
+import dev.abbah.supervision.eventtype.domain.CreationStatus;
+import dev.abbah.supervision.eventtype.domain.CursorPage;
 import dev.abbah.supervision.eventtype.domain.EventType;
+import dev.abbah.supervision.eventtype.domain.EventTypeChange;
+import dev.abbah.supervision.eventtype.domain.EventTypeCursor;
+import dev.abbah.supervision.eventtype.domain.EventTypeField;
+import dev.abbah.supervision.eventtype.domain.EventTypeFilter;
+import dev.abbah.supervision.eventtype.domain.EventTypeListFilter;
+import dev.abbah.supervision.eventtype.domain.EventTypeLookup;
+import dev.abbah.supervision.eventtype.domain.EventTypePage;
+import dev.abbah.supervision.eventtype.domain.EventTypeSuggestion;
+import dev.abbah.supervision.eventtype.domain.IdempotentCreation;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
 
 /**
  * Service implementation for event type use cases.
@@ -24,9 +51,13 @@ import java.time.Instant;
 @Slf4j
 public class EventTypeService
     implements CreateEventTypeUseCase, GetEventTypeUseCase, UpdateEventTypeUseCase, DeleteEventTypeUseCase, ListEventTypesUseCase,
-    SearchEventTypesUseCase {
+    SearchEventTypesUseCase, ExportEventTypesUseCase, WatchEventTypesUseCase, AutocompleteEventTypesUseCase {
 
   private final EventTypeRepository eventTypeRepository;
+  private final EventTypeChangeFeed eventTypeChangeFeed;
+  private final EventTypeNameIndex eventTypeNameIndex;
+  private final EventTypeWriteBuffer eventTypeWriteBuffer;
+  private final IdempotencyKeyStore idempotencyKeyStore;
 
   @Override
   public Mono<EventType> createEventType(EventType eventType) {
@@ -43,27 +74,82 @@ public class EventTypeService
     return eventTypeRepository.save(newEventType);
   }
 
+  @Override
+  public Mono<IdempotentCreation> createEventType(EventType eventType, String idempotencyKey) {
+    return idempotencyKeyStore.createOnce(idempotencyKey, fingerprint(eventType), () -> createEventType(eventType));
+  }
+
+  @Override
+  public Flux<BatchWriteResult> createEventTypes(List<EventType> eventTypes) {
+    // Upserted event types keep their stored creation date
+    Instant now = Instant.now();
+    List<EventType> stamped = eventTypes.stream()
+                                        .map(eventType -> eventType.toBuilder()
+                                                                   .createdAt(now)
+                                                                   .updatedAt(now)
+                                                                   .build())
+                                        .toList();
+
+    return eventTypeRepository.upsertAll(stamped);
+  }
+
+  @Override
+  public Mono<EventType> acceptEventType(EventType eventType) {
+    Instant now = Instant.now();
+    EventType newEventType = eventType.toBuilder()
+                                      .id(null)
+                                      .createdAt(now)
+                                      .updatedAt(now)
+                                      .build();
+
+    return eventTypeWriteBuffer.enqueue(newEventType);
+  }
+
+  @Override
+  public Mono<CreationStatus> getCreationStatus(String id) {
+    // Outcomes are only retained for a while; past that, a stored event type is proof enough
+    return eventTypeWriteBuffer.status(id)
+                               .switchIfEmpty(Mono.defer(() -> eventTypeRepository.findById(id)
+                                                                                  .map(found -> CreationStatus.persisted(id))));
+  }
+
   @Override
   public Mono<EventType> getEventTypeById(String id) {
     return eventTypeRepository.findById(id);
   }
 
+  @Override
+  public Mono<EventTypeLookup> getEventTypesByIds(List<String> ids) {
+    List<String> distinctIds = ids.stream().distinct().toList();
+
+    // One query for the whole batch, then restore the request order
+    return eventTypeRepository.findAllById(distinctIds)
+                              .collectMap(EventType::id)
+                              .map(found -> new EventTypeLookup(
+                                  distinctIds.stream().filter(found::containsKey).map(found::get).toList(),
+                                  distinctIds.stream().filter(id -> !found.containsKey(id)).toList()));
+  }
+
   @Override
   public Mono<EventType> updateEventType(String id, EventType eventType) {
-    return eventTypeRepository.findById(id)
-                              .flatMap(existingEventType -> {
-                                // Create updated EventType
-                                EventType updatedEventType = EventType.builder()
-                                                                      .id(existingEventType.id())
-                                                                      .name(eventType.name())
-                                                                      .description(eventType.description())
-                                                                      .active(eventType.active())
-                                                                      .createdAt(existingEventType.createdAt())
-                                                                      .updatedAt(Instant.now())
-                                                                      .build();
-
-                                return eventTypeRepository.save(updatedEventType);
-                              });
+    // No pre-read: the repository keeps createdAt and checks the version server-side
+    EventType updatedEventType = eventType.toBuilder()
+                                          .id(id)
+                                          .createdAt(null)
+                                          .updatedAt(Instant.now())
+                                          .build();
+
+    return eventTypeRepository.update(updatedEventType);
+  }
+
+  @Override
+  public Mono<BulkOperationResult> updateEventTypesActive(EventTypeFilter filter, boolean active) {
+    if (filter.isEmpty()) {
+      return Mono.error(new IllegalArgumentException("A bulk update requires a non-empty filter"));
+    }
+
+    // One timestamp for the whole operation
+    return eventTypeRepository.updateActive(filter, active, Instant.now());
   }
 
   @Override
@@ -71,23 +157,98 @@ public class EventTypeService
     return eventTypeRepository.deleteById(id);
   }
 
+  @Override
+  public Mono<BulkOperationResult> deleteEventTypes(EventTypeFilter filter) {
+    if (filter.isEmpty()) {
+      return Mono.error(new IllegalArgumentException("A bulk delete requires a non-empty filter"));
+    }
+
+    return eventTypeRepository.deleteAll(filter);
+  }
+
   @Override
   public Flux<EventType> listEventTypes(Pageable pageable) {
     return eventTypeRepository.findAll(pageable);
   }
 
+  @Override
+  public Mono<EventTypePage> listEventTypePage(EventTypeListFilter filter, Pageable pageable, boolean exactTotal,
+                                               Set<EventTypeField> fields) {
+    return eventTypeRepository.findPage(filter, pageable, exactTotal, fields);
+  }
+
+  @Override
+  public Mono<CursorPage> listEventTypes(EventTypeCursor after, int size) {
+    // Fetch one extra row to learn whether a next page exists without counting
+    return eventTypeRepository.findAllAfter(after, size + 1)
+                              .collectList()
+                              .map(rows -> {
+                                if (rows.size() <= size) {
+                                  return new CursorPage(rows, null);
+                                }
+
+                                List<EventType> content = rows.subList(0, size);
+                                EventType last = content.get(content.size() - 1);
+                                return new CursorPage(content, new EventTypeCursor(last.createdAt(), last.id()));
+                              });
+  }
+
   @Override
   public Mono<Long> countEventTypes() {
     return eventTypeRepository.count();
   }
 
+  @Override
+  public Mono<CatalogueVersion> getCatalogueVersion() {
+    return eventTypeRepository.catalogueVersion();
+  }
+
   @Override
   public Flux<EventType> searchEventTypes(String query, Pageable pageable) {
     return eventTypeRepository.search(query, pageable);
   }
 
+  @Override
+  public Mono<EventTypePage> searchEventTypePage(String query, Pageable pageable, boolean exactTotal,
+                                                  Set<EventTypeField> fields) {
+    return eventTypeRepository.searchPage(query, pageable, exactTotal, fields);
+  }
+
   @Override
   public Mono<Long> countSearchResults(String query) {
     return eventTypeRepository.countByQuery(query);
   }
+
+  @Override
+  public Flux<EventType> exportEventTypes(EventTypeCursor after) {
+    return eventTypeRepository.streamAll(after);
+  }
+
+  @Override
+  public Flux<EventTypeChange> watchEventTypes(String since) {
+    return eventTypeChangeFeed.changes(since);
+  }
+
+  @Override
+  public Mono<String> currentChangePosition() {
+    return eventTypeChangeFeed.currentPosition();
+  }
+
+  @Override
+  public Flux<EventTypeSuggestion> autocompleteEventTypes(String prefix, int limit) {
+    return eventTypeNameIndex.suggest(prefix, limit);
+  }
+
+  private static String fingerprint(EventType eventType) {
+    // Only what the client sends counts: a retry carries the same properties, whatever the timestamps
+    String payload = eventType.name() + '\u0000' + eventType.description() + '\u0000' + eventType.active();
+    try {
+      byte[] digest = MessageDigest.getInstance("SHA-256")
+                                   .digest(payload.getBytes(StandardCharsets.UTF_8));
+      return HexFormat.of()
+                      .formatHex(digest);
+    } catch (NoSuchAlgorithmException ex) {
+      throw new IllegalStateException("SHA-256 is not available", ex);
+    }
+  }
 }
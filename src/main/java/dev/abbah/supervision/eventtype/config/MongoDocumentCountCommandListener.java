@@ -0,0 +1,55 @@
+package dev.abbah.supervision.eventtype.config;
+
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandSucceededEvent;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+
+/**
+ * Records how many documents each MongoDB command returned or affected, per command name.
+ * Complements the latency recorded by the {@code mongodb.driver.commands} timer.
+ */
+@RequiredArgsConstructor
+public class MongoDocumentCountCommandListener implements CommandListener {
+
+    static final String DOCUMENTS_SUMMARY = "mongodb.driver.commands.documents";
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        Long documents = documentsOf(event.getResponse());
+        if (documents == null) {
+            return;
+        }
+        DistributionSummary.builder(DOCUMENTS_SUMMARY)
+                .baseUnit("documents")
+                .tag("command", event.getCommandName())
+                .register(meterRegistry)
+                .record(documents);
+    }
+
+    /**
+     * Extracts the document count of a command reply: the batch size of cursor replies (find, aggregate, getMore)
+     * or {@code n} for counts and writes.
+     *
+     * @param response The command reply
+     * @return The number of documents, or null when the reply does not report one
+     */
+    static Long documentsOf(BsonDocument response) {
+        if (response == null) {
+            return null;
+        }
+        BsonDocument cursor = response.getDocument("cursor", null);
+        if (cursor != null) {
+            BsonArray batch = cursor.getArray("firstBatch", cursor.getArray("nextBatch", null));
+            return batch != null ? (long) batch.size() : null;
+        }
+        BsonValue n = response.get("n");
+        return n != null && n.isNumber() ? n.asNumber().longValue() : null;
+    }
+}
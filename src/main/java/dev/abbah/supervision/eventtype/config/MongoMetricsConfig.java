@@ -0,0 +1,18 @@
+package dev.abbah.supervision.eventtype.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration for MongoDB driver metrics beyond the command latency and pool metrics Spring Boot already binds.
+ */
+@Configuration
+public class MongoMetricsConfig {
+
+    @Bean
+    public MongoClientSettingsBuilderCustomizer mongoDocumentCountCustomizer(MeterRegistry meterRegistry) {
+        return settings -> settings.addCommandListener(new MongoDocumentCountCommandListener(meterRegistry));
+    }
+}
@@ -0,0 +1,99 @@
+package dev.abbah.supervision.eventtype.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Times every use case call and every call to the event type repository, tagged by operation and outcome.
+ * Reactive calls are timed from subscription to termination rather than while the publisher is assembled.
+ * Percentiles and histograms are configured under {@code management.metrics.distribution}.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class ReactiveMetricsAspect {
+
+    static final String USE_CASE_TIMER = "event.type.use.case";
+    static final String REPOSITORY_TIMER = "event.type.repository";
+
+    private final MeterRegistry meterRegistry;
+
+    @Around("execution(* dev.abbah.supervision.eventtype.application.port.in..*.*(..))")
+    public Object timeUseCase(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(USE_CASE_TIMER, joinPoint);
+    }
+
+    // Only the repository handed to the application, so decorators and the adapter underneath are not timed twice
+    @Around("execution(* dev.abbah.supervision.eventtype.application.port.out.EventTypeRepository.*(..))"
+            + " && bean(eventTypeRepository)")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(REPOSITORY_TIMER, joinPoint);
+    }
+
+    private Object time(String name, ProceedingJoinPoint joinPoint) throws Throwable {
+        String operation = joinPoint.getSignature().getName();
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } catch (Throwable ex) {
+            // Rejected before a publisher was even returned
+            sample.stop(timer(name, operation, SignalType.ON_ERROR, ex));
+            throw ex;
+        }
+
+        if (result instanceof Mono<?> mono) {
+            return time(name, operation, mono);
+        }
+        if (result instanceof Flux<?> flux) {
+            return time(name, operation, flux);
+        }
+        sample.stop(timer(name, operation, SignalType.ON_COMPLETE, null));
+        return result;
+    }
+
+    private <T> Mono<T> time(String name, String operation, Mono<T> mono) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            AtomicReference<Throwable> error = new AtomicReference<>();
+            return mono.doOnError(error::set)
+                    .doFinally(signal -> sample.stop(timer(name, operation, signal, error.get())));
+        });
+    }
+
+    private <T> Flux<T> time(String name, String operation, Flux<T> flux) {
+        return Flux.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            AtomicReference<Throwable> error = new AtomicReference<>();
+            return flux.doOnError(error::set)
+                    .doFinally(signal -> sample.stop(timer(name, operation, signal, error.get())));
+        });
+    }
+
+    private Timer timer(String name, String operation, SignalType signal, Throwable error) {
+        return Timer.builder(name)
+                .tag("operation", operation)
+                .tag("outcome", outcome(signal))
+                .tag("exception", error != null ? error.getClass().getSimpleName() : "none")
+                .register(meterRegistry);
+    }
+
+    private static String outcome(SignalType signal) {
+        return switch (signal) {
+            case ON_ERROR -> "error";
+            case CANCEL -> "cancelled";
+            default -> "success";
+        };
+    }
+}
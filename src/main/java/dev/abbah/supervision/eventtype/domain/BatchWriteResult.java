@@ -0,0 +1,35 @@
+package dev.abbah.supervision.eventtype.domain;
+
+/**
+ * Outcome of writing one event type as part of a batch.
+ *
+ * @param index The position of the event type in the submitted batch
+ * @param id The ID of the written event type
+ * @param status Whether the event type was created, updated, or could not be written
+ * @param error The reason the write failed, or null when it succeeded
+ */
+public record BatchWriteResult(
+    int index,
+    String id,
+    Status status,
+    String error
+) {
+
+    public enum Status {
+        CREATED,
+        UPDATED,
+        FAILED
+    }
+
+    public static BatchWriteResult created(int index, String id) {
+        return new BatchWriteResult(index, id, Status.CREATED, null);
+    }
+
+    public static BatchWriteResult updated(int index, String id) {
+        return new BatchWriteResult(index, id, Status.UPDATED, null);
+    }
+
+    public static BatchWriteResult failed(int index, String id, String error) {
+        return new BatchWriteResult(index, id, Status.FAILED, error);
+    }
+}
@@ -0,0 +1,13 @@
+package dev.abbah.supervision.eventtype.domain;
+
+/**
+ * Counts reported by a bulk operation on event types.
+ *
+ * @param matched The number of event types selected by the filter
+ * @param modified The number of event types actually changed or deleted
+ */
+public record BulkOperationResult(
+    long matched,
+    long modified
+) {
+}
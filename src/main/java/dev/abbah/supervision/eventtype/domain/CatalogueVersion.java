@@ -0,0 +1,18 @@
+package dev.abbah.supervision.eventtype.domain;
+
+import java.time.Instant;
+
+/**
+ * Version of the event type catalogue as a whole.
+ * The revision comes from a counter advanced once every write has been applied, so it never repeats:
+ * unlike the latest update date or the count, it moves on writes within the same millisecond,
+ * on writes from nodes whose clocks lag, and on a delete followed by an insert.
+ *
+ * @param revision Opaque revision, different whenever the content it was read with differs
+ * @param lastModified When the latest write was applied, or null when unknown
+ */
+public record CatalogueVersion(
+    String revision,
+    Instant lastModified
+) {
+}
@@ -0,0 +1,33 @@
+package dev.abbah.supervision.eventtype.domain;
+
+/**
+ * Progress of an event type accepted for creation in the background.
+ *
+ * @param id The ID assigned to the event type when it was accepted
+ * @param state Whether the event type is still queued, persisted, or could not be written
+ * @param error The reason the write failed, or null when it did not fail
+ */
+public record CreationStatus(
+    String id,
+    State state,
+    String error
+) {
+
+    public enum State {
+        QUEUED,
+        PERSISTED,
+        FAILED
+    }
+
+    public static CreationStatus queued(String id) {
+        return new CreationStatus(id, State.QUEUED, null);
+    }
+
+    public static CreationStatus persisted(String id) {
+        return new CreationStatus(id, State.PERSISTED, null);
+    }
+
+    public static CreationStatus failed(String id, String error) {
+        return new CreationStatus(id, State.FAILED, error);
+    }
+}
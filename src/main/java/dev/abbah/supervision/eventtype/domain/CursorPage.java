@@ -0,0 +1,24 @@
+package dev.abbah.supervision.eventtype.domain;
+
+import java.util.List;
+
+/**
+ * A page of event types obtained through keyset pagination.
+ *
+ * @param content The event types in this page
+ * @param nextCursor The cursor to resume from, or null when this is the last page
+ */
+public record CursorPage(
+    List<EventType> content,
+    EventTypeCursor nextCursor
+) {
+
+    /**
+     * Tells whether more event types follow this page.
+     *
+     * @return true if a next page exists
+     */
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -15,6 +15,7 @@ public record EventType(
     String description,
     boolean active,
     Instant createdAt,
-    Instant updatedAt
+    Instant updatedAt,
+    Long version
 ) {
 }
@@ -0,0 +1,23 @@
+package dev.abbah.supervision.eventtype.domain;
+
+/**
+ * A change made to the event type catalogue, as observed on the database change stream.
+ *
+ * @param type Whether the event type was created, updated or deleted
+ * @param id The ID of the changed event type
+ * @param eventType The event type after the change, or null when it was deleted
+ * @param resumeToken The opaque token to resume the change stream right after this change
+ */
+public record EventTypeChange(
+    Type type,
+    String id,
+    EventType eventType,
+    String resumeToken
+) {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+}
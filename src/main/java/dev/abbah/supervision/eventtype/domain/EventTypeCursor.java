@@ -0,0 +1,55 @@
+package dev.abbah.supervision.eventtype.domain;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * Keyset position in an ordered traversal of event types.
+ * Identifies the last event type already returned by its sort timestamp and ID,
+ * and is exchanged with clients as an opaque URL-safe token.
+ */
+public record EventTypeCursor(
+    Instant timestamp,
+    String id
+) {
+
+    private static final char SEPARATOR = '|';
+
+    public EventTypeCursor {
+        Objects.requireNonNull(timestamp, "timestamp");
+        Objects.requireNonNull(id, "id");
+    }
+
+    /**
+     * Encodes this cursor as an opaque token.
+     *
+     * @return The URL-safe token
+     */
+    public String encode() {
+        String raw = timestamp.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token previously produced by {@link #encode()}.
+     *
+     * @param token The opaque token
+     * @return The decoded cursor
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static EventTypeCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0 || separator == raw.length() - 1) {
+                throw new IllegalArgumentException("Invalid cursor: " + token);
+            }
+            return new EventTypeCursor(Instant.parse(raw.substring(0, separator)), raw.substring(separator + 1));
+        } catch (DateTimeParseException ex) {
+            throw new IllegalArgumentException("Invalid cursor: " + token, ex);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package dev.abbah.supervision.eventtype.domain;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Property of an event type that a reader can ask for, to fetch and return only part of each event type.
+ * A null or complete field set stands for the whole event type.
+ */
+public enum EventTypeField {
+    ID("id"),
+    NAME("name"),
+    DESCRIPTION("description"),
+    ACTIVE("active"),
+    CREATED_AT("createdAt"),
+    UPDATED_AT("updatedAt");
+
+    /**
+     * Every field, which is what readers get when they do not select any.
+     */
+    public static final Set<EventTypeField> ALL = Collections.unmodifiableSet(EnumSet.allOf(EventTypeField.class));
+
+    private final String propertyName;
+
+    EventTypeField(String propertyName) {
+        this.propertyName = propertyName;
+    }
+
+    /**
+     * Returns the name of the property, as used by clients and in stored documents.
+     *
+     * @return The property name
+     */
+    public String propertyName() {
+        return propertyName;
+    }
+
+    /**
+     * Looks up a field by its property name.
+     *
+     * @param propertyName The property name, case-sensitive
+     * @return The field, or empty if no field has that name
+     */
+    public static Optional<EventTypeField> fromPropertyName(String propertyName) {
+        for (EventTypeField field : values()) {
+            if (field.propertyName.equals(propertyName)) {
+                return Optional.of(field);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Tells whether a field selection leaves out part of the event type.
+     *
+     * @param fields The selected fields, or null for all of them
+     * @return true if some field is not selected
+     */
+    public static boolean isPartial(Set<EventTypeField> fields) {
+        return fields != null && !fields.containsAll(ALL);
+    }
+}
@@ -0,0 +1,40 @@
+package dev.abbah.supervision.eventtype.domain;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Selection of event types targeted by a bulk operation.
+ * All given criteria must match; criteria left null are ignored.
+ *
+ * @param ids The IDs of the event types to select
+ * @param namePrefix The prefix the names must start with
+ * @param text The full-text query the names or descriptions must match
+ * @param createdFrom The inclusive lower bound of the creation date
+ * @param createdTo The exclusive upper bound of the creation date
+ */
+public record EventTypeFilter(
+    List<String> ids,
+    String namePrefix,
+    String text,
+    Instant createdFrom,
+    Instant createdTo
+) {
+
+    public static EventTypeFilter byIds(List<String> ids) {
+        return new EventTypeFilter(ids, null, null, null, null);
+    }
+
+    /**
+     * Tells whether the filter has no criteria, and would therefore select every event type.
+     *
+     * @return true if no criterion is set
+     */
+    public boolean isEmpty() {
+        return (ids == null || ids.isEmpty())
+                && (namePrefix == null || namePrefix.isEmpty())
+                && (text == null || text.isBlank())
+                && createdFrom == null
+                && createdTo == null;
+    }
+}
@@ -0,0 +1,43 @@
+package dev.abbah.supervision.eventtype.domain;
+
+import java.time.Instant;
+
+/**
+ * Restriction of a listing of event types.
+ * All given criteria must match; criteria left null are ignored.
+ *
+ * @param active The activation flag the event types must have
+ * @param namePrefix The prefix the names must start with, ignoring case
+ * @param createdFrom The inclusive lower bound of the creation date
+ * @param createdTo The exclusive upper bound of the creation date
+ * @param updatedFrom The inclusive lower bound of the last update date
+ * @param updatedTo The exclusive upper bound of the last update date
+ */
+public record EventTypeListFilter(
+    Boolean active,
+    String namePrefix,
+    Instant createdFrom,
+    Instant createdTo,
+    Instant updatedFrom,
+    Instant updatedTo
+) {
+
+    /**
+     * The filter listing every event type.
+     */
+    public static final EventTypeListFilter NONE = new EventTypeListFilter(null, null, null, null, null, null);
+
+    /**
+     * Tells whether the filter has no criteria, and would therefore list every event type.
+     *
+     * @return true if no criterion is set
+     */
+    public boolean isEmpty() {
+        return active == null
+                && (namePrefix == null || namePrefix.isEmpty())
+                && createdFrom == null
+                && createdTo == null
+                && updatedFrom == null
+                && updatedTo == null;
+    }
+}
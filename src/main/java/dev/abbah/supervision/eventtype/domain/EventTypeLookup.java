@@ -0,0 +1,15 @@
+package dev.abbah.supervision.eventtype.domain;
+
+import java.util.List;
+
+/**
+ * Outcome of looking up several event types by ID at once.
+ *
+ * @param found The event types found, in the order their IDs were requested
+ * @param missing The requested IDs that match no event type, in request order
+ */
+public record EventTypeLookup(
+    List<EventType> found,
+    List<String> missing
+) {
+}
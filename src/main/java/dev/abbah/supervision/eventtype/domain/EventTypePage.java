@@ -0,0 +1,17 @@
+package dev.abbah.supervision.eventtype.domain;
+
+import java.util.List;
+
+/**
+ * A page of event types together with the total number of matching event types.
+ *
+ * @param content The event types in this page
+ * @param totalElements The total number of event types across all pages
+ * @param exactTotal Whether the total was counted for this request rather than estimated or reused
+ */
+public record EventTypePage(
+    List<EventType> content,
+    long totalElements,
+    boolean exactTotal
+) {
+}
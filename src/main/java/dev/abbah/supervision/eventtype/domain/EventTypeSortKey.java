@@ -0,0 +1,59 @@
+package dev.abbah.supervision.eventtype.domain;
+
+import java.util.Optional;
+
+/**
+ * Order a reader can ask event types to be listed or searched in.
+ * Each key is backed by an index, so that pages are read in order instead of being sorted in memory;
+ * event types with equal keys are ordered by ID.
+ */
+public enum EventTypeSortKey {
+    NAME("name", false),
+    CREATED_AT("createdAt", true),
+    UPDATED_AT("updatedAt", true),
+    /**
+     * How well the event types match a search query, best first; only searches can be sorted by relevance.
+     */
+    RELEVANCE("relevance", true);
+
+    private final String propertyName;
+    private final boolean descendingByDefault;
+
+    EventTypeSortKey(String propertyName, boolean descendingByDefault) {
+        this.propertyName = propertyName;
+        this.descendingByDefault = descendingByDefault;
+    }
+
+    /**
+     * Returns the name of the key, as used by clients and, except for relevance, in stored documents.
+     *
+     * @return The property name
+     */
+    public String propertyName() {
+        return propertyName;
+    }
+
+    /**
+     * Tells in which direction the key sorts when the reader does not say.
+     *
+     * @return true if the key sorts in descending order by default
+     */
+    public boolean isDescendingByDefault() {
+        return descendingByDefault;
+    }
+
+    /**
+     * Looks up a sort key by its property name.
+     *
+     * @param propertyName The property name, case-sensitive
+     * @return The sort key, or empty if no key has that name
+     */
+    public static Optional<EventTypeSortKey> fromPropertyName(String propertyName) {
+        for (EventTypeSortKey key : values()) {
+            if (key.propertyName.equals(propertyName)) {
+                return Optional.of(key);
+            }
+        }
+        return Optional.empty();
+    }
+}
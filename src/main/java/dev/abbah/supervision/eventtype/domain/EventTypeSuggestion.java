@@ -0,0 +1,13 @@
+package dev.abbah.supervision.eventtype.domain;
+
+/**
+ * An event type proposed while a user types its name.
+ *
+ * @param id The ID of the event type
+ * @param name The name of the event type
+ */
+public record EventTypeSuggestion(
+    String id,
+    String name
+) {
+}
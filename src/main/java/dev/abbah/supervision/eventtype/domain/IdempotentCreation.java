@@ -0,0 +1,13 @@
+package dev.abbah.supervision.eventtype.domain;
+
+/**
+ * Outcome of a creation made under an idempotency key.
+ *
+ * @param eventType The event type created by the first request with the key
+ * @param replayed Whether this request was a duplicate answered with the first outcome, without writing again
+ */
+public record IdempotentCreation(
+    EventType eventType,
+    boolean replayed
+) {
+}
@@ -0,0 +1,177 @@
+package dev.abbah.supervision.eventtype.adapter.in.web;
+
+import dev.abbah.supervision.eventtype.adapter.in.web.dto.EventTypeChangeResponse;
+import dev.abbah.supervision.eventtype.adapter.in.web.dto.EventTypeResponse;
+import dev.abbah.supervision.eventtype.adapter.in.web.exception.GlobalExceptionHandler;
+import dev.abbah.supervision.eventtype.adapter.in.web.mapper.EventTypeWebMapper;
+import dev.abbah.supervision.eventtype.application.port.in.WatchEventTypesUseCase;
+import dev.abbah.supervision.eventtype.domain.EventType;
+import dev.abbah.supervision.eventtype.domain.EventTypeChange;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@WebFluxTest(EventTypeChangeFeedController.class)
+@Import(GlobalExceptionHandler.class)
+@EnableConfigurationProperties(EventTypeChangeFeedProperties.class)
+class EventTypeChangeFeedControllerTest {
+
+    @Autowired
+    private WebTestClient webClient;
+
+    @MockitoBean
+    private WatchEventTypesUseCase watchEventTypesUseCase;
+
+    @MockitoBean
+    private EventTypeWebMapper mapper;
+
+    private final Instant now = Instant.parse("2025-01-01T00:00:00Z");
+
+    @BeforeEach
+    void setUp() {
+        when(mapper.toResponse(any(EventTypeChange.class))).thenAnswer(invocation -> {
+            EventTypeChange change = invocation.getArgument(0);
+            return EventTypeChangeResponse.builder()
+                    .type(EventTypeChangeResponse.Type.valueOf(change.type().name()))
+                    .id(change.id())
+                    .eventType(change.eventType() != null
+                            ? new EventTypeResponse(change.id(), change.eventType().name(), null, true, now, now)
+                            : null)
+                    .resumeToken(change.resumeToken())
+                    .build();
+        });
+    }
+
+    @Test
+    void watchEventTypes_shouldStreamChangesAsNdjson() {
+        // Given
+        when(watchEventTypesUseCase.watchEventTypes("token-0"))
+                .thenReturn(Flux.just(created("1", "token-1"), deleted("1", "token-2")));
+
+        // When
+        Flux<EventTypeChangeResponse> body = webClient.get()
+                .uri("/api/v1/event-types/changes?since=token-0")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(EventTypeChangeResponse.class)
+                .getResponseBody();
+
+        // Then
+        StepVerifier.create(body)
+                .assertNext(response -> {
+                    assertThat(response.getType()).isEqualTo(EventTypeChangeResponse.Type.CREATED);
+                    assertThat(response.getEventType().getName()).isEqualTo("Event 1");
+                    assertThat(response.getResumeToken()).isEqualTo("token-1");
+                })
+                .assertNext(response -> {
+                    assertThat(response.getType()).isEqualTo(EventTypeChangeResponse.Type.DELETED);
+                    assertThat(response.getEventType()).isNull();
+                })
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    void watchEventTypes_shouldRejectInvalidResumeToken() {
+        // Given
+        when(watchEventTypesUseCase.watchEventTypes("not-a-token"))
+                .thenThrow(new IllegalArgumentException("Invalid resume token"));
+
+        // When & Then
+        webClient.get()
+                .uri("/api/v1/event-types/changes?since=not-a-token")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void streamEventTypeChanges_shouldResumeFromLastEventId() {
+        // Given
+        when(watchEventTypesUseCase.watchEventTypes("token-1")).thenReturn(Flux.just(created("2", "token-2")));
+
+        // When
+        Flux<String> body = webClient.get()
+                .uri("/api/v1/event-types/changes?since=ignored")
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .header("Last-Event-ID", "token-1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.TEXT_EVENT_STREAM)
+                .returnResult(String.class)
+                .getResponseBody();
+
+        // Then
+        StepVerifier.create(body)
+                .assertNext(data -> assertThat(data).contains("\"resumeToken\":\"token-2\""))
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    void watchEventTypes_shouldDisconnectSlowSubscriberWithOverflowMessage() {
+        // Given
+        EventTypeChangeFeedProperties properties = new EventTypeChangeFeedProperties();
+        properties.setBufferSize(2);
+        EventTypeChangeFeedController controller = new EventTypeChangeFeedController(watchEventTypesUseCase, mapper, properties);
+        when(watchEventTypesUseCase.currentChangePosition()).thenReturn(Mono.just("token-0"));
+        when(watchEventTypesUseCase.watchEventTypes("token-0"))
+                .thenReturn(Flux.range(1, 10).map(index -> created(String.valueOf(index), "token-" + index)));
+
+        // When & Then
+        StepVerifier.create(controller.watchEventTypes(null), 1)
+                .assertNext(response -> assertThat(response.getResumeToken()).isEqualTo("token-1"))
+                .thenRequest(1)
+                .assertNext(response -> {
+                    assertThat(response.getType()).isEqualTo(EventTypeChangeResponse.Type.OVERFLOW);
+                    assertThat(response.getResumeToken()).isEqualTo("token-1");
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void watchEventTypes_shouldHandOutTheStartPositionOnOverflowBeforeAnyChange() {
+        // Given
+        EventTypeChangeFeedProperties properties = new EventTypeChangeFeedProperties();
+        properties.setBufferSize(2);
+        EventTypeChangeFeedController controller = new EventTypeChangeFeedController(watchEventTypesUseCase, mapper, properties);
+        when(watchEventTypesUseCase.currentChangePosition()).thenReturn(Mono.just("token-0"));
+        when(watchEventTypesUseCase.watchEventTypes("token-0"))
+                .thenReturn(Flux.range(1, 10).map(index -> created(String.valueOf(index), "token-" + index)));
+
+        // When & Then
+        StepVerifier.create(controller.watchEventTypes(null), 0)
+                .thenRequest(1)
+                .assertNext(response -> {
+                    assertThat(response.getType()).isEqualTo(EventTypeChangeResponse.Type.OVERFLOW);
+                    assertThat(response.getResumeToken()).isEqualTo("token-0");
+                })
+                .verifyComplete();
+    }
+
+    private EventTypeChange created(String id, String resumeToken) {
+        EventType eventType = new EventType(id, "Event " + id, null, true, now, now, 0L);
+        return new EventTypeChange(EventTypeChange.Type.CREATED, id, eventType, resumeToken);
+    }
+
+    private EventTypeChange deleted(String id, String resumeToken) {
+        return new EventTypeChange(EventTypeChange.Type.DELETED, id, null, resumeToken);
+    }
+}
@@ -1,16 +1,47 @@
 package dev.abbah.supervision.eventtype.adapter.in.web;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import dev.abbah.supervision.eventtype.adapter.in.web.codec.EventTypeMessages;
+import dev.abbah.supervision.eventtype.adapter.in.web.codec.EventTypeProtobufEncoder;
+import dev.abbah.supervision.eventtype.adapter.in.web.dto.BulkOperationResponse;
+import dev.abbah.supervision.eventtype.adapter.in.web.dto.EventTypeBatchItemRequest;
+import dev.abbah.supervision.eventtype.adapter.in.web.dto.EventTypeCreationStatusResponse;
+import dev.abbah.supervision.eventtype.adapter.in.web.dto.EventTypeFilterRequest;
+import dev.abbah.supervision.eventtype.adapter.in.web.dto.EventTypeLookupRequest;
 import dev.abbah.supervision.eventtype.adapter.in.web.dto.EventTypeRequest;
 import dev.abbah.supervision.eventtype.adapter.in.web.dto.EventTypeResponse;
+import dev.abbah.supervision.eventtype.adapter.in.web.dto.EventTypeSuggestionResponse;
+import dev.abbah.supervision.eventtype.adapter.in.web.dto.PageResponse;
 import dev.abbah.supervision.eventtype.adapter.in.web.exception.GlobalExceptionHandler;
 import dev.abbah.supervision.eventtype.adapter.in.web.mapper.EventTypeWebMapper;
+import dev.abbah.supervision.eventtype.adapter.in.web.proto.EventTypePageMessage;
 import dev.abbah.supervision.eventtype.application.port.in.*;
+import dev.abbah.supervision.eventtype.application.port.out.IdempotencyKeyConflictException;
+import dev.abbah.supervision.eventtype.domain.BatchWriteResult;
+import dev.abbah.supervision.eventtype.domain.BulkOperationResult;
+import dev.abbah.supervision.eventtype.domain.CatalogueVersion;
+import dev.abbah.supervision.eventtype.domain.CreationStatus;
+import dev.abbah.supervision.eventtype.domain.CursorPage;
 import dev.abbah.supervision.eventtype.domain.EventType;
+import dev.abbah.supervision.eventtype.domain.EventTypeCursor;
+import dev.abbah.supervision.eventtype.domain.EventTypeField;
+import dev.abbah.supervision.eventtype.domain.EventTypeFilter;
+import dev.abbah.supervision.eventtype.domain.EventTypeListFilter;
+import dev.abbah.supervision.eventtype.domain.EventTypeLookup;
+import dev.abbah.supervision.eventtype.domain.EventTypePage;
+import dev.abbah.supervision.eventtype.domain.EventTypeSuggestion;
+import dev.abbah.supervision.eventtype.domain.IdempotentCreation;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.reactive.server.WebTestClient;
@@ -18,9 +49,22 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.EnumSet;
+import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.atMostOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @WebFluxTest(EventTypeController.class)
@@ -48,14 +92,27 @@ class EventTypeControllerTest {
     @MockitoBean
     private SearchEventTypesUseCase searchEventTypesUseCase;
 
+    @MockitoBean
+    private ExportEventTypesUseCase exportEventTypesUseCase;
+
+    @MockitoBean
+    private AutocompleteEventTypesUseCase autocompleteEventTypesUseCase;
+
     @MockitoBean
     private EventTypeWebMapper mapper;
 
+    private final CatalogueVersion catalogueVersion = new CatalogueVersion("2", Instant.parse("2025-01-01T00:00:00Z"));
+
+    @BeforeEach
+    void setUp() {
+        when(listEventTypesUseCase.getCatalogueVersion()).thenReturn(Mono.just(catalogueVersion));
+    }
+
     @Test
     void createEventType_shouldCreateNewEventType() {
         // Given
         EventTypeRequest request = new EventTypeRequest("Test Event", "Test Description", true);
-        EventType domain = new EventType("1", "Test Event", "Test Description", true, Instant.now(), Instant.now());
+        EventType domain = new EventType("1", "Test Event", "Test Description", true, Instant.now(), Instant.now(), 0L);
         EventTypeResponse response = new EventTypeResponse("1", "Test Event", "Test Description", true, Instant.now(), Instant.now());
 
         when(mapper.toDomain(any(EventTypeRequest.class))).thenReturn(domain);
@@ -73,11 +130,232 @@ class EventTypeControllerTest {
                 .isEqualTo(response);
     }
 
+    @Test
+    void createEventType_shouldReplayFirstResponseForKnownIdempotencyKey() {
+        // Given
+        EventTypeRequest request = new EventTypeRequest("Test Event", "Test Description", true);
+        EventType domain = new EventType("1", "Test Event", "Test Description", true, Instant.now(), Instant.now(), 0L);
+        EventTypeResponse response = new EventTypeResponse("1", "Test Event", "Test Description", true, Instant.now(), Instant.now());
+
+        when(mapper.toDomain(any(EventTypeRequest.class))).thenReturn(domain);
+        when(createEventTypeUseCase.createEventType(domain, "retry-42"))
+                .thenReturn(Mono.just(new IdempotentCreation(domain, true)));
+        when(mapper.toResponse(domain)).thenReturn(response);
+
+        // When & Then
+        webClient.post()
+                .uri("/api/v1/event-types")
+                .header("Idempotency-Key", "retry-42")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectHeader().valueEquals("Idempotent-Replayed", "true")
+                .expectBody(EventTypeResponse.class)
+                .isEqualTo(response);
+        verify(createEventTypeUseCase, never()).createEventType(any());
+    }
+
+    @Test
+    void createEventType_shouldReturn422WhenIdempotencyKeyWasUsedForAnotherEventType() {
+        // Given
+        EventTypeRequest request = new EventTypeRequest("Test Event", "Test Description", true);
+        EventType domain = new EventType(null, "Test Event", "Test Description", true, Instant.now(), Instant.now(), null);
+
+        when(mapper.toDomain(any(EventTypeRequest.class))).thenReturn(domain);
+        when(createEventTypeUseCase.createEventType(domain, "retry-42")).thenReturn(Mono.error(
+                new IdempotencyKeyConflictException("retry-42", IdempotencyKeyConflictException.Reason.PAYLOAD_MISMATCH)));
+
+        // When & Then
+        webClient.post()
+                .uri("/api/v1/event-types")
+                .header("Idempotency-Key", "retry-42")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+    }
+
+    @Test
+    void createEventType_shouldRejectBlankIdempotencyKey() {
+        // When & Then
+        webClient.post()
+                .uri("/api/v1/event-types")
+                .header("Idempotency-Key", "  ")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new EventTypeRequest("Test Event", "Test Description", true))
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void createEventType_shouldAcceptInTheBackgroundWhenPreferred() {
+        // Given
+        EventTypeRequest request = new EventTypeRequest("Test Event", "Test Description", true);
+        EventType domain = new EventType(null, "Test Event", "Test Description", true, Instant.now(), Instant.now(), null);
+        EventType accepted = domain.toBuilder().id("65a1f0c2e4b0a1b2c3d4e5f6").build();
+        EventTypeResponse response = new EventTypeResponse(accepted.id(), "Test Event", "Test Description", true, Instant.now(), Instant.now());
+
+        when(mapper.toDomain(any(EventTypeRequest.class))).thenReturn(domain);
+        when(createEventTypeUseCase.acceptEventType(domain)).thenReturn(Mono.just(accepted));
+        when(mapper.toResponse(accepted)).thenReturn(response);
+
+        // When & Then
+        webClient.post()
+                .uri("/api/v1/event-types")
+                .header("Prefer", "respond-async, wait=5")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isAccepted()
+                .expectHeader().location("/api/v1/event-types/65a1f0c2e4b0a1b2c3d4e5f6/status")
+                .expectHeader().valueEquals("Preference-Applied", "respond-async")
+                .expectBody(EventTypeResponse.class)
+                .isEqualTo(response);
+        verify(createEventTypeUseCase, never()).createEventType(any());
+    }
+
+    @Test
+    void createEventType_shouldCreateRightAwayWhenBackgroundCreationIsDisabled() {
+        // Given
+        EventTypeRequest request = new EventTypeRequest("Test Event", "Test Description", true);
+        EventType domain = new EventType("1", "Test Event", "Test Description", true, Instant.now(), Instant.now(), 0L);
+        EventTypeResponse response = new EventTypeResponse("1", "Test Event", "Test Description", true, Instant.now(), Instant.now());
+
+        when(mapper.toDomain(any(EventTypeRequest.class))).thenReturn(domain);
+        when(createEventTypeUseCase.acceptEventType(domain)).thenReturn(Mono.empty());
+        when(createEventTypeUseCase.createEventType(domain)).thenReturn(Mono.just(domain));
+        when(mapper.toResponse(domain)).thenReturn(response);
+
+        // When & Then
+        webClient.post()
+                .uri("/api/v1/event-types")
+                .header("Prefer", "respond-async")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectHeader().doesNotExist("Preference-Applied")
+                .expectBody(EventTypeResponse.class)
+                .isEqualTo(response);
+    }
+
+    @Test
+    void getCreationStatus_shouldReportQueuedEventType() {
+        // Given
+        CreationStatus status = CreationStatus.queued("1");
+        when(createEventTypeUseCase.getCreationStatus("1")).thenReturn(Mono.just(status));
+        when(mapper.toResponse(status)).thenReturn(EventTypeCreationStatusResponse.builder()
+                .id("1")
+                .state(EventTypeCreationStatusResponse.State.QUEUED)
+                .build());
+
+        // When & Then
+        webClient.get()
+                .uri("/api/v1/event-types/{id}/status", "1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.id").isEqualTo("1")
+                .jsonPath("$.state").isEqualTo("QUEUED")
+                .jsonPath("$.error").doesNotExist();
+    }
+
+    @Test
+    void getCreationStatus_shouldReturn404WhenUnknown() {
+        // Given
+        when(createEventTypeUseCase.getCreationStatus("unknown")).thenReturn(Mono.empty());
+
+        // When & Then
+        webClient.get()
+                .uri("/api/v1/event-types/{id}/status", "unknown")
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void createEventTypes_shouldReportEachItemOfTheBatch() {
+        // Given
+        EventTypeBatchItemRequest valid = new EventTypeBatchItemRequest("1", new EventTypeRequest("Test Event", "Test Description", true));
+        EventTypeBatchItemRequest invalid = new EventTypeBatchItemRequest(null, new EventTypeRequest("", "Test Description", true));
+        EventType domain = new EventType("1", "Test Event", "Test Description", true, Instant.now(), Instant.now(), 0L);
+
+        when(mapper.toDomain(any(EventTypeBatchItemRequest.class))).thenReturn(domain);
+        when(createEventTypeUseCase.createEventTypes(List.of(domain)))
+                .thenReturn(Flux.just(BatchWriteResult.updated(0, "1")));
+
+        // When & Then
+        webClient.post()
+                .uri("/api/v1/event-types/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(List.of(invalid, valid))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.results[0].index").isEqualTo(0)
+                .jsonPath("$.results[0].status").isEqualTo("INVALID")
+                .jsonPath("$.results[0].errors.name").isEqualTo("Name cannot be blank")
+                .jsonPath("$.results[1].index").isEqualTo(1)
+                .jsonPath("$.results[1].id").isEqualTo("1")
+                .jsonPath("$.results[1].status").isEqualTo("UPDATED")
+                .jsonPath("$.updated").isEqualTo(1)
+                .jsonPath("$.invalid").isEqualTo(1);
+    }
+
+    @Test
+    void createEventTypes_shouldRejectEmptyBatch() {
+        // When & Then
+        webClient.post()
+                .uri("/api/v1/event-types/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(List.of())
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void deactivateEventTypes_shouldReportMatchedAndModifiedCounts() {
+        // Given
+        EventTypeFilterRequest request = EventTypeFilterRequest.builder().namePrefix("order.").build();
+        EventTypeFilter filter = new EventTypeFilter(null, "order.", null, null, null);
+        BulkOperationResult counts = new BulkOperationResult(3, 2);
+
+        when(mapper.toDomain(any(EventTypeFilterRequest.class))).thenReturn(filter);
+        when(updateEventTypeUseCase.updateEventTypesActive(filter, false)).thenReturn(Mono.just(counts));
+        when(mapper.toResponse(counts)).thenReturn(new BulkOperationResponse(3, 2));
+
+        // When & Then
+        webClient.post()
+                .uri("/api/v1/event-types/bulk/deactivate")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.matched").isEqualTo(3)
+                .jsonPath("$.modified").isEqualTo(2);
+    }
+
+    @Test
+    void deleteEventTypes_shouldRejectEmptyFilter() {
+        // Given
+        when(mapper.toDomain(any(EventTypeFilterRequest.class)))
+                .thenReturn(new EventTypeFilter(null, null, null, null, null));
+
+        // When & Then
+        webClient.post()
+                .uri("/api/v1/event-types/bulk/delete")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new EventTypeFilterRequest())
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
     @Test
     void getEventTypeById_shouldReturnEventType() {
         // Given
         String id = "1";
-        EventType domain = new EventType(id, "Test Event", "Test Description", true, Instant.now(), Instant.now());
+        EventType domain = new EventType(id, "Test Event", "Test Description", true, Instant.now(), Instant.now(), 0L);
         EventTypeResponse response = new EventTypeResponse(id, "Test Event", "Test Description", true, Instant.now(), Instant.now());
 
         when(getEventTypeUseCase.getEventTypeById(id)).thenReturn(Mono.just(domain));
@@ -92,6 +370,112 @@ class EventTypeControllerTest {
                 .isEqualTo(response);
     }
 
+    @Test
+    void getEventTypeById_shouldReturnOnlySelectedFields() {
+        // Given
+        String id = "1";
+        EventType domain = new EventType(id, "Test Event", "Test Description", true, Instant.now(), Instant.now(), 0L);
+        when(getEventTypeUseCase.getEventTypeById(id)).thenReturn(Mono.just(domain));
+        when(mapper.toResponse(domain)).thenReturn(
+                new EventTypeResponse(id, "Test Event", "Test Description", true, Instant.now(), Instant.now()));
+
+        // When & Then
+        webClient.get()
+                .uri("/api/v1/event-types/{id}?fields=active", id)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(id)
+                .jsonPath("$.active").isEqualTo(true)
+                .jsonPath("$.name").doesNotExist()
+                .jsonPath("$.createdAt").doesNotExist();
+    }
+
+    @Test
+    void getEventTypeById_shouldEncodeCborWhenAccepted() throws Exception {
+        // Given
+        String id = "1";
+        Instant timestamp = Instant.parse("2025-01-01T00:00:00Z");
+        EventType domain = new EventType(id, "Test Event", "Test Description", true, timestamp, timestamp, 0L);
+        EventTypeResponse response = new EventTypeResponse(id, "Test Event", "Test Description", true, timestamp, timestamp);
+
+        when(getEventTypeUseCase.getEventTypeById(id)).thenReturn(Mono.just(domain));
+        when(mapper.toResponse(domain)).thenReturn(response);
+
+        // When
+        byte[] body = webClient.get()
+                .uri("/api/v1/event-types/{id}", id)
+                .accept(MediaType.APPLICATION_CBOR)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_CBOR)
+                .expectBody(byte[].class)
+                .returnResult()
+                .getResponseBody();
+
+        // Then
+        ObjectMapper cborMapper = new ObjectMapper(new CBORFactory()).findAndRegisterModules();
+        assertThat(cborMapper.readValue(body, EventTypeResponse.class)).isEqualTo(response);
+    }
+
+    @Test
+    void getEventTypeById_shouldDefaultToJson() {
+        // Given
+        String id = "1";
+        EventType domain = new EventType(id, "Test Event", "Test Description", true, Instant.now(), Instant.now(), 0L);
+        when(getEventTypeUseCase.getEventTypeById(id)).thenReturn(Mono.just(domain));
+        when(mapper.toResponse(domain)).thenReturn(
+                new EventTypeResponse(id, "Test Event", "Test Description", true, Instant.now(), Instant.now()));
+
+        // When & Then
+        webClient.get()
+                .uri("/api/v1/event-types/{id}", id)
+                .accept(MediaType.ALL)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(id);
+    }
+
+    @Test
+    void getEventTypeById_shouldSendValidators() {
+        // Given
+        String id = "1";
+        Instant updatedAt = Instant.parse("2025-01-01T10:15:30Z");
+        EventType domain = new EventType(id, "Test Event", "Test Description", true, updatedAt, updatedAt, 4L);
+
+        when(getEventTypeUseCase.getEventTypeById(id)).thenReturn(Mono.just(domain));
+        when(mapper.toResponse(domain)).thenReturn(new EventTypeResponse());
+
+        // When & Then
+        webClient.get()
+                .uri("/api/v1/event-types/{id}", id)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"v4\"")
+                .expectHeader().lastModified(updatedAt.toEpochMilli());
+    }
+
+    @Test
+    void getEventTypeById_shouldReturn304WhenETagMatches() {
+        // Given
+        String id = "1";
+        Instant updatedAt = Instant.parse("2025-01-01T10:15:30Z");
+        EventType domain = new EventType(id, "Test Event", "Test Description", true, updatedAt, updatedAt, 4L);
+
+        when(getEventTypeUseCase.getEventTypeById(id)).thenReturn(Mono.just(domain));
+
+        // When & Then
+        webClient.get()
+                .uri("/api/v1/event-types/{id}", id)
+                .ifNoneMatch("\"v4\"")
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectBody().isEmpty();
+        verify(mapper, never()).toResponse(any(EventType.class));
+    }
+
     @Test
     void getEventTypeById_shouldReturn404WhenNotFound() {
         // Given
@@ -110,12 +494,48 @@ class EventTypeControllerTest {
                 .jsonPath("$.detail").exists();
     }
 
+    @Test
+    void lookupEventTypes_shouldReturnFoundAndMissingEventTypes() {
+        // Given
+        EventType domain = new EventType("1", "Test Event", "Test Description", true, Instant.now(), Instant.now(), 0L);
+        when(getEventTypeUseCase.getEventTypesByIds(List.of("1", "missing")))
+                .thenReturn(Mono.just(new EventTypeLookup(List.of(domain), List.of("missing"))));
+        when(mapper.toResponse(domain)).thenReturn(
+                new EventTypeResponse("1", "Test Event", "Test Description", true, Instant.now(), Instant.now()));
+
+        // When & Then
+        webClient.post()
+                .uri("/api/v1/event-types/lookup?fields=name")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new EventTypeLookupRequest(List.of("1", "missing")))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.eventTypes.length()").isEqualTo(1)
+                .jsonPath("$.eventTypes[0].id").isEqualTo("1")
+                .jsonPath("$.eventTypes[0].name").isEqualTo("Test Event")
+                .jsonPath("$.eventTypes[0].description").doesNotExist()
+                .jsonPath("$.missing[0]").isEqualTo("missing");
+    }
+
+    @Test
+    void lookupEventTypes_shouldRejectEmptyIdList() {
+        // When & Then
+        webClient.post()
+                .uri("/api/v1/event-types/lookup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new EventTypeLookupRequest(List.of()))
+                .exchange()
+                .expectStatus().isBadRequest();
+        verify(getEventTypeUseCase, never()).getEventTypesByIds(any());
+    }
+
     @Test
     void updateEventType_shouldUpdateExistingEventType() {
         // Given
         String id = "1";
         EventTypeRequest request = new EventTypeRequest("Updated Event", "Updated Description", false);
-        EventType domain = new EventType(id, "Updated Event", "Updated Description", false, Instant.now(), Instant.now());
+        EventType domain = new EventType(id, "Updated Event", "Updated Description", false, Instant.now(), Instant.now(), 0L);
         EventTypeResponse response = new EventTypeResponse(id, "Updated Event", "Updated Description", false, Instant.now(), Instant.now());
 
         when(mapper.toDomain(request)).thenReturn(domain);
@@ -133,12 +553,59 @@ class EventTypeControllerTest {
                 .isEqualTo(response);
     }
 
+    @Test
+    void updateEventType_shouldPassIfMatchVersionAndReturnNewETag() {
+        // Given
+        String id = "1";
+        EventTypeRequest request = new EventTypeRequest("Updated Event", "Updated Description", false);
+        EventType domain = new EventType(null, "Updated Event", "Updated Description", false, Instant.now(), Instant.now(), null);
+        EventType updated = new EventType(id, "Updated Event", "Updated Description", false, Instant.now(), Instant.now(), 4L);
+
+        when(mapper.toDomain(request)).thenReturn(domain);
+        when(updateEventTypeUseCase.updateEventType(eq(id), argThat(eventType -> Long.valueOf(3L).equals(eventType.version()))))
+                .thenReturn(Mono.just(updated));
+        when(mapper.toResponse(updated)).thenReturn(new EventTypeResponse());
+
+        // When & Then
+        webClient.put()
+                .uri("/api/v1/event-types/{id}", id)
+                .header(HttpHeaders.IF_MATCH, "\"v3\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"v4\"");
+    }
+
+    @Test
+    void updateEventType_shouldReturn412WhenVersionIsStale() {
+        // Given
+        String id = "1";
+        EventTypeRequest request = new EventTypeRequest("Updated Event", "Updated Description", false);
+        EventType domain = new EventType(null, "Updated Event", "Updated Description", false, Instant.now(), Instant.now(), null);
+
+        when(mapper.toDomain(request)).thenReturn(domain);
+        when(updateEventTypeUseCase.updateEventType(eq(id), any(EventType.class)))
+                .thenReturn(Mono.error(new OptimisticLockingFailureException("Version mismatch")));
+
+        // When & Then
+        webClient.put()
+                .uri("/api/v1/event-types/{id}", id)
+                .header(HttpHeaders.IF_MATCH, "\"v3\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.PRECONDITION_FAILED)
+                .expectBody()
+                .jsonPath("$.type").isEqualTo("https://api.supervision.abbah.dev/errors/precondition-failed");
+    }
+
     @Test
     void updateEventType_shouldReturn404WhenNotFound() {
         // Given
         String id = "nonexistent";
         EventTypeRequest request = new EventTypeRequest("Updated Event", "Updated Description", false);
-        EventType domain = new EventType(id, "Updated Event", "Updated Description", false, Instant.now(), Instant.now());
+        EventType domain = new EventType(id, "Updated Event", "Updated Description", false, Instant.now(), Instant.now(), 0L);
 
         when(mapper.toDomain(request)).thenReturn(domain);
         when(updateEventTypeUseCase.updateEventType(anyString(), any(EventType.class))).thenReturn(Mono.empty());
@@ -160,7 +627,7 @@ class EventTypeControllerTest {
     void deleteEventType_shouldDeleteEventType() {
         // Given
         String id = "1";
-        EventType domain = new EventType(id, "Test Event", "Test Description", true, Instant.now(), Instant.now());
+        EventType domain = new EventType(id, "Test Event", "Test Description", true, Instant.now(), Instant.now(), 0L);
 
         when(getEventTypeUseCase.getEventTypeById(id)).thenReturn(Mono.just(domain));
         when(deleteEventTypeUseCase.deleteEventType(id)).thenReturn(Mono.empty());
@@ -192,14 +659,14 @@ class EventTypeControllerTest {
     @Test
     void listEventTypes_shouldReturnEventTypes() {
         // Given
-        EventType eventType1 = new EventType("1", "Event 1", "Description 1", true, Instant.now(), Instant.now());
-        EventType eventType2 = new EventType("2", "Event 2", "Description 2", true, Instant.now(), Instant.now());
+        EventType eventType1 = new EventType("1", "Event 1", "Description 1", true, Instant.now(), Instant.now(), 0L);
+        EventType eventType2 = new EventType("2", "Event 2", "Description 2", true, Instant.now(), Instant.now(), 0L);
         
         EventTypeResponse response1 = new EventTypeResponse("1", "Event 1", "Description 1", true, Instant.now(), Instant.now());
         EventTypeResponse response2 = new EventTypeResponse("2", "Event 2", "Description 2", true, Instant.now(), Instant.now());
 
-        when(listEventTypesUseCase.listEventTypes(any(PageRequest.class))).thenReturn(Flux.just(eventType1, eventType2));
-        when(listEventTypesUseCase.countEventTypes()).thenReturn(Mono.just(2L));
+        when(listEventTypesUseCase.listEventTypePage(eq(EventTypeListFilter.NONE), any(PageRequest.class), eq(false), isNull()))
+                .thenReturn(Mono.just(new EventTypePage(List.of(eventType1, eventType2), 2L, false)));
         when(mapper.toResponse(eventType1)).thenReturn(response1);
         when(mapper.toResponse(eventType2)).thenReturn(response2);
 
@@ -213,18 +680,331 @@ class EventTypeControllerTest {
                 .jsonPath("$.content.length()").isEqualTo(2)
                 .jsonPath("$.metadata.totalElements").isEqualTo(2)
                 .jsonPath("$.metadata.pageNumber").isEqualTo(0)
-                .jsonPath("$.metadata.pageSize").isEqualTo(10);
+                .jsonPath("$.metadata.pageSize").isEqualTo(10)
+                .jsonPath("$.metadata.exactTotal").isEqualTo(false);
+    }
+
+    @Test
+    void listEventTypes_shouldEncodeProtobufWhenAccepted() throws Exception {
+        // Given
+        Instant timestamp = Instant.parse("2025-01-01T00:00:00Z");
+        EventType eventType = new EventType("1", "Event 1", "Description 1", true, timestamp, timestamp, 0L);
+        EventTypeResponse response = new EventTypeResponse("1", "Event 1", "Description 1", true, timestamp, timestamp);
+
+        when(listEventTypesUseCase.listEventTypePage(eq(EventTypeListFilter.NONE), any(PageRequest.class), eq(false), isNull()))
+                .thenReturn(Mono.just(new EventTypePage(List.of(eventType), 1L, false)));
+        when(mapper.toResponse(eventType)).thenReturn(response);
+
+        // When
+        byte[] body = webClient.get()
+                .uri("/api/v1/event-types?page=0&size=10")
+                .accept(EventTypeProtobufEncoder.APPLICATION_PROTOBUF)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(EventTypeProtobufEncoder.APPLICATION_PROTOBUF)
+                .expectBody(byte[].class)
+                .returnResult()
+                .getResponseBody();
+
+        // Then
+        PageResponse<EventTypeResponse> page = EventTypeMessages.toResponse(EventTypePageMessage.parseFrom(body));
+        assertThat(page.getContent()).containsExactly(response);
+        assertThat(page.getMetadata().getTotalElements()).isEqualTo(1);
+        assertThat(page.getMetadata().getPageSize()).isEqualTo(10);
+    }
+
+    @Test
+    void listEventTypes_shouldReturn304WithoutQueryingWhenCatalogueUnchanged() {
+        // When & Then
+        webClient.get()
+                .uri("/api/v1/event-types?page=0&size=10")
+                .ifModifiedSince(catalogueVersion.lastModified().atZone(ZoneOffset.UTC))
+                .exchange()
+                .expectStatus().isNotModified();
+        verify(listEventTypesUseCase, never()).listEventTypePage(any(), any(PageRequest.class), anyBoolean(), any());
+    }
+
+    @Test
+    void listEventTypes_shouldTagUnconditionalRequestsWithoutReadingVersionEachTime() {
+        // Given
+        when(listEventTypesUseCase.listEventTypePage(eq(EventTypeListFilter.NONE), any(PageRequest.class), eq(false), isNull()))
+                .thenReturn(Mono.just(new EventTypePage(List.of(), 0L, false)));
+
+        // When & Then
+        for (int i = 0; i < 3; i++) {
+            webClient.get()
+                    .uri("/api/v1/event-types?page=0&size=10")
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectHeader().valueEquals(HttpHeaders.ETAG, "\"catalogue-2\"")
+                    .expectHeader().valueEquals(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        }
+        verify(listEventTypesUseCase, atMostOnce()).getCatalogueVersion();
+    }
+
+    @Test
+    void listEventTypes_shouldReadCurrentVersionForConditionalRequests() {
+        // Given
+        when(listEventTypesUseCase.listEventTypePage(eq(EventTypeListFilter.NONE), any(PageRequest.class), eq(false), isNull()))
+                .thenReturn(Mono.just(new EventTypePage(List.of(), 0L, false)));
+
+        // When & Then
+        webClient.get()
+                .uri("/api/v1/event-types?page=0&size=10")
+                .ifNoneMatch("\"catalogue-1\"")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"catalogue-2\"");
+        webClient.get()
+                .uri("/api/v1/event-types?page=0&size=10")
+                .ifNoneMatch("\"catalogue-2\"")
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectHeader().valueEquals(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        verify(listEventTypesUseCase, times(2)).getCatalogueVersion();
+    }
+
+    @Test
+    void listEventTypes_shouldRequestExactTotalWhenAsked() {
+        // Given
+        when(listEventTypesUseCase.listEventTypePage(eq(EventTypeListFilter.NONE), any(PageRequest.class), eq(true), isNull()))
+                .thenReturn(Mono.just(new EventTypePage(List.of(), 7L, true)));
+
+        // When & Then
+        webClient.get()
+                .uri("/api/v1/event-types?page=3&size=10&exactTotal=true")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.metadata.totalElements").isEqualTo(7)
+                .jsonPath("$.metadata.exactTotal").isEqualTo(true);
+    }
+
+    @Test
+    void listEventTypes_shouldReturnOnlySelectedFields() {
+        // Given
+        EventType eventType = new EventType("1", "Event 1", null, false, null, null, null);
+        when(listEventTypesUseCase.listEventTypePage(eq(EventTypeListFilter.NONE), any(PageRequest.class), eq(false),
+                eq(EnumSet.of(EventTypeField.ID, EventTypeField.NAME))))
+                .thenReturn(Mono.just(new EventTypePage(List.of(eventType), 1L, false)));
+        when(mapper.toResponse(eventType)).thenReturn(new EventTypeResponse("1", "Event 1", null, false, null, null));
+
+        // When & Then
+        webClient.get()
+                .uri("/api/v1/event-types?fields=id, name")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.content[0].id").isEqualTo("1")
+                .jsonPath("$.content[0].name").isEqualTo("Event 1")
+                .jsonPath("$.content[0].active").doesNotExist()
+                .jsonPath("$.content[0].description").doesNotExist();
+    }
+
+    @Test
+    void listEventTypes_shouldRejectUnknownFields() {
+        // When & Then
+        webClient.get()
+                .uri("/api/v1/event-types?fields=id,secret")
+                .exchange()
+                .expectStatus().isBadRequest();
+        verify(listEventTypesUseCase, never()).listEventTypePage(any(), any(PageRequest.class), anyBoolean(), any());
+    }
+
+    @Test
+    void listEventTypes_shouldPassFilterToUseCase() {
+        // Given
+        EventTypeListFilter filter = new EventTypeListFilter(true, "Order", Instant.parse("2025-01-01T00:00:00Z"), null,
+                null, Instant.parse("2025-03-01T00:00:00Z"));
+        when(listEventTypesUseCase.listEventTypePage(eq(filter), any(PageRequest.class), eq(false), isNull()))
+                .thenReturn(Mono.just(new EventTypePage(List.of(), 0L, true)));
+
+        // When & Then
+        webClient.get()
+                .uri("/api/v1/event-types?active=true&namePrefix=Order&createdFrom=2025-01-01T00:00:00Z"
+                        + "&updatedTo=2025-03-01T00:00:00Z")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.metadata.totalElements").isEqualTo(0)
+                .jsonPath("$.metadata.exactTotal").isEqualTo(true);
+    }
+
+    @Test
+    void listEventTypes_shouldRejectEmptyDateRange() {
+        // When & Then
+        webClient.get()
+                .uri("/api/v1/event-types?createdFrom=2025-02-01T00:00:00Z&createdTo=2025-01-01T00:00:00Z")
+                .exchange()
+                .expectStatus().isBadRequest();
+        verify(listEventTypesUseCase, never()).listEventTypePage(any(), any(PageRequest.class), anyBoolean(), any());
+    }
+
+    @Test
+    void listEventTypes_shouldSortByRequestedKey() {
+        // Given
+        PageRequest byName = PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "name"));
+        when(listEventTypesUseCase.listEventTypePage(EventTypeListFilter.NONE, byName, false, null))
+                .thenReturn(Mono.just(new EventTypePage(List.of(), 0L, false)));
+
+        // When & Then
+        webClient.get()
+                .uri("/api/v1/event-types?sort=name")
+                .exchange()
+                .expectStatus().isOk();
+        verify(listEventTypesUseCase).listEventTypePage(EventTypeListFilter.NONE, byName, false, null);
+    }
+
+    @Test
+    void listEventTypes_shouldRejectUnsupportedSorts() {
+        // When & Then
+        webClient.get()
+                .uri("/api/v1/event-types?sort=description")
+                .exchange()
+                .expectStatus().isBadRequest();
+        webClient.get()
+                .uri("/api/v1/event-types?sort=relevance")
+                .exchange()
+                .expectStatus().isBadRequest();
+        webClient.get()
+                .uri("/api/v1/event-types?sort=createdAt,sideways")
+                .exchange()
+                .expectStatus().isBadRequest();
+        verify(listEventTypesUseCase, never()).listEventTypePage(any(), any(PageRequest.class), anyBoolean(), any());
+    }
+
+    @Test
+    void searchEventTypes_shouldSortByDescendingDateWhenAsked() {
+        // Given
+        PageRequest byUpdate = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "updatedAt"));
+        when(searchEventTypesUseCase.searchEventTypePage("order", byUpdate, false, null))
+                .thenReturn(Mono.just(new EventTypePage(List.of(), 0L, false)));
+
+        // When & Then
+        webClient.get()
+                .uri("/api/v1/event-types/search?query=order&sort=updatedAt")
+                .exchange()
+                .expectStatus().isOk();
+        verify(searchEventTypesUseCase).searchEventTypePage("order", byUpdate, false, null);
+    }
+
+    @Test
+    void listEventTypesByCursor_shouldReturnNextCursor() {
+        // Given
+        Instant createdAt = Instant.parse("2024-01-01T00:00:00Z");
+        EventType eventType = new EventType("1", "Event 1", "Description 1", true, createdAt, createdAt, 0L);
+        EventTypeResponse response = new EventTypeResponse("1", "Event 1", "Description 1", true, createdAt, createdAt);
+        EventTypeCursor next = new EventTypeCursor(createdAt, "1");
+
+        when(listEventTypesUseCase.listEventTypes(isNull(), eq(1))).thenReturn(Mono.just(new CursorPage(List.of(eventType), next)));
+        when(mapper.toResponse(eventType)).thenReturn(response);
+
+        // When & Then
+        webClient.get()
+                .uri("/api/v1/event-types?mode=cursor&size=1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.content.length()").isEqualTo(1)
+                .jsonPath("$.hasNext").isEqualTo(true)
+                .jsonPath("$.nextCursor").isEqualTo(next.encode());
+    }
+
+    @Test
+    void listEventTypesByCursor_shouldResumeFromCursor() {
+        // Given
+        EventTypeCursor after = new EventTypeCursor(Instant.parse("2024-01-01T00:00:00Z"), "1");
+        when(listEventTypesUseCase.listEventTypes(eq(after), eq(10))).thenReturn(Mono.just(new CursorPage(List.of(), null)));
+
+        // When & Then
+        webClient.get()
+                .uri("/api/v1/event-types?mode=cursor&after={after}", after.encode())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.content.length()").isEqualTo(0)
+                .jsonPath("$.hasNext").isEqualTo(false);
+    }
+
+    @Test
+    void listEventTypesByCursor_shouldReturnBadRequestForInvalidCursor() {
+        // When & Then
+        webClient.get()
+                .uri("/api/v1/event-types?mode=cursor&after=not-a-cursor")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.type").isEqualTo("https://api.supervision.abbah.dev/errors/request");
+    }
+
+    @Test
+    void exportEventTypes_shouldStreamNdjson() {
+        // Given
+        Instant updatedAt = Instant.parse("2024-01-01T00:00:00Z");
+        EventType eventType1 = new EventType("1", "Event 1", "Description 1", true, updatedAt, updatedAt, 0L);
+        EventType eventType2 = new EventType("2", "Event 2", "Description 2", true, updatedAt, updatedAt, 0L);
+        EventTypeResponse response1 = new EventTypeResponse("1", "Event 1", "Description 1", true, updatedAt, updatedAt);
+        EventTypeResponse response2 = new EventTypeResponse("2", "Event 2", "Description 2", true, updatedAt, updatedAt);
+
+        when(exportEventTypesUseCase.exportEventTypes(new EventTypeCursor(updatedAt, "0"))).thenReturn(Flux.just(eventType1, eventType2));
+        when(mapper.toResponse(eventType1)).thenReturn(response1);
+        when(mapper.toResponse(eventType2)).thenReturn(response2);
+
+        // When & Then
+        webClient.get()
+                .uri("/api/v1/event-types/export?updatedAt={updatedAt}&id=0", updatedAt)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .expectBodyList(EventTypeResponse.class)
+                .containsExactly(response1, response2);
+    }
+
+    @Test
+    void exportEventTypes_shouldRejectPartialResumePosition() {
+        // When & Then
+        webClient.get()
+                .uri("/api/v1/event-types/export?id=1")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void streamEventTypes_shouldResumeFromLastEventId() {
+        // Given
+        Instant updatedAt = Instant.parse("2024-01-01T00:00:00Z");
+        EventTypeCursor lastSeen = new EventTypeCursor(updatedAt, "1");
+        EventType eventType = new EventType("2", "Event 2", "Description 2", true, updatedAt, updatedAt, 0L);
+        EventTypeResponse response = new EventTypeResponse("2", "Event 2", "Description 2", true, updatedAt, updatedAt);
+
+        when(exportEventTypesUseCase.exportEventTypes(lastSeen)).thenReturn(Flux.just(eventType));
+        when(mapper.toResponse(eventType)).thenReturn(response);
+
+        // When & Then
+        webClient.get()
+                .uri("/api/v1/event-types/export")
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .header("Last-Event-ID", lastSeen.encode())
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.TEXT_EVENT_STREAM)
+                .expectBody(String.class)
+                .value(body -> assertThat(body)
+                        .contains("id:" + new EventTypeCursor(updatedAt, "2").encode())
+                        .contains("event:event-type"));
     }
 
     @Test
     void searchEventTypes_shouldReturnMatchingEventTypes() {
         // Given
         String query = "test";
-        EventType eventType = new EventType("1", "Test Event", "Test Description", true, Instant.now(), Instant.now());
+        EventType eventType = new EventType("1", "Test Event", "Test Description", true, Instant.now(), Instant.now(), 0L);
         EventTypeResponse response = new EventTypeResponse("1", "Test Event", "Test Description", true, Instant.now(), Instant.now());
 
-        when(searchEventTypesUseCase.searchEventTypes(anyString(), any(PageRequest.class))).thenReturn(Flux.just(eventType));
-        when(searchEventTypesUseCase.countSearchResults(query)).thenReturn(Mono.just(1L));
+        when(searchEventTypesUseCase.searchEventTypePage(anyString(), any(PageRequest.class), eq(false), isNull()))
+                .thenReturn(Mono.just(new EventTypePage(List.of(eventType), 1L, true)));
         when(mapper.toResponse(eventType)).thenReturn(response);
 
         // When & Then
@@ -250,4 +1030,32 @@ class EventTypeControllerTest {
                 .jsonPath("$.title").isEqualTo("Business Rule Violation")
                 .jsonPath("$.status").isEqualTo(422);
     }
+
+    @Test
+    void autocompleteEventTypes_shouldReturnSuggestions() {
+        // Given
+        EventTypeSuggestion suggestion = new EventTypeSuggestion("1", "Order Placed");
+        when(autocompleteEventTypesUseCase.autocompleteEventTypes("ord", 5)).thenReturn(Flux.just(suggestion));
+        when(mapper.toResponse(suggestion)).thenReturn(new EventTypeSuggestionResponse("1", "Order Placed"));
+
+        // When & Then
+        webClient.get()
+                .uri("/api/v1/event-types/autocomplete?prefix=ord&limit=5")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(EventTypeSuggestionResponse.class)
+                .hasSize(1)
+                .contains(new EventTypeSuggestionResponse("1", "Order Placed"));
+    }
+
+    @Test
+    void autocompleteEventTypes_shouldRejectBlankPrefix() {
+        // When & Then
+        webClient.get()
+                .uri("/api/v1/event-types/autocomplete?prefix= ")
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        verify(autocompleteEventTypesUseCase, never()).autocompleteEventTypes(anyString(), anyInt());
+    }
 }
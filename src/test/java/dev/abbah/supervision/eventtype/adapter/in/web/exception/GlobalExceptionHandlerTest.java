@@ -1,14 +1,20 @@
 package dev.abbah.supervision.eventtype.adapter.in.web.exception;
 
+import dev.abbah.supervision.eventtype.application.port.out.CapacityExceededException;
+import dev.abbah.supervision.eventtype.application.port.out.IdempotencyKeyConflictException;
 import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.support.WebExchangeBindException;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.net.URI;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -36,6 +42,49 @@ class GlobalExceptionHandlerTest {
         assertEquals(URI.create("https://api.supervision.abbah.dev/errors/not-found"), result.getType());
     }
 
+    @Test
+    void handleOptimisticLockingFailureException_shouldReturnPreconditionFailed() {
+        // Given
+        OptimisticLockingFailureException ex = new OptimisticLockingFailureException("Version mismatch");
+
+        // When
+        ProblemDetail result = handler.handleOptimisticLockingFailureException(ex);
+
+        // Then
+        assertEquals(HttpStatus.PRECONDITION_FAILED.value(), result.getStatus());
+        assertEquals("Precondition Failed", result.getTitle());
+        assertEquals("Version mismatch", result.getDetail());
+        assertEquals(URI.create("https://api.supervision.abbah.dev/errors/precondition-failed"), result.getType());
+    }
+
+    @Test
+    void handleCapacityExceededException_shouldReturnServiceUnavailableWithRetryAfter() {
+        // Given
+        CapacityExceededException ex = new CapacityExceededException("Too many operations", Duration.ofMillis(1500));
+
+        // When
+        ResponseEntity<ProblemDetail> result = handler.handleCapacityExceededException(ex);
+
+        // Then
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, result.getStatusCode());
+        assertEquals("2", result.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertEquals("Service Unavailable", result.getBody().getTitle());
+        assertEquals("Too many operations", result.getBody().getDetail());
+    }
+
+    @Test
+    void handleIdempotencyKeyConflictException_shouldTellReuseApartFromRequestInProgress() {
+        // Given
+        IdempotencyKeyConflictException reused =
+                new IdempotencyKeyConflictException("key", IdempotencyKeyConflictException.Reason.PAYLOAD_MISMATCH);
+        IdempotencyKeyConflictException inProgress =
+                new IdempotencyKeyConflictException("key", IdempotencyKeyConflictException.Reason.IN_PROGRESS);
+
+        // When & Then
+        assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, handler.handleIdempotencyKeyConflictException(reused).getStatusCode());
+        assertEquals(HttpStatus.CONFLICT, handler.handleIdempotencyKeyConflictException(inProgress).getStatusCode());
+    }
+
     @Test
     void handleValidationExceptions_shouldReturnProblemDetailWithErrors() {
         // Given
@@ -0,0 +1,200 @@
+package dev.abbah.supervision.eventtype.adapter.out.persistence;
+
+import dev.abbah.supervision.eventtype.application.port.out.EventTypeRepository;
+import dev.abbah.supervision.eventtype.domain.EventType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+import reactor.test.scheduler.VirtualTimeScheduler;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BatchingEventTypeRepositoryTest {
+
+    @Mock
+    private EventTypeRepository delegate;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final VirtualTimeScheduler scheduler = VirtualTimeScheduler.create();
+
+    private final EventTypeLookupBatchingProperties properties = new EventTypeLookupBatchingProperties();
+
+    private EventType first;
+    private EventType second;
+
+    @BeforeEach
+    void setUp() {
+        first = EventType.builder()
+                .id("1")
+                .name("First Event")
+                .active(true)
+                .createdAt(Instant.now())
+                .updatedAt(Instant.now())
+                .build();
+        second = first.toBuilder().id("2").name("Second Event").build();
+    }
+
+    @Test
+    void findById_shouldFetchIdsRequestedWithinTheWindowInOneQuery() {
+        // Given
+        BatchingEventTypeRepository repository = repository();
+        when(delegate.findAllById(List.of("1", "2", "missing"))).thenReturn(Flux.just(second, first));
+
+        // When
+        CompletableFuture<EventType> firstLookup = repository.findById("1").toFuture();
+        CompletableFuture<EventType> secondLookup = repository.findById("2").toFuture();
+        CompletableFuture<EventType> missingLookup = repository.findById("missing").toFuture();
+        verify(delegate, never()).findAllById(any());
+        scheduler.advanceTimeBy(properties.getWindow());
+
+        // Then
+        assertEquals(first, firstLookup.join());
+        assertEquals(second, secondLookup.join());
+        assertNull(missingLookup.join());
+        verify(delegate, times(1)).findAllById(any());
+        assertEquals(3.0, meterRegistry.get(BatchingEventTypeRepository.BATCH_SIZE_METRIC).summary().totalAmount());
+    }
+
+    @Test
+    void findById_shouldCollapseIdenticalLookupsInFlight() {
+        // Given
+        BatchingEventTypeRepository repository = repository();
+        Sinks.Many<EventType> results = Sinks.many().unicast().onBackpressureBuffer();
+        when(delegate.findAllById(List.of("1"))).thenReturn(results.asFlux());
+
+        // When
+        CompletableFuture<EventType> firstLookup = repository.findById("1").toFuture();
+        scheduler.advanceTimeBy(properties.getWindow());
+        CompletableFuture<EventType> secondLookup = repository.findById("1").toFuture();
+        results.tryEmitNext(first);
+        results.tryEmitComplete();
+
+        // Then
+        assertEquals(first, firstLookup.join());
+        assertEquals(first, secondLookup.join());
+        verify(delegate, times(1)).findAllById(any());
+        assertEquals(1.0, meterRegistry.get(BatchingEventTypeRepository.LOOKUPS_METRIC)
+                .tag("collapsed", "true").counter().count());
+        assertEquals(1.0, meterRegistry.get(BatchingEventTypeRepository.LOOKUPS_METRIC)
+                .tag("collapsed", "false").counter().count());
+    }
+
+    @Test
+    void findById_shouldSendFullBatchWithoutWaiting() {
+        // Given
+        properties.setMaxBatchSize(2);
+        BatchingEventTypeRepository repository = repository();
+        when(delegate.findAllById(List.of("1", "2"))).thenReturn(Flux.just(first, second));
+
+        // When
+        CompletableFuture<EventType> firstLookup = repository.findById("1").toFuture();
+        CompletableFuture<EventType> secondLookup = repository.findById("2").toFuture();
+
+        // Then
+        assertEquals(first, firstLookup.join());
+        assertEquals(second, secondLookup.join());
+    }
+
+    @Test
+    void findById_shouldPropagateQueryFailureToEveryWaitingLookup() {
+        // Given
+        BatchingEventTypeRepository repository = repository();
+        when(delegate.findAllById(List.of("1", "2"))).thenReturn(Flux.error(new IllegalStateException("boom")));
+
+        // When
+        CompletableFuture<EventType> firstLookup = repository.findById("1").toFuture();
+        CompletableFuture<EventType> secondLookup = repository.findById("2").toFuture();
+        scheduler.advanceTimeBy(properties.getWindow());
+
+        // Then
+        StepVerifier.create(Mono.fromFuture(firstLookup)).verifyError(IllegalStateException.class);
+        StepVerifier.create(Mono.fromFuture(secondLookup)).verifyError(IllegalStateException.class);
+    }
+
+    @Test
+    void findById_shouldNotJoinLookupSentBeforeAWrite() {
+        // Given
+        BatchingEventTypeRepository repository = repository();
+        EventType renamed = first.toBuilder().name("Renamed").build();
+        Sinks.Many<EventType> staleResults = Sinks.many().unicast().onBackpressureBuffer();
+        when(delegate.findAllById(List.of("1"))).thenReturn(staleResults.asFlux(), Flux.just(renamed));
+        when(delegate.update(renamed)).thenReturn(Mono.just(renamed));
+
+        CompletableFuture<EventType> staleLookup = repository.findById("1").toFuture();
+        scheduler.advanceTimeBy(properties.getWindow());
+
+        // When
+        StepVerifier.create(repository.update(renamed)).expectNext(renamed).verifyComplete();
+        CompletableFuture<EventType> freshLookup = repository.findById("1").toFuture();
+        scheduler.advanceTimeBy(properties.getWindow());
+        staleResults.tryEmitNext(first);
+        staleResults.tryEmitComplete();
+
+        // Then
+        assertEquals(first, staleLookup.join());
+        assertEquals(renamed, freshLookup.join());
+        verify(delegate, times(2)).findAllById(any());
+    }
+
+    @Test
+    void findById_chainedOnAWrite_shouldNotJoinLookupSentBeforeIt() {
+        // Given
+        BatchingEventTypeRepository repository = repository();
+        EventType renamed = first.toBuilder().name("Renamed").build();
+        Sinks.Many<EventType> staleResults = Sinks.many().unicast().onBackpressureBuffer();
+        when(delegate.findAllById(List.of("1"))).thenReturn(staleResults.asFlux(), Flux.just(renamed));
+        when(delegate.update(renamed)).thenReturn(Mono.just(renamed));
+
+        CompletableFuture<EventType> staleLookup = repository.findById("1").toFuture();
+        scheduler.advanceTimeBy(properties.getWindow());
+
+        // When
+        CompletableFuture<EventType> chainedLookup = repository.update(renamed)
+                .flatMap(updated -> repository.findById("1"))
+                .toFuture();
+        scheduler.advanceTimeBy(properties.getWindow());
+        staleResults.tryEmitNext(first);
+        staleResults.tryEmitComplete();
+
+        // Then
+        assertEquals(first, staleLookup.join());
+        assertEquals(renamed, chainedLookup.join());
+    }
+
+    @Test
+    void findById_shouldOnlyCollapseWhenWindowIsZero() {
+        // Given
+        properties.setWindow(Duration.ZERO);
+        BatchingEventTypeRepository repository = repository();
+        when(delegate.findAllById(List.of("1"))).thenReturn(Flux.just(first));
+
+        // When & Then
+        StepVerifier.create(repository.findById("1")).expectNext(first).verifyComplete();
+        verify(delegate, times(1)).findAllById(any());
+    }
+
+    private BatchingEventTypeRepository repository() {
+        return new BatchingEventTypeRepository(delegate, properties, meterRegistry, scheduler);
+    }
+}
@@ -0,0 +1,185 @@
+package dev.abbah.supervision.eventtype.adapter.out.persistence;
+
+import dev.abbah.supervision.eventtype.application.port.out.EventTypeRepository;
+import dev.abbah.supervision.eventtype.domain.BatchWriteResult;
+import dev.abbah.supervision.eventtype.domain.BulkOperationResult;
+import dev.abbah.supervision.eventtype.domain.EventType;
+import dev.abbah.supervision.eventtype.domain.EventTypeFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CachingEventTypeRepositoryTest {
+
+    @Mock
+    private EventTypeRepository delegate;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private CachingEventTypeRepository repository;
+
+    private EventType eventType;
+
+    @BeforeEach
+    void setUp() {
+        repository = new CachingEventTypeRepository(delegate, new EventTypeCacheProperties(), meterRegistry);
+        eventType = EventType.builder()
+                .id("1")
+                .name("Test Event")
+                .description("Test Description")
+                .active(true)
+                .createdAt(Instant.now())
+                .updatedAt(Instant.now())
+                .build();
+    }
+
+    @Test
+    void findById_shouldServeRepeatedLookupsFromCache() {
+        // Given
+        when(delegate.findById("1")).thenReturn(Mono.just(eventType));
+
+        // When
+        StepVerifier.create(repository.findById("1")).expectNext(eventType).verifyComplete();
+        StepVerifier.create(repository.findById("1")).expectNext(eventType).verifyComplete();
+
+        // Then
+        verify(delegate, times(1)).findById("1");
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("result", "miss").functionCounter().count());
+    }
+
+    @Test
+    void findAllById_shouldLoadOnlyUncachedEventTypesInOneQuery() {
+        // Given
+        EventType other = eventType.toBuilder().id("2").build();
+        when(delegate.findById("1")).thenReturn(Mono.just(eventType));
+        when(delegate.findAllById(List.of("2", "3"))).thenReturn(Flux.just(other));
+        StepVerifier.create(repository.findById("1")).expectNext(eventType).verifyComplete();
+
+        // When
+        StepVerifier.create(repository.findAllById(List.of("1", "2", "3")))
+                .expectNext(eventType, other)
+                .verifyComplete();
+
+        // Then
+        StepVerifier.create(repository.findAllById(List.of("2"))).expectNext(other).verifyComplete();
+        verify(delegate, times(1)).findAllById(any());
+    }
+
+    @Test
+    void findById_shouldNotCacheMissingEventTypes() {
+        // Given
+        when(delegate.findById("missing")).thenReturn(Mono.empty());
+
+        // When
+        StepVerifier.create(repository.findById("missing")).verifyComplete();
+        StepVerifier.create(repository.findById("missing")).verifyComplete();
+
+        // Then
+        verify(delegate, times(2)).findById("missing");
+    }
+
+    @Test
+    void save_shouldInvalidateCachedEntry() {
+        // Given
+        EventType renamed = eventType.toBuilder().name("Renamed").build();
+        when(delegate.findById("1")).thenReturn(Mono.just(eventType), Mono.just(renamed));
+        when(delegate.save(renamed)).thenReturn(Mono.just(renamed));
+        StepVerifier.create(repository.findById("1")).expectNext(eventType).verifyComplete();
+
+        // When
+        StepVerifier.create(repository.save(renamed)).expectNext(renamed).verifyComplete();
+
+        // Then
+        StepVerifier.create(repository.findById("1")).expectNext(renamed).verifyComplete();
+        verify(delegate, times(2)).findById("1");
+    }
+
+    @Test
+    void findById_shouldNotCacheWhatWasLoadedBeforeAConcurrentWrite() {
+        // Given
+        EventType renamed = eventType.toBuilder().name("Renamed").build();
+        Sinks.One<EventType> slowLoad = Sinks.one();
+        when(delegate.findById("1")).thenReturn(slowLoad.asMono(), Mono.just(renamed));
+        when(delegate.save(renamed)).thenReturn(Mono.just(renamed));
+        StepVerifier.Step<EventType> staleRead = StepVerifier.create(repository.findById("1"))
+                .then(() -> StepVerifier.create(repository.save(renamed)).expectNext(renamed).verifyComplete());
+
+        // When
+        staleRead.then(() -> slowLoad.tryEmitValue(eventType)).expectNext(eventType).verifyComplete();
+
+        // Then
+        StepVerifier.create(repository.findById("1")).expectNext(renamed).verifyComplete();
+        verify(delegate, times(2)).findById("1");
+    }
+
+    @Test
+    void deleteById_shouldInvalidateCachedEntry() {
+        // Given
+        when(delegate.findById("1")).thenReturn(Mono.just(eventType), Mono.empty());
+        when(delegate.deleteById("1")).thenReturn(Mono.empty());
+        StepVerifier.create(repository.findById("1")).expectNext(eventType).verifyComplete();
+
+        // When
+        StepVerifier.create(repository.deleteById("1")).verifyComplete();
+
+        // Then
+        StepVerifier.create(repository.findById("1")).verifyComplete();
+        verify(delegate, times(2)).findById("1");
+    }
+
+    @Test
+    void upsertAll_shouldInvalidateCachedEntries() {
+        // Given
+        EventType renamed = eventType.toBuilder().name("Renamed").build();
+        when(delegate.findById("1")).thenReturn(Mono.just(eventType), Mono.just(renamed));
+        when(delegate.upsertAll(List.of(renamed))).thenReturn(Flux.just(BatchWriteResult.updated(0, "1")));
+        StepVerifier.create(repository.findById("1")).expectNext(eventType).verifyComplete();
+
+        // When
+        StepVerifier.create(repository.upsertAll(List.of(renamed)))
+                .expectNext(BatchWriteResult.updated(0, "1"))
+                .verifyComplete();
+
+        // Then
+        StepVerifier.create(repository.findById("1")).expectNext(renamed).verifyComplete();
+        verify(delegate, times(2)).findById("1");
+    }
+
+    @Test
+    void updateActive_shouldInvalidateAllCachedEntries() {
+        // Given
+        EventType deactivated = eventType.toBuilder().active(false).build();
+        EventTypeFilter filter = new EventTypeFilter(null, "Test", null, null, null);
+        Instant now = Instant.now();
+        when(delegate.findById("1")).thenReturn(Mono.just(eventType), Mono.just(deactivated));
+        when(delegate.updateActive(filter, false, now)).thenReturn(Mono.just(new BulkOperationResult(1, 1)));
+        StepVerifier.create(repository.findById("1")).expectNext(eventType).verifyComplete();
+
+        // When
+        StepVerifier.create(repository.updateActive(filter, false, now))
+                .expectNext(new BulkOperationResult(1, 1))
+                .verifyComplete();
+
+        // Then
+        StepVerifier.create(repository.findById("1")).expectNext(deactivated).verifyComplete();
+    }
+}
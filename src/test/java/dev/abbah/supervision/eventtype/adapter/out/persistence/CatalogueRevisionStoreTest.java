@@ -0,0 +1,93 @@
+package dev.abbah.supervision.eventtype.adapter.out.persistence;
+
+import com.mongodb.client.result.UpdateResult;
+import dev.abbah.supervision.eventtype.domain.CatalogueVersion;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CatalogueRevisionStoreTest {
+
+    @Mock
+    private ReactiveMongoTemplate mongoTemplate;
+
+    @InjectMocks
+    private CatalogueRevisionStore store;
+
+    @Test
+    void current_shouldReadRevisionAndServerDate() {
+        // Given
+        Instant lastModified = Instant.parse("2025-01-01T00:00:00Z");
+        when(mongoTemplate.findById(CatalogueRevisionStore.CATALOGUE_ID, CatalogueRevisionEntity.class))
+                .thenReturn(Mono.just(new CatalogueRevisionEntity(CatalogueRevisionStore.CATALOGUE_ID, 42, lastModified)));
+
+        // When & Then
+        StepVerifier.create(store.current())
+                .expectNext(new CatalogueVersion("42", lastModified))
+                .verifyComplete();
+    }
+
+    @Test
+    void current_shouldStartAtRevisionZeroBeforeAnyWrite() {
+        // Given
+        when(mongoTemplate.findById(CatalogueRevisionStore.CATALOGUE_ID, CatalogueRevisionEntity.class))
+                .thenReturn(Mono.empty());
+
+        // When & Then
+        StepVerifier.create(store.current())
+                .expectNext(new CatalogueVersion("0", null))
+                .verifyComplete();
+    }
+
+    @Test
+    void advance_shouldIncrementRevisionWithServerDate() {
+        // Given
+        when(mongoTemplate.upsert(any(Query.class), any(Update.class), eq(CatalogueRevisionEntity.class)))
+                .thenReturn(Mono.just(UpdateResult.acknowledged(1, 1L, null)));
+
+        // When & Then
+        StepVerifier.create(store.advance())
+                .verifyComplete();
+        verify(mongoTemplate).upsert(
+                argThat(query -> CatalogueRevisionStore.CATALOGUE_ID.equals(query.getQueryObject().get("id"))),
+                argThat(update -> new Document("revision", 1).equals(update.getUpdateObject().get("$inc"))
+                        && update.getUpdateObject().containsKey("$currentDate")),
+                eq(CatalogueRevisionEntity.class));
+    }
+
+    @Test
+    void advance_shouldRetryThenGiveUpWithoutFailingTheWrite() {
+        // Given
+        AtomicInteger attempts = new AtomicInteger();
+        when(mongoTemplate.upsert(any(Query.class), any(Update.class), eq(CatalogueRevisionEntity.class)))
+                .thenReturn(Mono.defer(() -> {
+                    attempts.incrementAndGet();
+                    return Mono.error(new DataAccessResourceFailureException("Connection lost"));
+                }));
+
+        // When & Then
+        StepVerifier.create(store.advance())
+                .verifyComplete();
+        assertEquals(4, attempts.get());
+    }
+}
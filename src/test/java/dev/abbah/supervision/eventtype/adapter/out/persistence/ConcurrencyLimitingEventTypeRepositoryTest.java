@@ -0,0 +1,144 @@
+package dev.abbah.supervision.eventtype.adapter.out.persistence;
+
+import dev.abbah.supervision.eventtype.application.port.out.CapacityExceededException;
+import dev.abbah.supervision.eventtype.application.port.out.EventTypeRepository;
+import dev.abbah.supervision.eventtype.domain.EventType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ConcurrencyLimitingEventTypeRepositoryTest {
+
+    @Mock
+    private EventTypeRepository delegate;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final EventTypeConcurrencyLimitProperties properties = new EventTypeConcurrencyLimitProperties();
+
+    private ConcurrencyLimitingEventTypeRepository repository;
+
+    private EventType eventType;
+
+    @BeforeEach
+    void setUp() {
+        properties.setReads(new EventTypeConcurrencyLimitProperties.Limit(1, 1, 10, Duration.ofSeconds(1)));
+        properties.setWrites(new EventTypeConcurrencyLimitProperties.Limit(1, 1, 10, Duration.ofSeconds(1)));
+        repository = new ConcurrencyLimitingEventTypeRepository(delegate, properties, meterRegistry);
+        eventType = EventType.builder()
+                .id("1")
+                .name("Test Event")
+                .active(true)
+                .createdAt(Instant.now())
+                .updatedAt(Instant.now())
+                .build();
+    }
+
+    @Test
+    void findById_shouldRejectWhenReadLimitIsReached() {
+        // Given
+        Sinks.One<EventType> pending = Sinks.one();
+        when(delegate.findById("1")).thenReturn(pending.asMono());
+        CompletableFuture<EventType> inFlight = repository.findById("1").toFuture();
+
+        // When & Then
+        StepVerifier.create(repository.findById("2"))
+                .expectErrorSatisfies(error -> assertEquals(
+                        properties.getRetryAfter(), ((CapacityExceededException) error).getRetryAfter()))
+                .verify();
+        verify(delegate, never()).findById("2");
+        assertEquals(1.0, meterRegistry.get(AimdConcurrencyLimit.REJECTED_METRIC)
+                .tag("operation", "read").counter().count());
+        assertEquals(1.0, meterRegistry.get(AimdConcurrencyLimit.IN_FLIGHT_METRIC)
+                .tag("operation", "read").gauge().value());
+
+        pending.tryEmitValue(eventType);
+        assertEquals(eventType, inFlight.join());
+    }
+
+    @Test
+    void findById_shouldAdmitAgainOnceTheOperationInFlightCompletes() {
+        // Given
+        when(delegate.findById("1")).thenReturn(Mono.just(eventType));
+
+        // When & Then
+        StepVerifier.create(repository.findById("1")).expectNext(eventType).verifyComplete();
+        StepVerifier.create(repository.findById("1")).expectNext(eventType).verifyComplete();
+        assertEquals(0.0, meterRegistry.get(AimdConcurrencyLimit.IN_FLIGHT_METRIC)
+                .tag("operation", "read").gauge().value());
+    }
+
+    @Test
+    void findAll_shouldReleaseThePermitWhenTheOperationThrowsBeforeSubscription() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("unindexed"));
+        when(delegate.findAll(pageable)).thenThrow(new IllegalArgumentException("Unsupported sort"));
+        when(delegate.findById("1")).thenReturn(Mono.just(eventType));
+
+        // When & Then
+        StepVerifier.create(repository.findAll(pageable)).expectError(IllegalArgumentException.class).verify();
+        StepVerifier.create(repository.findById("1")).expectNext(eventType).verifyComplete();
+        assertEquals(0.0, meterRegistry.get(AimdConcurrencyLimit.IN_FLIGHT_METRIC)
+                .tag("operation", "read").gauge().value());
+    }
+
+    @Test
+    void save_shouldBeLimitedSeparatelyFromReads() {
+        // Given
+        Sinks.One<EventType> pending = Sinks.one();
+        when(delegate.findById("1")).thenReturn(pending.asMono());
+        when(delegate.save(any(EventType.class))).thenReturn(Mono.just(eventType));
+        repository.findById("1").toFuture();
+
+        // When & Then
+        StepVerifier.create(repository.save(eventType)).expectNext(eventType).verifyComplete();
+    }
+
+    @Test
+    void release_shouldShrinkTheLimitOnSlowOperationsAndGrowItOnFastOnes() {
+        // Given
+        AimdConcurrencyLimit limit = new AimdConcurrencyLimit("read",
+                new EventTypeConcurrencyLimitProperties.Limit(10, 2, 20, Duration.ofMillis(100)), meterRegistry);
+
+        // When
+        limit.tryAcquire();
+        limit.release(Duration.ofSeconds(1).toNanos());
+
+        // Then
+        assertEquals(9, limit.getLimit());
+
+        // When
+        for (int i = 0; i < 9; i++) {
+            limit.tryAcquire();
+        }
+        for (int i = 0; i < 30; i++) {
+            limit.release(Duration.ofMillis(1).toNanos());
+            limit.tryAcquire();
+        }
+
+        // Then
+        assertTrue(limit.getLimit() > 9);
+    }
+}
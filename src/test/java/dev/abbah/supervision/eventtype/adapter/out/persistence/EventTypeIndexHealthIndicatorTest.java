@@ -0,0 +1,65 @@
+package dev.abbah.supervision.eventtype.adapter.out.persistence;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.health.Status;
+import reactor.test.StepVerifier;
+
+import java.util.Map;
+
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EventTypeIndexHealthIndicatorTest {
+
+    @Mock
+    private EventTypeIndexManager indexManager;
+
+    @InjectMocks
+    private EventTypeIndexHealthIndicator healthIndicator;
+
+    @Test
+    void health_shouldBeUpOnceEveryIndexIsReady() {
+        // Given
+        when(indexManager.statuses()).thenReturn(Map.of(
+                "event_types.name_id", new EventTypeIndexManager.IndexStatus(EventTypeIndexManager.State.READY, null)));
+
+        // When & Then
+        StepVerifier.create(healthIndicator.health())
+                .expectNextMatches(health -> health.getStatus().equals(Status.UP)
+                        && "READY".equals(health.getDetails().get("event_types.name_id")))
+                .verifyComplete();
+    }
+
+    @Test
+    void health_shouldBeUnknownWhileIndexesAreBuilding() {
+        // Given
+        when(indexManager.statuses()).thenReturn(Map.of(
+                "event_types.name_id", new EventTypeIndexManager.IndexStatus(EventTypeIndexManager.State.READY, null),
+                "event_types.nameKey", new EventTypeIndexManager.IndexStatus(EventTypeIndexManager.State.BUILDING, null)));
+
+        // When & Then
+        StepVerifier.create(healthIndicator.health())
+                .expectNextMatches(health -> health.getStatus().equals(Status.UNKNOWN))
+                .verifyComplete();
+    }
+
+    @Test
+    void health_shouldBeDownWhenABuildFailed() {
+        // Given
+        when(indexManager.statuses()).thenReturn(Map.of(
+                "event_types.nameKey", new EventTypeIndexManager.IndexStatus(EventTypeIndexManager.State.BUILDING, null),
+                "event_types.name_id", new EventTypeIndexManager.IndexStatus(EventTypeIndexManager.State.FAILED,
+                        "Index already exists with a different name")));
+
+        // When & Then
+        StepVerifier.create(healthIndicator.health())
+                .expectNextMatches(health -> health.getStatus().equals(Status.DOWN)
+                        && "FAILED: Index already exists with a different name"
+                                .equals(health.getDetails().get("event_types.name_id")))
+                .verifyComplete();
+    }
+}
@@ -1,23 +1,62 @@
 package dev.abbah.supervision.eventtype.adapter.out.persistence;
 
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.bulk.BulkWriteUpsert;
+import com.mongodb.client.result.DeleteResult;
+import com.mongodb.client.result.UpdateResult;
 import dev.abbah.supervision.eventtype.adapter.out.persistence.mapper.EventTypePersistenceMapper;
+import dev.abbah.supervision.eventtype.domain.BatchWriteResult;
+import dev.abbah.supervision.eventtype.domain.BulkOperationResult;
+import dev.abbah.supervision.eventtype.domain.CatalogueVersion;
 import dev.abbah.supervision.eventtype.domain.EventType;
+import dev.abbah.supervision.eventtype.domain.EventTypeCursor;
+import dev.abbah.supervision.eventtype.domain.EventTypeField;
+import dev.abbah.supervision.eventtype.domain.EventTypeFilter;
+import dev.abbah.supervision.eventtype.domain.EventTypeListFilter;
+import dev.abbah.supervision.eventtype.domain.EventTypePage;
+import org.bson.BsonString;
+import org.bson.Document;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.ReactiveBulkOperations;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.aggregation.TypedAggregation;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.time.Instant;
+import java.util.EnumSet;
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -32,6 +71,21 @@ class EventTypePersistenceAdapterTest {
     @Mock
     private org.springframework.data.mongodb.core.ReactiveMongoTemplate mongoTemplate;
 
+    @Spy
+    private EventTypeCountProperties countProperties = new EventTypeCountProperties();
+
+    @Spy
+    private EventTypeBatchProperties batchProperties = new EventTypeBatchProperties();
+
+    @Mock
+    private SearchTotalCache searchTotalCache;
+
+    @Mock
+    private CatalogueRevisionStore catalogueRevisions;
+
+    @Mock
+    private EventTypeIndexManager indexManager;
+
     @InjectMocks
     private EventTypePersistenceAdapter adapter;
 
@@ -66,6 +120,7 @@ class EventTypePersistenceAdapterTest {
         when(mapper.toEntity(eventType)).thenReturn(eventTypeEntity);
         when(repository.save(eventTypeEntity)).thenReturn(Mono.just(eventTypeEntity));
         when(mapper.toDomain(eventTypeEntity)).thenReturn(eventType);
+        when(catalogueRevisions.advance()).thenReturn(Mono.empty());
 
         // When
         Mono<EventType> result = adapter.save(eventType);
@@ -74,6 +129,66 @@ class EventTypePersistenceAdapterTest {
         StepVerifier.create(result)
                 .expectNext(eventType)
                 .verifyComplete();
+        verify(searchTotalCache).clear();
+        verify(catalogueRevisions).advance();
+    }
+
+    @Test
+    void update_shouldUpdateInOneFindAndModify() {
+        // Given
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(EventTypeEntity.class)))
+                .thenReturn(Mono.just(eventTypeEntity));
+        when(mapper.toDomain(eventTypeEntity)).thenReturn(eventType);
+        when(catalogueRevisions.advance()).thenReturn(Mono.empty());
+
+        // When
+        Mono<EventType> result = adapter.update(eventType.toBuilder().version(3L).build());
+
+        // Then
+        StepVerifier.create(result)
+                .expectNext(eventType)
+                .verifyComplete();
+        verify(mongoTemplate).findAndModify(
+                argThat(query -> Long.valueOf(3L).equals(query.getQueryObject().get("version"))),
+                argThat(update -> update.getUpdateObject().containsKey("$inc")
+                        && !update.getUpdateObject().get("$set", Document.class).containsKey("createdAt")
+                        && "test event".equals(update.getUpdateObject().get("$set", Document.class).get("nameKey"))),
+                argThat(FindAndModifyOptions::isReturnNew),
+                eq(EventTypeEntity.class));
+        verify(repository, never()).findById(any(String.class));
+        verify(searchTotalCache).clear();
+    }
+
+    @Test
+    void update_shouldFailWhenVersionIsStale() {
+        // Given
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(EventTypeEntity.class)))
+                .thenReturn(Mono.empty());
+        when(repository.existsById("1")).thenReturn(Mono.just(true));
+
+        // When
+        Mono<EventType> result = adapter.update(eventType.toBuilder().version(3L).build());
+
+        // Then
+        StepVerifier.create(result)
+                .expectError(OptimisticLockingFailureException.class)
+                .verify();
+        verifyNoInteractions(catalogueRevisions);
+    }
+
+    @Test
+    void update_shouldBeEmptyWhenEventTypeDoesNotExist() {
+        // Given
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(EventTypeEntity.class)))
+                .thenReturn(Mono.empty());
+
+        // When
+        Mono<EventType> result = adapter.update(eventType);
+
+        // Then
+        StepVerifier.create(result)
+                .verifyComplete();
+        verify(repository, never()).existsById(any(String.class));
     }
 
     @Test
@@ -95,6 +210,7 @@ class EventTypePersistenceAdapterTest {
     void deleteById_shouldDeleteEventType() {
         // Given
         when(repository.deleteById("1")).thenReturn(Mono.empty());
+        when(catalogueRevisions.advance()).thenReturn(Mono.empty());
 
         // When
         Mono<Void> result = adapter.deleteById("1");
@@ -102,6 +218,75 @@ class EventTypePersistenceAdapterTest {
         // Then
         StepVerifier.create(result)
                 .verifyComplete();
+        verify(catalogueRevisions).advance();
+    }
+
+    @Test
+    void updateActive_shouldRunSingleUpdateMany() {
+        // Given
+        EventTypeFilter filter = new EventTypeFilter(null, "order.", null, null, null);
+        when(mongoTemplate.updateMulti(any(Query.class), any(AggregationUpdate.class), eq(EventTypeEntity.class)))
+                .thenReturn(Mono.just(UpdateResult.acknowledged(3, 2L, null)));
+        when(catalogueRevisions.advance()).thenReturn(Mono.empty());
+
+        // When
+        Mono<BulkOperationResult> result = adapter.updateActive(filter, false, Instant.now());
+
+        // Then
+        StepVerifier.create(result)
+                .expectNext(new BulkOperationResult(3, 2))
+                .verifyComplete();
+        verify(searchTotalCache).clear();
+    }
+
+    @Test
+    void deleteAll_shouldRunSingleDeleteMany() {
+        // Given
+        EventTypeFilter filter = EventTypeFilter.byIds(List.of("1", "2"));
+        when(mongoTemplate.remove(any(Query.class), eq(EventTypeEntity.class)))
+                .thenReturn(Mono.just(DeleteResult.acknowledged(2)));
+        when(catalogueRevisions.advance()).thenReturn(Mono.empty());
+
+        // When
+        Mono<BulkOperationResult> result = adapter.deleteAll(filter);
+
+        // Then
+        StepVerifier.create(result)
+                .expectNext(new BulkOperationResult(2, 2))
+                .verifyComplete();
+        verify(searchTotalCache).clear();
+    }
+
+    @Test
+    void updateActive_shouldKeepRevisionWhenNothingChanged() {
+        // Given
+        when(mongoTemplate.updateMulti(any(Query.class), any(AggregationUpdate.class), eq(EventTypeEntity.class)))
+                .thenReturn(Mono.just(UpdateResult.acknowledged(3, 0L, null)));
+
+        // When
+        Mono<BulkOperationResult> result = adapter.updateActive(EventTypeFilter.byIds(List.of("1")), true, Instant.now());
+
+        // Then
+        StepVerifier.create(result)
+                .expectNext(new BulkOperationResult(3, 0))
+                .verifyComplete();
+        verifyNoInteractions(catalogueRevisions);
+    }
+
+    @Test
+    void catalogueVersion_shouldReadRevision() {
+        // Given
+        CatalogueVersion version = new CatalogueVersion("7", Instant.parse("2025-01-01T00:00:00Z"));
+        when(catalogueRevisions.current()).thenReturn(Mono.just(version));
+
+        // When
+        Mono<CatalogueVersion> result = adapter.catalogueVersion();
+
+        // Then
+        StepVerifier.create(result)
+                .expectNext(version)
+                .verifyComplete();
+        verifyNoInteractions(mongoTemplate);
     }
 
     @Test
@@ -132,6 +317,55 @@ class EventTypePersistenceAdapterTest {
                 .verifyComplete();
     }
 
+    @Test
+    void findAllAfter_shouldReturnEventTypesAfterCursor() {
+        // Given
+        EventTypeCursor after = new EventTypeCursor(Instant.now(), "5");
+        when(mongoTemplate.aggregate(any(), any(Class.class))).thenReturn(Flux.just(eventTypeEntity));
+        when(mapper.toDomain(eventTypeEntity)).thenReturn(eventType);
+
+        // When
+        Flux<EventType> result = adapter.findAllAfter(after, 10);
+
+        // Then
+        StepVerifier.create(result)
+                .expectNext(eventType)
+                .verifyComplete();
+    }
+
+    @Test
+    void streamAll_shouldStreamEventTypesFromCursor() {
+        // Given
+        when(mongoTemplate.find(any(Query.class), eq(EventTypeEntity.class))).thenReturn(Flux.just(eventTypeEntity));
+        when(mapper.toDomain(eventTypeEntity)).thenReturn(eventType);
+
+        // When
+        Flux<EventType> result = adapter.streamAll(new EventTypeCursor(Instant.now(), "1"));
+
+        // Then
+        StepVerifier.create(result)
+                .expectNext(eventType)
+                .verifyComplete();
+    }
+
+    @Test
+    void streamNames_shouldReadOnlyIdNameAndVersionWithoutSorting() {
+        // Given
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        when(mongoTemplate.find(query.capture(), eq(EventTypeEntity.class))).thenReturn(Flux.just(eventTypeEntity));
+        when(mapper.toDomain(eventTypeEntity)).thenReturn(eventType);
+
+        // When
+        Flux<EventType> result = adapter.streamNames();
+
+        // Then
+        StepVerifier.create(result)
+                .expectNext(eventType)
+                .verifyComplete();
+        assertEquals(new Document("name", 1).append("version", 1), query.getValue().getFieldsObject());
+        assertTrue(query.getValue().getSortObject().isEmpty());
+    }
+
     @Test
     void count_shouldReturnTotalCount() {
         // Given
@@ -179,4 +413,339 @@ class EventTypePersistenceAdapterTest {
                 .expectNext(1L)
                 .verifyComplete();
     }
+
+    @Test
+    void findPage_shouldReturnContentAndTotalInSingleCommand() {
+        // Given
+        when(mongoTemplate.aggregate(any(TypedAggregation.class), eq(EventTypeFacetPage.class)))
+                .thenReturn(Flux.just(facetPage(eventTypeEntity, 42L)));
+        when(mapper.toDomain(eventTypeEntity)).thenReturn(eventType);
+
+        // When
+        Mono<EventTypePage> result = adapter.findPage(EventTypeListFilter.NONE, pageable, true, null);
+
+        // Then
+        StepVerifier.create(result)
+                .expectNext(new EventTypePage(List.of(eventType), 42L, true))
+                .verifyComplete();
+        verify(mongoTemplate, times(1)).aggregate(any(TypedAggregation.class), eq(EventTypeFacetPage.class));
+        verifyNoMoreInteractions(mongoTemplate);
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void searchPage_shouldReturnContentAndTotalInSingleCommand() {
+        // Given
+        when(mongoTemplate.aggregate(any(TypedAggregation.class), eq(EventTypeFacetPage.class)))
+                .thenReturn(Flux.just(facetPage(eventTypeEntity, 1L)));
+        when(mapper.toDomain(eventTypeEntity)).thenReturn(eventType);
+
+        // When
+        Mono<EventTypePage> result = adapter.searchPage("test", pageable, true, null);
+
+        // Then
+        StepVerifier.create(result)
+                .expectNext(new EventTypePage(List.of(eventType), 1L, true))
+                .verifyComplete();
+        verify(mongoTemplate, times(1)).aggregate(any(TypedAggregation.class), eq(EventTypeFacetPage.class));
+        verifyNoMoreInteractions(mongoTemplate);
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void searchPage_shouldReturnEmptyPageWhenNothingMatches() {
+        // Given
+        when(mongoTemplate.aggregate(any(TypedAggregation.class), eq(EventTypeFacetPage.class)))
+                .thenReturn(Flux.just(new EventTypeFacetPage()));
+
+        // When
+        Mono<EventTypePage> result = adapter.searchPage("nothing", pageable, true, null);
+
+        // Then
+        StepVerifier.create(result)
+                .expectNext(new EventTypePage(List.of(), 0L, true))
+                .verifyComplete();
+    }
+
+    @Test
+    void findPage_shouldUseEstimatedCountByDefault() {
+        // Given
+        when(mongoTemplate.aggregate(any(TypedAggregation.class), eq(EventTypeEntity.class)))
+                .thenReturn(Flux.just(eventTypeEntity));
+        when(mongoTemplate.estimatedCount(EventTypeEntity.class)).thenReturn(Mono.just(100L));
+        when(mapper.toDomain(eventTypeEntity)).thenReturn(eventType);
+
+        // When
+        Mono<EventTypePage> result = adapter.findPage(EventTypeListFilter.NONE, pageable, false, null);
+
+        // Then
+        StepVerifier.create(result)
+                .expectNext(new EventTypePage(List.of(eventType), 100L, false))
+                .verifyComplete();
+        verify(mongoTemplate, never()).aggregate(any(TypedAggregation.class), eq(EventTypeFacetPage.class));
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void searchPage_shouldReuseCachedTotal() {
+        // Given
+        when(searchTotalCache.get("test")).thenReturn(5L);
+        when(mongoTemplate.aggregate(any(TypedAggregation.class), eq(EventTypeEntity.class)))
+                .thenReturn(Flux.just(eventTypeEntity));
+        when(mapper.toDomain(eventTypeEntity)).thenReturn(eventType);
+
+        // When
+        Mono<EventTypePage> result = adapter.searchPage("test", pageable, false, null);
+
+        // Then
+        StepVerifier.create(result)
+                .expectNext(new EventTypePage(List.of(eventType), 5L, false))
+                .verifyComplete();
+        verify(mongoTemplate, never()).aggregate(any(TypedAggregation.class), eq(EventTypeFacetPage.class));
+    }
+
+    @Test
+    void searchPage_shouldCacheTotalCountedOnMiss() {
+        // Given
+        when(searchTotalCache.get("test")).thenReturn(null);
+        when(searchTotalCache.generation()).thenReturn(3L);
+        when(mongoTemplate.aggregate(any(TypedAggregation.class), eq(EventTypeFacetPage.class)))
+                .thenReturn(Flux.just(facetPage(eventTypeEntity, 5L)));
+        when(mapper.toDomain(eventTypeEntity)).thenReturn(eventType);
+
+        // When
+        Mono<EventTypePage> result = adapter.searchPage("test", pageable, false, null);
+
+        // Then
+        StepVerifier.create(result)
+                .expectNext(new EventTypePage(List.of(eventType), 5L, true))
+                .verifyComplete();
+        verify(searchTotalCache).put("test", 5L, 3L);
+    }
+
+    @Test
+    void findPage_shouldProjectSelectedFieldsBetweenSortAndFacet() {
+        // Given
+        countProperties.setList(EventTypeCountProperties.ListCountStrategy.EXACT);
+        when(mongoTemplate.aggregate(any(TypedAggregation.class), eq(EventTypeFacetPage.class)))
+                .thenReturn(Flux.just(facetPage(eventTypeEntity, 1L)));
+        when(mapper.toDomain(eventTypeEntity)).thenReturn(eventType);
+
+        // When
+        StepVerifier.create(adapter.findPage(EventTypeListFilter.NONE, pageable, false, EnumSet.of(EventTypeField.NAME)))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        // Then
+        ArgumentCaptor<TypedAggregation<?>> aggregation = ArgumentCaptor.forClass(TypedAggregation.class);
+        verify(mongoTemplate).aggregate(aggregation.capture(), eq(EventTypeFacetPage.class));
+        List<Document> stages = aggregation.getValue().toPipeline(Aggregation.DEFAULT_CONTEXT);
+        assertEquals(List.of("$sort", "$project", "$facet"),
+                stages.stream().map(stage -> stage.keySet().iterator().next()).toList());
+        Document projection = stages.get(1).get("$project", Document.class);
+        assertTrue(projection.containsKey("name"));
+        assertFalse(projection.containsKey("description"));
+    }
+
+    @Test
+    void findPage_shouldMatchFilterAheadOfSortAndCountMatchesOnly() {
+        // Given
+        Instant from = Instant.parse("2025-01-01T00:00:00Z");
+        EventTypeListFilter filter = new EventTypeListFilter(true, "Order", from, null, null, null);
+        when(mongoTemplate.aggregate(any(TypedAggregation.class), eq(EventTypeFacetPage.class)))
+                .thenReturn(Flux.just(facetPage(eventTypeEntity, 3L)));
+        when(mapper.toDomain(eventTypeEntity)).thenReturn(eventType);
+
+        // When
+        StepVerifier.create(adapter.findPage(filter, pageable, false, null))
+                .expectNext(new EventTypePage(List.of(eventType), 3L, true))
+                .verifyComplete();
+
+        // Then
+        ArgumentCaptor<TypedAggregation<?>> aggregation = ArgumentCaptor.forClass(TypedAggregation.class);
+        verify(mongoTemplate).aggregate(aggregation.capture(), eq(EventTypeFacetPage.class));
+        List<Document> stages = aggregation.getValue().toPipeline(Aggregation.DEFAULT_CONTEXT);
+        assertEquals(List.of("$match", "$sort", "$facet"),
+                stages.stream().map(stage -> stage.keySet().iterator().next()).toList());
+        verify(mongoTemplate, never()).estimatedCount(EventTypeEntity.class);
+    }
+
+    @Test
+    void findPage_shouldBreakSortTiesById() {
+        // Given
+        when(mongoTemplate.aggregate(any(TypedAggregation.class), eq(EventTypeFacetPage.class)))
+                .thenReturn(Flux.just(facetPage(eventTypeEntity, 1L)));
+        when(mapper.toDomain(eventTypeEntity)).thenReturn(eventType);
+
+        // When
+        StepVerifier.create(adapter.findPage(EventTypeListFilter.NONE, PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "name")),
+                        true, null))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        // Then
+        ArgumentCaptor<TypedAggregation<?>> aggregation = ArgumentCaptor.forClass(TypedAggregation.class);
+        verify(mongoTemplate).aggregate(aggregation.capture(), eq(EventTypeFacetPage.class));
+        Document sort = aggregation.getValue().toPipeline(Aggregation.DEFAULT_CONTEXT).get(0).get("$sort", Document.class);
+        assertEquals(new Document("name", -1).append("id", -1), sort);
+    }
+
+    @Test
+    void findPage_shouldRejectSortWithoutIndex() {
+        // Given
+        Pageable byDescription = PageRequest.of(0, 10, Sort.by("description"));
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class,
+                () -> adapter.findPage(EventTypeListFilter.NONE, byDescription, true, null));
+        verifyNoInteractions(mongoTemplate);
+    }
+
+    @Test
+    void searchPage_shouldSortByTextScoreByDefault() {
+        // Given
+        when(mongoTemplate.aggregate(any(TypedAggregation.class), eq(EventTypeFacetPage.class)))
+                .thenReturn(Flux.just(facetPage(eventTypeEntity, 1L)));
+        when(mapper.toDomain(eventTypeEntity)).thenReturn(eventType);
+
+        // When
+        StepVerifier.create(adapter.searchPage("test", pageable, true, null))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        // Then
+        ArgumentCaptor<TypedAggregation<?>> aggregation = ArgumentCaptor.forClass(TypedAggregation.class);
+        verify(mongoTemplate).aggregate(aggregation.capture(), eq(EventTypeFacetPage.class));
+        Document sort = aggregation.getValue().toPipeline(Aggregation.DEFAULT_CONTEXT).get(1).get("$sort", Document.class);
+        assertEquals(new Document("score", new Document("$meta", "textScore")).append("_id", -1), sort);
+    }
+
+    @Test
+    void findPage_shouldPinTheIndexOnlyOnceItIsBuilt() {
+        // Given
+        when(mongoTemplate.aggregate(any(TypedAggregation.class), eq(EventTypeFacetPage.class)))
+                .thenReturn(Flux.just(facetPage(eventTypeEntity, 1L)));
+        when(mapper.toDomain(eventTypeEntity)).thenReturn(eventType);
+        when(indexManager.isReady(EventTypeIndexes.EVENT_TYPES, EventTypeIndexes.CREATED_AT_ID_NAME))
+                .thenReturn(false, true);
+
+        // When
+        adapter.findPage(EventTypeListFilter.NONE, pageable, true, null).block();
+        adapter.findPage(EventTypeListFilter.NONE, pageable, true, null).block();
+
+        // Then
+        ArgumentCaptor<TypedAggregation<?>> aggregation = ArgumentCaptor.forClass(TypedAggregation.class);
+        verify(mongoTemplate, times(2)).aggregate(aggregation.capture(), eq(EventTypeFacetPage.class));
+        assertFalse(aggregation.getAllValues().get(0).getOptions().getHintObject().isPresent());
+        assertEquals(EventTypeIndexes.CREATED_AT_ID_NAME.getIndexKeys(),
+                aggregation.getAllValues().get(1).getOptions().getHintObject().orElseThrow());
+    }
+
+    @Test
+    void findPage_shouldNotProjectWhenAllFieldsAreSelected() {
+        // Given
+        when(mongoTemplate.aggregate(any(TypedAggregation.class), eq(EventTypeEntity.class)))
+                .thenReturn(Flux.just(eventTypeEntity));
+        when(mongoTemplate.estimatedCount(EventTypeEntity.class)).thenReturn(Mono.just(1L));
+        when(mapper.toDomain(eventTypeEntity)).thenReturn(eventType);
+
+        // When
+        StepVerifier.create(adapter.findPage(EventTypeListFilter.NONE, pageable, false, EventTypeField.ALL))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        // Then
+        ArgumentCaptor<TypedAggregation<?>> aggregation = ArgumentCaptor.forClass(TypedAggregation.class);
+        verify(mongoTemplate).aggregate(aggregation.capture(), eq(EventTypeEntity.class));
+        assertTrue(aggregation.getValue().toPipeline(Aggregation.DEFAULT_CONTEXT).stream()
+                .noneMatch(stage -> stage.containsKey("$project")));
+    }
+
+    @Test
+    void upsertAll_shouldWriteChunksWithUnorderedBulkWrites() {
+        // Given
+        batchProperties.setChunkSize(2);
+        EventType created = eventType.toBuilder().id(null).build();
+        EventType upsertedNew = eventType.toBuilder().id("2").build();
+        ReactiveBulkOperations firstChunk = mock(ReactiveBulkOperations.class);
+        ReactiveBulkOperations secondChunk = mock(ReactiveBulkOperations.class);
+        BulkWriteResult firstResult = mock(BulkWriteResult.class);
+        BulkWriteResult secondResult = mock(BulkWriteResult.class);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, EventTypeEntity.class))
+                .thenReturn(firstChunk, secondChunk);
+        when(mapper.toEntity(any(EventType.class))).thenReturn(eventTypeEntity);
+        when(firstChunk.execute()).thenReturn(Mono.just(firstResult));
+        when(secondChunk.execute()).thenReturn(Mono.just(secondResult));
+        when(firstResult.getUpserts()).thenReturn(List.of());
+        when(secondResult.getUpserts()).thenReturn(List.of(new BulkWriteUpsert(0, new BsonString("2"))));
+        when(catalogueRevisions.advance()).thenReturn(Mono.empty());
+
+        // When
+        Flux<BatchWriteResult> result = adapter.upsertAll(List.of(created, eventType, upsertedNew));
+
+        // Then
+        StepVerifier.create(result)
+                .expectNextMatches(first -> first.index() == 0
+                        && first.status() == BatchWriteResult.Status.CREATED
+                        && first.id() != null)
+                .expectNext(BatchWriteResult.updated(1, "1"))
+                .expectNext(BatchWriteResult.created(2, "2"))
+                .verifyComplete();
+        verify(firstChunk).insert(eventTypeEntity);
+        verify(firstChunk).upsert(any(Query.class), any(AggregationUpdate.class));
+        verify(secondChunk).upsert(any(Query.class), any(AggregationUpdate.class));
+        verify(searchTotalCache).clear();
+        verify(catalogueRevisions, times(2)).advance();
+    }
+
+    @Test
+    void upsertAll_shouldStartInsertedDocumentsAtVersionZeroAndIncrementUpdatedOnes() {
+        // Given
+        ReactiveBulkOperations bulk = mock(ReactiveBulkOperations.class);
+        BulkWriteResult bulkResult = mock(BulkWriteResult.class);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, EventTypeEntity.class)).thenReturn(bulk);
+        when(bulk.execute()).thenReturn(Mono.just(bulkResult));
+        when(bulkResult.getUpserts()).thenReturn(List.of());
+        when(catalogueRevisions.advance()).thenReturn(Mono.empty());
+
+        // When
+        StepVerifier.create(adapter.upsertAll(List.of(eventType.toBuilder().name("$name").build())))
+                .expectNext(BatchWriteResult.updated(0, "1"))
+                .verifyComplete();
+
+        // Then
+        ArgumentCaptor<AggregationUpdate> update = ArgumentCaptor.forClass(AggregationUpdate.class);
+        verify(bulk).upsert(any(Query.class), update.capture());
+        Document set = new Document();
+        update.getValue().toPipeline(Aggregation.DEFAULT_CONTEXT)
+                .forEach(stage -> set.putAll(stage.get("$set", Document.class)));
+        assertEquals(new Document("$add", List.of(new Document("$ifNull", List.of("$version", -1L)), 1)), set.get("version"));
+        assertEquals(new Document("$literal", "$name"), set.get("name"));
+    }
+
+    @Test
+    void upsertAll_shouldReportChunkAsFailedWhenBulkWriteCannotRun() {
+        // Given
+        ReactiveBulkOperations bulk = mock(ReactiveBulkOperations.class);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, EventTypeEntity.class)).thenReturn(bulk);
+        when(bulk.execute()).thenReturn(Mono.error(new IllegalStateException("Connection lost")));
+
+        // When
+        Flux<BatchWriteResult> result = adapter.upsertAll(List.of(eventType));
+
+        // Then
+        StepVerifier.create(result)
+                .expectNext(BatchWriteResult.failed(0, "1", "Connection lost"))
+                .verifyComplete();
+        verifyNoInteractions(catalogueRevisions);
+    }
+
+    private static EventTypeFacetPage facetPage(EventTypeEntity entity, long total) {
+        EventTypeFacetPage.Total count = new EventTypeFacetPage.Total();
+        count.setTotal(total);
+        EventTypeFacetPage facetPage = new EventTypeFacetPage();
+        facetPage.setContent(List.of(entity));
+        facetPage.setTotal(List.of(count));
+        return facetPage;
+    }
 }
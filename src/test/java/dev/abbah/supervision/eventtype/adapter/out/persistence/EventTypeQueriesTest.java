@@ -0,0 +1,79 @@
+package dev.abbah.supervision.eventtype.adapter.out.persistence;
+
+import dev.abbah.supervision.eventtype.domain.EventTypeFilter;
+import dev.abbah.supervision.eventtype.domain.EventTypeListFilter;
+import org.bson.BsonRegularExpression;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EventTypeQueriesTest {
+
+    @Test
+    void matching_shouldCombineAllCriteria() {
+        // Given
+        Instant from = Instant.parse("2025-01-01T00:00:00Z");
+        Instant to = Instant.parse("2025-02-01T00:00:00Z");
+        EventTypeFilter filter = new EventTypeFilter(List.of("1", "2"), "order", "created", from, to);
+
+        // When
+        Document query = EventTypeQueries.matching(filter).getQueryObject();
+
+        // Then
+        assertEquals(new Document("$in", List.of("1", "2")), query.get("id"));
+        assertEquals("^order", namePattern(query));
+        assertEquals(new Document("$search", "created"), query.get("$text"));
+        assertEquals(new Document("$gte", from).append("$lt", to), query.get("createdAt"));
+    }
+
+    @Test
+    void matching_shouldEscapeRegexMetacharactersInNamePrefix() {
+        // Given
+        EventTypeFilter filter = new EventTypeFilter(null, "order.v1(", null, null, null);
+
+        // When
+        Document query = EventTypeQueries.matching(filter).getQueryObject();
+
+        // Then
+        assertEquals("^order\\.v1\\(", namePattern(query));
+        assertTrue(Pattern.compile(namePattern(query)).matcher("order.v1(created)").find());
+    }
+
+    @Test
+    void listing_shouldMatchLowerCasedNameKeyAndDateRanges() {
+        // Given
+        Instant from = Instant.parse("2025-01-01T00:00:00Z");
+        Instant to = Instant.parse("2025-02-01T00:00:00Z");
+        EventTypeListFilter filter = new EventTypeListFilter(false, "Order.", null, null, from, to);
+
+        // When
+        Document criteria = EventTypeQueries.listing(filter).orElseThrow().getCriteriaObject();
+
+        // Then
+        List<Document> clauses = criteria.getList("$and", Document.class);
+        assertEquals(new Document("active", false), clauses.get(0));
+        assertEquals("^order\\.", pattern(clauses.get(1), "nameKey"));
+        assertEquals(new Document("updatedAt", new Document("$gte", from).append("$lt", to)), clauses.get(2));
+    }
+
+    @Test
+    void listing_shouldMatchEverythingWhenFilterIsEmpty() {
+        // When & Then
+        assertTrue(EventTypeQueries.listing(EventTypeListFilter.NONE).isEmpty());
+    }
+
+    private static String namePattern(Document query) {
+        return pattern(query, "name");
+    }
+
+    private static String pattern(Document query, String key) {
+        Object value = query.get(key);
+        return value instanceof BsonRegularExpression regex ? regex.getPattern() : ((Pattern) value).pattern();
+    }
+}
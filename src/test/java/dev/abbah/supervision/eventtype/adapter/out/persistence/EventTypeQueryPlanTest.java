@@ -0,0 +1,264 @@
+package dev.abbah.supervision.eventtype.adapter.out.persistence;
+
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.reactivestreams.client.MongoClient;
+import com.mongodb.reactivestreams.client.MongoClients;
+import dev.abbah.supervision.eventtype.adapter.out.persistence.mapper.EventTypePersistenceMapperImpl;
+import dev.abbah.supervision.eventtype.domain.EventTypeCursor;
+import dev.abbah.supervision.eventtype.domain.EventTypeField;
+import dev.abbah.supervision.eventtype.domain.EventTypeListFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Runs every query the persistence adapter sends against a real MongoDB, then explains it:
+ * a plan scanning the whole collection or sorting in memory fails the test.
+ * Listings also run against a collection whose indexes were never built, as on first boot.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class EventTypeQueryPlanTest {
+
+    private static final String DATABASE = "query-plans";
+    private static final String UNINDEXED_DATABASE = "query-plans-unindexed";
+    private static final Set<String> PLANNED_COMMANDS = Set.of("aggregate", "find");
+    private static final Instant BASE = Instant.parse("2025-01-01T00:00:00Z");
+
+    @Container
+    private static final MongoDBContainer MONGO = new MongoDBContainer(DockerImageName.parse("mongo:7.0"));
+
+    private static final List<Sort> LISTING_SORTS = List.of(
+            Sort.unsorted(),
+            Sort.by(Sort.Direction.ASC, "name"),
+            Sort.by(Sort.Direction.DESC, "name"),
+            Sort.by(Sort.Direction.ASC, "createdAt"),
+            Sort.by(Sort.Direction.DESC, "updatedAt"));
+
+    private static final List<BsonDocument> commands = new CopyOnWriteArrayList<>();
+
+    private static MongoClient client;
+    private static EventTypeIndexManager indexManager;
+    private static EventTypePersistenceAdapter adapter;
+    private static EventTypePersistenceAdapter unindexedAdapter;
+
+    @BeforeAll
+    static void setUp() {
+        client = MongoClients.create(MongoClientSettings.builder()
+                .applyConnectionString(new ConnectionString(MONGO.getReplicaSetUrl(DATABASE)))
+                .addCommandListener(new CommandListener() {
+                    @Override
+                    public void commandStarted(CommandStartedEvent event) {
+                        if (PLANNED_COMMANDS.contains(event.getCommandName())
+                                && EventTypeIndexes.EVENT_TYPES.equals(event.getCommand().getString(event.getCommandName()).getValue())) {
+                            commands.add(event.getCommand().clone());
+                        }
+                    }
+                })
+                .build());
+        ReactiveMongoTemplate mongoTemplate = new ReactiveMongoTemplate(client, DATABASE);
+
+        indexManager = new EventTypeIndexManager(mongoTemplate);
+        indexManager.ensureIndexes().block(Duration.ofMinutes(1));
+        adapter = adapter(mongoTemplate, indexManager);
+        insertEventTypes(mongoTemplate);
+
+        // As on first boot, before the index manager built anything
+        ReactiveMongoTemplate unindexedTemplate = new ReactiveMongoTemplate(client, UNINDEXED_DATABASE);
+        unindexedAdapter = adapter(unindexedTemplate, new EventTypeIndexManager(unindexedTemplate));
+        insertEventTypes(unindexedTemplate);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        client.close();
+    }
+
+    @BeforeEach
+    void clearCommands() {
+        commands.clear();
+    }
+
+    @Test
+    void ensureIndexes_shouldReportEveryDeclaredIndexReady() {
+        // When
+        indexManager.ensureIndexes().block(Duration.ofMinutes(1));
+
+        // Then
+        Map<String, EventTypeIndexManager.IndexStatus> statuses = indexManager.statuses();
+        assertEquals(EventTypeIndexes.REQUIRED.values().stream().mapToInt(List::size).sum(), statuses.size());
+        statuses.forEach((index, status) ->
+                assertEquals(EventTypeIndexManager.State.READY, status.state(), index + ": " + status.error()));
+    }
+
+    @Test
+    void listings_shouldNeitherScanCollectionNorSortInMemory() {
+        // Given
+        List<EventTypeListFilter> filters = List.of(
+                EventTypeListFilter.NONE,
+                new EventTypeListFilter(true, null, null, null, null, null),
+                new EventTypeListFilter(null, "Event 1", null, null, null, null),
+                new EventTypeListFilter(null, null, BASE.plusSeconds(10), BASE.plusSeconds(50), null, null),
+                new EventTypeListFilter(null, null, null, null, BASE.plusSeconds(10), BASE.plusSeconds(50)),
+                new EventTypeListFilter(false, "event", BASE, BASE.plusSeconds(150), BASE, BASE.plusSeconds(150)));
+
+        // When
+        for (Sort sort : LISTING_SORTS) {
+            for (EventTypeListFilter filter : filters) {
+                adapter.findPage(filter, PageRequest.of(1, 5, sort), true, null).block();
+                adapter.findPage(filter, PageRequest.of(1, 5, sort), false, EnumSet.of(EventTypeField.NAME)).block();
+            }
+            adapter.findAll(PageRequest.of(2, 5, sort)).blockLast();
+        }
+        adapter.findAllAfter(null, 5).blockLast();
+        adapter.findAllAfter(new EventTypeCursor(BASE.plusSeconds(100), new ObjectId().toHexString()), 5).blockLast();
+        adapter.streamAll(null).blockLast();
+        adapter.streamAll(new EventTypeCursor(BASE.plusSeconds(100), new ObjectId().toHexString())).blockLast();
+
+        // Then
+        assertFalse(commands.isEmpty());
+        assertEquals(List.of(), planViolations(Set.of("COLLSCAN", "SORT", "$sort")));
+    }
+
+    @Test
+    void listings_shouldRunWhileIndexesAreMissing() {
+        // When
+        for (Sort sort : LISTING_SORTS) {
+            assertEquals(5, unindexedAdapter.findPage(EventTypeListFilter.NONE, PageRequest.of(1, 5, sort), true, null)
+                    .block().content().size());
+            assertEquals(5, unindexedAdapter.findPage(new EventTypeListFilter(true, null, null, null, null, null),
+                    PageRequest.of(1, 5, sort), true, null).block().content().size());
+        }
+        List<?> cursorPage = unindexedAdapter.findAllAfter(null, 5).collectList().block();
+        List<?> export = unindexedAdapter.streamAll(null).collectList().block();
+
+        // Then
+        assertEquals(5, cursorPage.size());
+        assertEquals(200, export.size());
+    }
+
+    @Test
+    void searches_shouldGoThroughTextIndex() {
+        // When
+        for (Sort sort : List.of(Sort.unsorted(), Sort.by(Sort.Direction.ASC, "name"))) {
+            adapter.searchPage("order", PageRequest.of(0, 5, sort), true, null).block();
+            adapter.search("created", PageRequest.of(1, 5, sort)).blockLast();
+        }
+
+        // Then
+        // Matches are sorted in memory: MongoDB computes the text score at query time, so no index holds that order
+        assertFalse(commands.isEmpty());
+        assertEquals(List.of(), planViolations(Set.of("COLLSCAN")));
+    }
+
+    private static EventTypePersistenceAdapter adapter(ReactiveMongoTemplate mongoTemplate,
+                                                       EventTypeIndexManager indexManager) {
+        EventTypeCountProperties countProperties = new EventTypeCountProperties();
+        return new EventTypePersistenceAdapter(
+                mock(EventTypeMongoRepository.class),
+                new EventTypePersistenceMapperImpl(),
+                mongoTemplate,
+                countProperties,
+                new EventTypeBatchProperties(),
+                new SearchTotalCache(countProperties, new SimpleMeterRegistry()),
+                new CatalogueRevisionStore(mongoTemplate),
+                indexManager);
+    }
+
+    private static void insertEventTypes(ReactiveMongoTemplate mongoTemplate) {
+        mongoTemplate.insertAll(IntStream.range(0, 200)
+                        .mapToObj(i -> EventTypeEntity.builder()
+                                .name("Event " + i)
+                                .nameKey("event " + i)
+                                .description("Raised when order " + i + " is created")
+                                .active(i % 3 != 0)
+                                .createdAt(BASE.plusSeconds(i))
+                                .updatedAt(BASE.plusSeconds(i * 7L % 200))
+                                .version(0L)
+                                .build())
+                        .toList())
+                .blockLast(Duration.ofSeconds(30));
+    }
+
+    private static List<String> planViolations(Set<String> forbidden) {
+        List<String> violations = new ArrayList<>();
+        for (BsonDocument command : commands) {
+            Document explain = explain(command);
+            List<String> stages = new ArrayList<>();
+            collectWinningStages(explain, false, stages);
+            stages.stream()
+                    .filter(forbidden::contains)
+                    .distinct()
+                    .forEach(stage -> violations.add(stage + " in " + command.toJson()));
+        }
+        return violations;
+    }
+
+    private static Document explain(BsonDocument command) {
+        BsonDocument explained = new BsonDocument();
+        // Session and routing fields added by the driver are not part of the command to explain
+        command.forEach((key, value) -> {
+            if (!key.startsWith("$") && !key.equals("lsid")) {
+                explained.append(key, value);
+            }
+        });
+        return Mono.from(client.getDatabase(DATABASE).runCommand(new BsonDocument("explain", explained)
+                        .append("verbosity", new BsonString("queryPlanner"))))
+                .block(Duration.ofSeconds(30));
+    }
+
+    private static void collectWinningStages(Object node, boolean winning, List<String> stages) {
+        if (node instanceof Document document) {
+            document.forEach((key, value) -> {
+                // The echoed command and the plans the optimizer turned down say nothing of how the query runs
+                if (key.equals("command") || key.equals("rejectedPlans")) {
+                    return;
+                }
+                if (winning && key.equals("stage") && value instanceof String stage) {
+                    stages.add(stage);
+                }
+                if (key.equals("stages") && value instanceof List<?> pipeline) {
+                    // Aggregation stages left out of the query layer, such as a $sort it could not serve from an index
+                    pipeline.stream()
+                            .filter(Document.class::isInstance)
+                            .map(Document.class::cast)
+                            .filter(stage -> stage.containsKey("$sort"))
+                            .forEach(stage -> stages.add("$sort"));
+                }
+                collectWinningStages(value, winning || key.equals("winningPlan"), stages);
+            });
+        } else if (node instanceof List<?> list) {
+            list.forEach(item -> collectWinningStages(item, winning, stages));
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package dev.abbah.supervision.eventtype.adapter.out.persistence;
+
+import dev.abbah.supervision.eventtype.domain.CatalogueVersion;
+import dev.abbah.supervision.eventtype.domain.EventType;
+import dev.abbah.supervision.eventtype.domain.EventTypeCursor;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EventTypeReplicaTest {
+
+    private static final Instant T0 = Instant.parse("2025-01-01T00:00:00Z");
+
+    private final EventTypeReplica replica = new EventTypeReplica();
+
+    @Test
+    void put_shouldIgnoreOlderVersions() {
+        // Given
+        EventType current = eventType("1", "Renamed", 1, 3L);
+        replica.put(current);
+
+        // When
+        replica.put(eventType("1", "Original", 1, 1L));
+
+        // Then
+        assertEquals(Optional.of(current), replica.findById("1"));
+        assertEquals(List.of(current), replica.page(PageRequest.of(0, 10)).orElseThrow());
+    }
+
+    @Test
+    void put_shouldReindexRenamedEventType() {
+        // Given
+        replica.put(eventType("1", "b", 1, 0L));
+        replica.put(eventType("2", "c", 2, 0L));
+
+        // When
+        EventType renamed = eventType("2", "a", 2, 1L);
+        replica.put(renamed);
+
+        // Then
+        List<EventType> byName = replica.page(PageRequest.of(0, 10, Sort.by("name"))).orElseThrow();
+        assertEquals(List.of("a", "b"), byName.stream().map(EventType::name).toList());
+        assertEquals(2, replica.size());
+    }
+
+    @Test
+    void page_shouldServeNewestFirstByDefault() {
+        // Given
+        replica.put(eventType("1", "a", 1, 0L));
+        replica.put(eventType("2", "b", 2, 0L));
+        replica.put(eventType("3", "c", 3, 0L));
+
+        // When
+        List<EventType> page = replica.page(PageRequest.of(1, 1)).orElseThrow();
+
+        // Then
+        assertEquals(List.of("2"), page.stream().map(EventType::id).toList());
+    }
+
+    @Test
+    void page_shouldNotServeUnindexedSort() {
+        // When
+        Optional<List<EventType>> page = replica.page(PageRequest.of(0, 10, Sort.by("description")));
+
+        // Then
+        assertTrue(page.isEmpty());
+    }
+
+    @Test
+    void after_shouldContinueFromCursor() {
+        // Given
+        replica.put(eventType("1", "a", 1, 0L));
+        replica.put(eventType("2", "b", 2, 0L));
+        replica.put(eventType("3", "c", 3, 0L));
+
+        // When
+        List<EventType> next = replica.after(new EventTypeCursor(T0.plusSeconds(3), "3"), 10);
+
+        // Then
+        assertEquals(List.of("2", "1"), next.stream().map(EventType::id).toList());
+    }
+
+    @Test
+    void remove_shouldDropEventTypeFromEveryIndex() {
+        // Given
+        replica.put(eventType("1", "a", 1, 0L));
+
+        // When
+        replica.remove("1");
+
+        // Then
+        assertTrue(replica.findById("1").isEmpty());
+        assertTrue(replica.page(PageRequest.of(0, 10)).orElseThrow().isEmpty());
+        assertTrue(replica.page(PageRequest.of(0, 10, Sort.by("name"))).orElseThrow().isEmpty());
+    }
+
+    @Test
+    void delete_shouldIgnoreLaggingChangesUntilTheStreamDeliversTheDeletion() {
+        // Given
+        replica.put(eventType("1", "Order Placed", 1, 1L));
+        replica.delete("1");
+
+        // When
+        replica.put(eventType("1", "Order Placed", 1, 0L));
+        replica.put(eventType("1", "Order Placed", 1, 1L));
+
+        // Then
+        assertEquals(Optional.empty(), replica.findById("1"));
+
+        // When
+        replica.remove("1");
+        EventType recreated = eventType("1", "Order Placed", 2, 0L);
+        replica.put(recreated);
+
+        // Then
+        assertEquals(Optional.of(recreated), replica.findById("1"));
+    }
+
+    @Test
+    void reset_shouldEmptyReplicaAndStopServing() {
+        // Given
+        replica.put(eventType("1", "a", 1, 0L));
+        replica.markReady();
+        CatalogueVersion loaded = replica.version();
+
+        // When
+        replica.reset();
+
+        // Then
+        assertFalse(replica.isReady());
+        assertEquals(0, replica.size());
+        assertNotEquals(loaded, replica.version());
+    }
+
+    @Test
+    void version_shouldMoveOnEveryAppliedChangeOnly() {
+        // Given
+        replica.put(eventType("1", "a", 1, 2L));
+        CatalogueVersion initial = replica.version();
+
+        // When
+        replica.put(eventType("1", "stale", 1, 1L));
+        CatalogueVersion afterStale = replica.version();
+        replica.remove("1");
+
+        // Then
+        assertEquals(initial, afterStale);
+        assertNotEquals(initial, replica.version());
+        assertNull(replica.version().lastModified());
+    }
+
+    private static EventType eventType(String id, String name, int createdSecond, Long version) {
+        return EventType.builder()
+                .id(id)
+                .name(name)
+                .active(true)
+                .createdAt(T0.plusSeconds(createdSecond))
+                .updatedAt(T0.plusSeconds(createdSecond))
+                .version(version)
+                .build();
+    }
+}
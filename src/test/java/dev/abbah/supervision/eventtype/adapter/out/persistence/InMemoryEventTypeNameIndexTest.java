@@ -0,0 +1,73 @@
+package dev.abbah.supervision.eventtype.adapter.out.persistence;
+
+import dev.abbah.supervision.eventtype.application.port.out.CapacityExceededException;
+import dev.abbah.supervision.eventtype.application.port.out.EventTypeRepository;
+import dev.abbah.supervision.eventtype.domain.CatalogueVersion;
+import dev.abbah.supervision.eventtype.domain.EventType;
+import dev.abbah.supervision.eventtype.domain.EventTypeSuggestion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class InMemoryEventTypeNameIndexTest {
+
+    @Mock
+    private EventTypeRepository source;
+
+    private InMemoryEventTypeNameIndex index;
+
+    private EventType eventType;
+
+    @BeforeEach
+    void setUp() {
+        index = new InMemoryEventTypeNameIndex(source, new EventTypeAutocompleteProperties());
+        eventType = EventType.builder()
+                .id("1")
+                .name("Order Placed")
+                .version(0L)
+                .build();
+    }
+
+    @Test
+    void suggest_shouldFailAsUnavailableWhenTheIndexNeverLoads() {
+        // When & Then
+        StepVerifier.withVirtualTime(() -> index.suggest("order", 5))
+                .expectSubscription()
+                .thenAwait(Duration.ofSeconds(1))
+                .expectError(CapacityExceededException.class)
+                .verify();
+    }
+
+    @Test
+    void resync_shouldRebuildFromNamesOnlyWhenTheRevisionChanged() {
+        // Given
+        when(source.catalogueVersion()).thenReturn(
+                Mono.just(new CatalogueVersion("1", null)),
+                Mono.just(new CatalogueVersion("1", null)),
+                Mono.just(new CatalogueVersion("2", null)));
+        when(source.streamNames()).thenReturn(Flux.just(eventType));
+
+        // When
+        StepVerifier.create(index.resync()).verifyComplete();
+        StepVerifier.create(index.resync()).verifyComplete();
+        StepVerifier.create(index.resync()).verifyComplete();
+
+        // Then
+        verify(source, times(2)).streamNames();
+        StepVerifier.create(index.suggest("placed", 5))
+                .expectNext(new EventTypeSuggestion("1", "Order Placed"))
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,190 @@
+package dev.abbah.supervision.eventtype.adapter.out.persistence;
+
+import com.mongodb.client.result.DeleteResult;
+import dev.abbah.supervision.eventtype.application.port.out.IdempotencyKeyConflictException;
+import dev.abbah.supervision.eventtype.domain.EventType;
+import dev.abbah.supervision.eventtype.domain.IdempotentCreation;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MongoIdempotencyKeyStoreTest {
+
+    @Mock
+    private ReactiveMongoTemplate mongoTemplate;
+
+    private MongoIdempotencyKeyStore store;
+
+    private EventType eventType;
+
+    private final AtomicInteger creations = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        store = new MongoIdempotencyKeyStore(mongoTemplate, new EventTypeIdempotencyProperties(), new SimpleMeterRegistry());
+        eventType = EventType.builder()
+                .id("1")
+                .name("Test Event")
+                .active(true)
+                .createdAt(Instant.parse("2025-01-01T00:00:00Z"))
+                .updatedAt(Instant.parse("2025-01-01T00:00:00Z"))
+                .version(0L)
+                .build();
+    }
+
+    @Test
+    void createOnce_shouldCreateOnceAndReplayToRetries() {
+        // Given
+        when(mongoTemplate.insert(any(IdempotencyKeyEntity.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        when(mongoTemplate.save(any(IdempotencyKeyEntity.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        // When & Then
+        StepVerifier.create(store.createOnce("key", "fingerprint", this::create))
+                .expectNext(new IdempotentCreation(eventType, false))
+                .verifyComplete();
+        StepVerifier.create(store.createOnce("key", "fingerprint", this::create))
+                .expectNext(new IdempotentCreation(eventType, true))
+                .verifyComplete();
+        assertEquals(1, creations.get());
+        verify(mongoTemplate, times(1)).insert(any(IdempotencyKeyEntity.class));
+        verify(mongoTemplate).save(argThat((IdempotencyKeyEntity entity) ->
+                "key".equals(entity.getKey()) && "1".equals(entity.getEventTypeId())));
+    }
+
+    @Test
+    void createOnce_shouldCollapseConcurrentDuplicatesOntoOneWrite() {
+        // Given
+        Sinks.One<EventType> pending = Sinks.one();
+        when(mongoTemplate.insert(any(IdempotencyKeyEntity.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        when(mongoTemplate.save(any(IdempotencyKeyEntity.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        // When
+        CompletableFuture<IdempotentCreation> first = store.createOnce("key", "fingerprint", () -> {
+            creations.incrementAndGet();
+            return pending.asMono();
+        }).toFuture();
+        CompletableFuture<IdempotentCreation> second = store.createOnce("key", "fingerprint", this::create).toFuture();
+        pending.tryEmitValue(eventType);
+
+        // Then
+        assertEquals(new IdempotentCreation(eventType, false), first.join());
+        assertEquals(new IdempotentCreation(eventType, true), second.join());
+        assertEquals(1, creations.get());
+    }
+
+    @Test
+    void createOnce_shouldReplayOutcomeRecordedByAnotherNode() {
+        // Given
+        when(mongoTemplate.insert(any(IdempotencyKeyEntity.class)))
+                .thenReturn(Mono.error(new DuplicateKeyException("duplicate key")));
+        when(mongoTemplate.findById("key", IdempotencyKeyEntity.class)).thenReturn(Mono.just(IdempotencyKeyEntity.builder()
+                .key("key")
+                .fingerprint("fingerprint")
+                .eventTypeId("1")
+                .name("Test Event")
+                .active(true)
+                .createdAt(eventType.createdAt())
+                .updatedAt(eventType.updatedAt())
+                .version(0L)
+                .build()));
+
+        // When & Then
+        StepVerifier.create(store.createOnce("key", "fingerprint", this::create))
+                .expectNext(new IdempotentCreation(eventType, true))
+                .verifyComplete();
+        assertEquals(0, creations.get());
+    }
+
+    @Test
+    void createOnce_shouldReportConflictWhileAnotherNodeIsProcessingTheKey() {
+        // Given
+        when(mongoTemplate.insert(any(IdempotencyKeyEntity.class)))
+                .thenReturn(Mono.error(new DuplicateKeyException("duplicate key")));
+        when(mongoTemplate.findById("key", IdempotencyKeyEntity.class))
+                .thenReturn(Mono.just(IdempotencyKeyEntity.builder().key("key").fingerprint("fingerprint").build()));
+
+        // When & Then
+        StepVerifier.create(store.createOnce("key", "fingerprint", this::create))
+                .expectErrorMatches(error -> error instanceof IdempotencyKeyConflictException conflict
+                        && conflict.getReason() == IdempotencyKeyConflictException.Reason.IN_PROGRESS)
+                .verify();
+    }
+
+    @Test
+    void createOnce_shouldRejectKeyReusedForAnotherPayload() {
+        // Given
+        when(mongoTemplate.insert(any(IdempotencyKeyEntity.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        when(mongoTemplate.save(any(IdempotencyKeyEntity.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        store.createOnce("key", "fingerprint", this::create).block();
+
+        // When & Then
+        StepVerifier.create(store.createOnce("key", "other", this::create))
+                .expectErrorMatches(error -> error instanceof IdempotencyKeyConflictException conflict
+                        && conflict.getReason() == IdempotencyKeyConflictException.Reason.PAYLOAD_MISMATCH)
+                .verify();
+        assertEquals(1, creations.get());
+    }
+
+    @Test
+    void createOnce_shouldReleaseTheKeyWhenTheCreationFails() {
+        // Given
+        when(mongoTemplate.insert(any(IdempotencyKeyEntity.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        when(mongoTemplate.remove(any(Query.class), eq(IdempotencyKeyEntity.class)))
+                .thenReturn(Mono.just(DeleteResult.acknowledged(1)));
+
+        // When & Then
+        StepVerifier.create(store.createOnce("key", "fingerprint",
+                        () -> Mono.error(new DuplicateKeyException("name already taken"))))
+                .expectError(DuplicateKeyException.class)
+                .verify();
+        verify(mongoTemplate).remove(any(Query.class), eq(IdempotencyKeyEntity.class));
+        verify(mongoTemplate, never()).save(any(IdempotencyKeyEntity.class));
+    }
+
+    @Test
+    void createOnce_shouldKeepTheKeyClaimedWhenTheOutcomeCannotBeRecorded() {
+        // Given
+        when(mongoTemplate.insert(any(IdempotencyKeyEntity.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        when(mongoTemplate.save(any(IdempotencyKeyEntity.class)))
+                .thenReturn(Mono.error(new DataAccessResourceFailureException("Connection lost")));
+
+        // When & Then
+        StepVerifier.create(store.createOnce("key", "fingerprint", this::create))
+                .expectNext(new IdempotentCreation(eventType, false))
+                .verifyComplete();
+        StepVerifier.create(store.createOnce("key", "fingerprint", this::create))
+                .expectNext(new IdempotentCreation(eventType, true))
+                .verifyComplete();
+        assertEquals(1, creations.get());
+        verify(mongoTemplate, never()).remove(any(Query.class), eq(IdempotencyKeyEntity.class));
+    }
+
+    private Mono<EventType> create() {
+        creations.incrementAndGet();
+        return Mono.just(eventType);
+    }
+}
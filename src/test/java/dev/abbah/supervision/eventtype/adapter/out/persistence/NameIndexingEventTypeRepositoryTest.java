@@ -0,0 +1,114 @@
+package dev.abbah.supervision.eventtype.adapter.out.persistence;
+
+import dev.abbah.supervision.eventtype.application.port.out.EventTypeRepository;
+import dev.abbah.supervision.eventtype.domain.BatchWriteResult;
+import dev.abbah.supervision.eventtype.domain.BulkOperationResult;
+import dev.abbah.supervision.eventtype.domain.EventType;
+import dev.abbah.supervision.eventtype.domain.EventTypeFilter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class NameIndexingEventTypeRepositoryTest {
+
+    @Mock
+    private EventTypeRepository delegate;
+
+    @Mock
+    private InMemoryEventTypeNameIndex nameIndex;
+
+    private NameIndexingEventTypeRepository repository;
+
+    private EventType eventType;
+
+    @BeforeEach
+    void setUp() {
+        repository = new NameIndexingEventTypeRepository(delegate, nameIndex);
+        eventType = EventType.builder()
+                .id("1")
+                .name("Test Event")
+                .description("Test Description")
+                .active(true)
+                .createdAt(Instant.now())
+                .updatedAt(Instant.now())
+                .version(0L)
+                .build();
+    }
+
+    @Test
+    void save_shouldIndexTheSavedEventType() {
+        // Given
+        when(delegate.save(eventType)).thenReturn(Mono.just(eventType));
+
+        // When & Then
+        StepVerifier.create(repository.save(eventType)).expectNext(eventType).verifyComplete();
+        verify(nameIndex).put(eventType);
+    }
+
+    @Test
+    void update_shouldNotIndexWhenTheWriteFails() {
+        // Given
+        when(delegate.update(eventType)).thenReturn(Mono.error(new IllegalStateException("write failed")));
+
+        // When & Then
+        StepVerifier.create(repository.update(eventType)).expectError(IllegalStateException.class).verify();
+        verify(nameIndex, never()).put(any());
+    }
+
+    @Test
+    void upsertAll_shouldIndexOnlyTheItemsThatWereWritten() {
+        // Given
+        EventType invalid = eventType.toBuilder().id(null).name("Invalid").build();
+        when(delegate.upsertAll(List.of(eventType, invalid))).thenReturn(Flux.just(
+                BatchWriteResult.updated(0, "1"),
+                BatchWriteResult.failed(1, null, "duplicate name")));
+
+        // When
+        StepVerifier.create(repository.upsertAll(List.of(eventType, invalid))).expectNextCount(2).verifyComplete();
+
+        // Then
+        ArgumentCaptor<EventType> indexed = ArgumentCaptor.forClass(EventType.class);
+        verify(nameIndex).put(indexed.capture());
+        assertEquals("1", indexed.getValue().id());
+        assertEquals("Test Event", indexed.getValue().name());
+    }
+
+    @Test
+    void deleteById_shouldRemoveFromTheIndex() {
+        // Given
+        when(delegate.deleteById("1")).thenReturn(Mono.empty());
+
+        // When & Then
+        StepVerifier.create(repository.deleteById("1")).verifyComplete();
+        verify(nameIndex).remove("1");
+    }
+
+    @Test
+    void deleteAll_shouldRequestResyncOnlyWhenSomethingWasDeleted() {
+        // Given
+        EventTypeFilter filter = EventTypeFilter.byIds(List.of("1", "2"));
+        when(delegate.deleteAll(filter)).thenReturn(Mono.just(new BulkOperationResult(0, 0)), Mono.just(new BulkOperationResult(2, 2)));
+
+        // When & Then
+        StepVerifier.create(repository.deleteAll(filter)).expectNextCount(1).verifyComplete();
+        verify(nameIndex, never()).requestResync();
+        StepVerifier.create(repository.deleteAll(filter)).expectNextCount(1).verifyComplete();
+        verify(nameIndex).requestResync();
+    }
+}
@@ -0,0 +1,189 @@
+package dev.abbah.supervision.eventtype.adapter.out.persistence;
+
+import dev.abbah.supervision.eventtype.domain.EventType;
+import dev.abbah.supervision.eventtype.domain.EventTypeSuggestion;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NamePrefixIndexTest {
+
+    private final NamePrefixIndex index = new NamePrefixIndex(3);
+
+    @Test
+    void suggest_shouldRankWholeNameMatchesThenShorterNames() {
+        // Given
+        index.put(eventType("1", "Order Cancelled", 0L));
+        index.put(eventType("2", "Order", 0L));
+        index.put(eventType("3", "Bulk Order", 0L));
+        index.put(eventType("4", "Invoice Paid", 0L));
+
+        // When
+        List<String> names = names(index.suggest("ORD", 10));
+
+        // Then
+        assertEquals(List.of("Order", "Order Cancelled", "Bulk Order"), names);
+    }
+
+    @Test
+    void suggest_shouldMatchWordsOfCamelCaseAndSeparatedNames() {
+        // Given
+        index.put(eventType("1", "userSignedUp", 0L));
+        index.put(eventType("2", "payment.failed", 0L));
+
+        // When & Then
+        assertEquals(List.of("userSignedUp"), names(index.suggest("signed", 10)));
+        assertEquals(List.of("payment.failed"), names(index.suggest("fail", 10)));
+        assertTrue(index.suggest("ignedup", 10).isEmpty());
+    }
+
+    @Test
+    void suggest_shouldHonourLimitAndCapacity() {
+        // Given
+        for (int i = 0; i < 5; i++) {
+            index.put(eventType(String.valueOf(i), "Event " + i, 0L));
+        }
+
+        // When & Then
+        assertEquals(2, index.suggest("event", 2).size());
+        assertEquals(3, index.suggest("event", 10).size());
+    }
+
+    @Test
+    void put_shouldReplacePreviousNameOnRename() {
+        // Given
+        index.put(eventType("1", "Order Placed", 0L));
+
+        // When
+        index.put(eventType("1", "Purchase Placed", 1L));
+
+        // Then
+        assertTrue(index.suggest("order", 10).isEmpty());
+        assertEquals(List.of("Purchase Placed"), names(index.suggest("pur", 10)));
+        assertEquals(List.of("Purchase Placed"), names(index.suggest("placed", 10)));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void put_shouldIgnoreOlderVersions() {
+        // Given
+        index.put(eventType("1", "Renamed", 2L));
+
+        // When
+        index.put(eventType("1", "Original", 1L));
+
+        // Then
+        assertTrue(index.suggest("orig", 10).isEmpty());
+        assertEquals(List.of("Renamed"), names(index.suggest("ren", 10)));
+    }
+
+    @Test
+    void remove_shouldPromoteNextBestMatch() {
+        // Given
+        index.put(eventType("1", "Order", 0L));
+        index.put(eventType("2", "Order Placed", 0L));
+        index.put(eventType("3", "Order Shipped", 0L));
+        index.put(eventType("4", "Order Delivered", 0L));
+
+        // When
+        index.remove("1");
+
+        // Then
+        assertEquals(List.of("Order Placed", "Order Shipped", "Order Delivered"), names(index.suggest("or", 10)));
+    }
+
+    @Test
+    void completeRebuild_shouldReplayWritesMadeWhileSnapshotWasRead() {
+        // Given
+        index.put(eventType("1", "Stale", 0L));
+        index.beginRebuild();
+        index.put(eventType("2", "Created During Rebuild", 0L));
+        index.remove("3");
+
+        // When
+        index.completeRebuild(List.of(eventType("3", "Deleted During Rebuild", 0L), eventType("4", "From Snapshot", 0L)));
+
+        // Then
+        assertTrue(index.suggest("stale", 10).isEmpty());
+        assertTrue(index.suggest("deleted", 10).isEmpty());
+        assertEquals(List.of("Created During Rebuild"), names(index.suggest("created", 10)));
+        assertEquals(List.of("From Snapshot"), names(index.suggest("from", 10)));
+    }
+
+    @Test
+    void incrementalWrites_shouldMatchBulkBuild() {
+        // Given
+        Random random = new Random(42);
+        String[] words = {"order", "orders", "ord", "pay", "payment", "paid", "user", "use", "signed", "sign"};
+        List<EventType> eventTypes = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            String name = words[random.nextInt(words.length)] + " " + words[random.nextInt(words.length)];
+            eventTypes.add(eventType(String.valueOf(i), name, 0L));
+        }
+        NamePrefixIndex incremental = new NamePrefixIndex(5);
+        eventTypes.forEach(incremental::put);
+        for (int i = 0; i < 300; i += 3) {
+            incremental.remove(String.valueOf(i));
+        }
+        List<EventType> remaining = eventTypes.stream()
+                .filter(eventType -> Integer.parseInt(eventType.id()) % 3 != 0)
+                .toList();
+
+        // When
+        NamePrefixIndex bulk = new NamePrefixIndex(5);
+        bulk.beginRebuild();
+        bulk.completeRebuild(remaining);
+
+        // Then
+        for (String prefix : List.of("o", "or", "ord", "orde", "orders", "p", "pa", "pay", "u", "s", "sig", "order p")) {
+            List<EventTypeSuggestion> expected = bruteForce(remaining, prefix, 5);
+            assertEquals(expected, incremental.suggest(prefix, 5), "incremental, prefix " + prefix);
+            assertEquals(expected, bulk.suggest(prefix, 5), "bulk, prefix " + prefix);
+        }
+    }
+
+    private static List<EventTypeSuggestion> bruteForce(List<EventType> eventTypes, String prefix, int limit) {
+        record Match(EventType eventType, int rank) {
+        }
+        List<Match> matches = new ArrayList<>();
+        for (EventType eventType : eventTypes) {
+            String name = eventType.name().toLowerCase(Locale.ROOT);
+            if (name.startsWith(prefix)) {
+                matches.add(new Match(eventType, 0));
+            } else if (name.contains(" " + prefix)) {
+                matches.add(new Match(eventType, 1));
+            }
+        }
+        return matches.stream()
+                .sorted(Comparator.comparingInt(Match::rank)
+                        .thenComparingInt(match -> match.eventType().name().length())
+                        .thenComparing(match -> match.eventType().name())
+                        .thenComparing(match -> match.eventType().id()))
+                .limit(limit)
+                .map(match -> new EventTypeSuggestion(match.eventType().id(), match.eventType().name()))
+                .toList();
+    }
+
+    private static List<String> names(List<EventTypeSuggestion> suggestions) {
+        return suggestions.stream().map(EventTypeSuggestion::name).toList();
+    }
+
+    private static EventType eventType(String id, String name, Long version) {
+        return EventType.builder()
+                .id(id)
+                .name(name)
+                .active(true)
+                .createdAt(Instant.EPOCH)
+                .updatedAt(Instant.EPOCH)
+                .version(version)
+                .build();
+    }
+}
@@ -0,0 +1,150 @@
+package dev.abbah.supervision.eventtype.adapter.out.persistence;
+
+import dev.abbah.supervision.eventtype.application.port.out.EventTypeRepository;
+import dev.abbah.supervision.eventtype.domain.BatchWriteResult;
+import dev.abbah.supervision.eventtype.domain.EventType;
+import dev.abbah.supervision.eventtype.domain.EventTypeListFilter;
+import dev.abbah.supervision.eventtype.domain.EventTypePage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicatedEventTypeRepositoryTest {
+
+    @Mock
+    private EventTypeRepository delegate;
+
+    private final EventTypeReplica replica = new EventTypeReplica();
+
+    private ReplicatedEventTypeRepository repository;
+
+    private EventType eventType;
+
+    @BeforeEach
+    void setUp() {
+        repository = new ReplicatedEventTypeRepository(delegate, replica);
+        eventType = EventType.builder()
+                .id("1")
+                .name("Test Event")
+                .description("Test Description")
+                .active(true)
+                .createdAt(Instant.now())
+                .updatedAt(Instant.now())
+                .version(0L)
+                .build();
+    }
+
+    @Test
+    void findById_shouldReadFromMongoUntilReplicaIsLoaded() {
+        // Given
+        when(delegate.findById("1")).thenReturn(Mono.just(eventType));
+
+        // When & Then
+        StepVerifier.create(repository.findById("1")).expectNext(eventType).verifyComplete();
+        verify(delegate).findById("1");
+    }
+
+    @Test
+    void reads_shouldBeServedFromMemoryOnceReplicaIsLoaded() {
+        // Given
+        replica.put(eventType);
+        replica.markReady();
+
+        // When & Then
+        StepVerifier.create(repository.findById("1")).expectNext(eventType).verifyComplete();
+        StepVerifier.create(repository.findAll(PageRequest.of(0, 10))).expectNext(eventType).verifyComplete();
+        StepVerifier.create(repository.count()).expectNext(1L).verifyComplete();
+        StepVerifier.create(repository.findPage(EventTypeListFilter.NONE, PageRequest.of(0, 10), false, null))
+                .expectNext(new EventTypePage(List.of(eventType), 1, true))
+                .verifyComplete();
+        verifyNoInteractions(delegate);
+    }
+
+    @Test
+    void upsertAll_shouldApplyTheWrittenEventTypesToTheReplica() {
+        // Given
+        replica.markReady();
+        EventType invalid = eventType.toBuilder().id("2").name(null).build();
+        EventType stored = eventType.toBuilder().version(3L).build();
+        when(delegate.upsertAll(List.of(eventType, invalid))).thenReturn(Flux.just(
+                BatchWriteResult.updated(0, "1"),
+                BatchWriteResult.failed(1, "2", "name is required")));
+        when(delegate.findAllById(List.of("1"))).thenReturn(Flux.just(stored));
+
+        // When
+        StepVerifier.create(repository.upsertAll(List.of(eventType, invalid)))
+                .expectNextCount(2)
+                .verifyComplete();
+
+        // Then
+        StepVerifier.create(repository.findById("1")).expectNext(stored).verifyComplete();
+    }
+
+    @Test
+    void deleteById_shouldStayDeletedWhenTheChangeStreamDeliversAnEarlierWrite() {
+        // Given
+        replica.put(eventType);
+        replica.markReady();
+        when(delegate.deleteById("1")).thenReturn(Mono.empty());
+
+        // When
+        StepVerifier.create(repository.deleteById("1")).verifyComplete();
+        replica.put(eventType);
+
+        // Then
+        StepVerifier.create(repository.findById("1")).verifyComplete();
+    }
+
+    @Test
+    void catalogueVersion_shouldCountChangesAppliedToReplicaEvenWhileLoading() {
+        // Given
+        replica.put(eventType);
+
+        // When & Then
+        StepVerifier.create(repository.catalogueVersion()).expectNext(replica.version()).verifyComplete();
+        verifyNoInteractions(delegate);
+    }
+
+    @Test
+    void findPage_shouldLeaveFilteredListingsToMongo() {
+        // Given
+        replica.put(eventType);
+        replica.markReady();
+        EventTypeListFilter filter = new EventTypeListFilter(true, null, null, null, null, null);
+        EventTypePage page = new EventTypePage(List.of(eventType), 1, true);
+        when(delegate.findPage(filter, PageRequest.of(0, 10), false, null)).thenReturn(Mono.just(page));
+
+        // When & Then
+        StepVerifier.create(repository.findPage(filter, PageRequest.of(0, 10), false, null))
+                .expectNext(page)
+                .verifyComplete();
+        verify(delegate).findPage(filter, PageRequest.of(0, 10), false, null);
+    }
+
+    @Test
+    void save_shouldApplyWrittenEventTypeToReplica() {
+        // Given
+        replica.markReady();
+        when(delegate.save(eventType)).thenReturn(Mono.just(eventType));
+
+        // When
+        StepVerifier.create(repository.save(eventType)).expectNext(eventType).verifyComplete();
+
+        // Then
+        StepVerifier.create(repository.findById("1")).expectNext(eventType).verifyComplete();
+    }
+}
@@ -0,0 +1,189 @@
+package dev.abbah.supervision.eventtype.adapter.out.persistence;
+
+import dev.abbah.supervision.eventtype.application.port.out.EventTypeRepository;
+import dev.abbah.supervision.eventtype.domain.EventType;
+import dev.abbah.supervision.eventtype.domain.EventTypePage;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SearchCachingEventTypeRepositoryTest {
+
+    @Mock
+    private EventTypeRepository delegate;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private SearchCachingEventTypeRepository repository;
+
+    private EventType eventType;
+
+    @BeforeEach
+    void setUp() {
+        repository = new SearchCachingEventTypeRepository(delegate, new EventTypeSearchCacheProperties(), meterRegistry);
+        eventType = EventType.builder()
+                .id("1")
+                .name("Payment Failed")
+                .description("Emitted when a payment is declined")
+                .active(true)
+                .createdAt(Instant.now())
+                .updatedAt(Instant.now())
+                .build();
+    }
+
+    @Test
+    void search_shouldServeRepeatedQueriesFromCache() {
+        // Given
+        PageRequest pageable = PageRequest.of(0, 10);
+        when(delegate.search("payment", pageable)).thenReturn(Flux.just(eventType));
+
+        // When
+        StepVerifier.create(repository.search("payment", pageable)).expectNext(eventType).verifyComplete();
+        StepVerifier.create(repository.search("  PAYMENT ", pageable)).expectNext(eventType).verifyComplete();
+
+        // Then
+        verify(delegate, times(1)).search(anyString(), any());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count());
+        assertEquals(0.5, meterRegistry.get("cache.hit.ratio").gauge().value());
+    }
+
+    @Test
+    void search_shouldKeyOnPageSizeAndSort() {
+        // Given
+        when(delegate.search(anyString(), any())).thenReturn(Flux.just(eventType));
+
+        // When
+        repository.search("payment", PageRequest.of(0, 10)).blockLast();
+        repository.search("payment", PageRequest.of(1, 10)).blockLast();
+        repository.search("payment", PageRequest.of(0, 20)).blockLast();
+        repository.search("payment", PageRequest.of(0, 10, Sort.by("name"))).blockLast();
+
+        // Then
+        verify(delegate, times(4)).search(anyString(), any());
+    }
+
+    @Test
+    void searchPage_shouldShareConcurrentMisses() {
+        // Given
+        PageRequest pageable = PageRequest.of(0, 10);
+        EventTypePage page = new EventTypePage(List.of(eventType), 1, false);
+        Sinks.One<EventTypePage> result = Sinks.one();
+        when(delegate.searchPage("payment", pageable, false, null)).thenReturn(result.asMono());
+
+        // When
+        Mono<EventTypePage> first = repository.searchPage("payment", pageable, false, null);
+        Mono<EventTypePage> second = repository.searchPage("payment", pageable, false, null);
+        StepVerifier.create(Mono.zip(first, second))
+                .then(() -> result.tryEmitValue(page))
+                .expectNextMatches(pages -> pages.getT1() == page && pages.getT2() == page)
+                .verifyComplete();
+
+        // Then
+        verify(delegate, times(1)).searchPage("payment", pageable, false, null);
+    }
+
+    @Test
+    void searchPage_shouldBypassCacheForExactTotals() {
+        // Given
+        PageRequest pageable = PageRequest.of(0, 10);
+        when(delegate.searchPage("payment", pageable, true, null)).thenReturn(Mono.just(new EventTypePage(List.of(eventType), 1, true)));
+
+        // When
+        repository.searchPage("payment", pageable, true, null).block();
+        repository.searchPage("payment", pageable, true, null).block();
+
+        // Then
+        verify(delegate, times(2)).searchPage("payment", pageable, true, null);
+    }
+
+    @Test
+    void save_shouldInvalidateCachedResults() {
+        // Given
+        PageRequest pageable = PageRequest.of(0, 10);
+        EventType renamed = eventType.toBuilder().name("Payment Declined").build();
+        when(delegate.search("payment", pageable)).thenReturn(Flux.just(eventType), Flux.just(renamed));
+        when(delegate.save(renamed)).thenReturn(Mono.just(renamed));
+        StepVerifier.create(repository.search("payment", pageable)).expectNext(eventType).verifyComplete();
+
+        // When
+        StepVerifier.create(repository.save(renamed)).expectNext(renamed).verifyComplete();
+
+        // Then
+        StepVerifier.create(repository.search("payment", pageable)).expectNext(renamed).verifyComplete();
+        verify(delegate, times(2)).search("payment", pageable);
+    }
+
+    @Test
+    void deleteById_shouldInvalidateCachedResults() {
+        // Given
+        PageRequest pageable = PageRequest.of(0, 10);
+        when(delegate.search("payment", pageable)).thenReturn(Flux.just(eventType), Flux.empty());
+        when(delegate.deleteById("1")).thenReturn(Mono.empty());
+        StepVerifier.create(repository.search("payment", pageable)).expectNext(eventType).verifyComplete();
+
+        // When
+        StepVerifier.create(repository.deleteById("1")).verifyComplete();
+
+        // Then
+        StepVerifier.create(repository.search("payment", pageable)).verifyComplete();
+        verify(delegate, times(2)).search("payment", pageable);
+    }
+
+    @Test
+    void search_shouldNotCacheResultsReadDuringAWrite() {
+        // Given
+        PageRequest pageable = PageRequest.of(0, 10);
+        EventType renamed = eventType.toBuilder().name("Payment Declined").build();
+        Sinks.One<EventType> write = Sinks.one();
+        when(delegate.save(renamed)).thenReturn(write.asMono());
+        when(delegate.search("payment", pageable)).thenReturn(Flux.just(eventType), Flux.just(renamed));
+
+        // When
+        StepVerifier.create(repository.save(renamed))
+                .then(() -> StepVerifier.create(repository.search("payment", pageable)).expectNext(eventType).verifyComplete())
+                .then(() -> write.tryEmitValue(renamed))
+                .expectNext(renamed)
+                .verifyComplete();
+
+        // Then
+        StepVerifier.create(repository.search("payment", pageable)).expectNext(renamed).verifyComplete();
+    }
+
+    @Test
+    void search_chainedOnAWrite_shouldNotBeServedResultsReadDuringIt() {
+        // Given
+        PageRequest pageable = PageRequest.of(0, 10);
+        EventType renamed = eventType.toBuilder().name("Payment Declined").build();
+        Sinks.One<EventType> write = Sinks.one();
+        when(delegate.save(renamed)).thenReturn(write.asMono());
+        when(delegate.search("payment", pageable)).thenReturn(Flux.just(eventType), Flux.just(renamed));
+
+        // When & Then
+        StepVerifier.create(repository.save(renamed).flatMapMany(saved -> repository.search("payment", pageable)))
+                .then(() -> StepVerifier.create(repository.search("payment", pageable)).expectNext(eventType).verifyComplete())
+                .then(() -> write.tryEmitValue(renamed))
+                .expectNext(renamed)
+                .verifyComplete();
+    }
+}
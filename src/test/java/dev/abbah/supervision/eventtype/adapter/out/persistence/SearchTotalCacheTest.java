@@ -0,0 +1,46 @@
+package dev.abbah.supervision.eventtype.adapter.out.persistence;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class SearchTotalCacheTest {
+
+    private final SearchTotalCache cache = new SearchTotalCache(new EventTypeCountProperties(), new SimpleMeterRegistry());
+
+    @Test
+    void get_shouldMatchQueriesDifferingOnlyInCaseAndWhitespace() {
+        // Given
+        cache.put("Payment  Failure", 12L, cache.generation());
+
+        // When & Then
+        assertEquals(12L, cache.get("  payment failure "));
+    }
+
+    @Test
+    void clear_shouldDropCachedTotals() {
+        // Given
+        cache.put("payment", 3L, cache.generation());
+
+        // When
+        cache.clear();
+
+        // Then
+        assertNull(cache.get("payment"));
+    }
+
+    @Test
+    void put_shouldIgnoreTotalCountedBeforeClear() {
+        // Given
+        long generation = cache.generation();
+        cache.clear();
+
+        // When
+        cache.put("payment", 3L, generation);
+
+        // Then
+        assertNull(cache.get("payment"));
+    }
+}
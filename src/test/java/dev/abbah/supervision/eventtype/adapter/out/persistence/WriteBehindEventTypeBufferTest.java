@@ -0,0 +1,180 @@
+package dev.abbah.supervision.eventtype.adapter.out.persistence;
+
+import dev.abbah.supervision.eventtype.application.port.out.CapacityExceededException;
+import dev.abbah.supervision.eventtype.application.port.out.EventTypeRepository;
+import dev.abbah.supervision.eventtype.domain.BatchWriteResult;
+import dev.abbah.supervision.eventtype.domain.CreationStatus;
+import dev.abbah.supervision.eventtype.domain.EventType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+import reactor.test.scheduler.VirtualTimeScheduler;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class WriteBehindEventTypeBufferTest {
+
+    @Mock
+    private EventTypeRepository repository;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final VirtualTimeScheduler scheduler = VirtualTimeScheduler.create();
+
+    private final EventTypeWriteBehindProperties properties = new EventTypeWriteBehindProperties();
+
+    private EventType eventType;
+
+    @BeforeEach
+    void setUp() {
+        properties.setEnabled(true);
+        properties.setBatchSize(2);
+        eventType = EventType.builder()
+                .name("Test Event")
+                .active(true)
+                .createdAt(Instant.now())
+                .updatedAt(Instant.now())
+                .build();
+    }
+
+    @Test
+    void enqueue_shouldAssignIdAndWriteOnceTheFlushIntervalElapses() {
+        // Given
+        WriteBehindEventTypeBuffer buffer = buffer();
+        when(repository.upsertAll(anyList())).thenAnswer(invocation -> created(invocation.getArgument(0)));
+
+        // When
+        EventType accepted = buffer.enqueue(eventType).block();
+
+        // Then
+        assertNotNull(accepted.id());
+        StepVerifier.create(buffer.status(accepted.id()))
+                .expectNext(CreationStatus.queued(accepted.id()))
+                .verifyComplete();
+        verify(repository, never()).upsertAll(anyList());
+
+        // When
+        scheduler.advanceTimeBy(properties.getFlushInterval());
+
+        // Then
+        verify(repository).upsertAll(List.of(accepted));
+        StepVerifier.create(buffer.status(accepted.id()))
+                .expectNext(CreationStatus.persisted(accepted.id()))
+                .verifyComplete();
+    }
+
+    @Test
+    void enqueue_shouldWriteWithoutWaitingOnceTheBatchIsFull() {
+        // Given
+        WriteBehindEventTypeBuffer buffer = buffer();
+        when(repository.upsertAll(anyList())).thenAnswer(invocation -> created(invocation.getArgument(0)));
+
+        // When
+        buffer.enqueue(eventType).block();
+        buffer.enqueue(eventType).block();
+        scheduler.advanceTimeBy(properties.getFlushInterval());
+
+        // Then
+        verify(repository, times(1)).upsertAll(argThat(batch -> batch.size() == 2));
+        assertEquals(2.0, meterRegistry.get(WriteBehindEventTypeBuffer.FLUSH_SIZE_METRIC).summary().totalAmount());
+    }
+
+    @Test
+    void enqueue_shouldRejectOnceCapacityIsReached() {
+        // Given
+        properties.setCapacity(2);
+        WriteBehindEventTypeBuffer buffer = buffer();
+        Sinks.Many<BatchWriteResult> pending = Sinks.many().unicast().onBackpressureBuffer();
+        when(repository.upsertAll(anyList())).thenReturn(pending.asFlux());
+        buffer.enqueue(eventType).block();
+        buffer.enqueue(eventType).block();
+
+        // When & Then
+        StepVerifier.create(buffer.enqueue(eventType))
+                .expectError(CapacityExceededException.class)
+                .verify();
+        assertEquals(1.0, meterRegistry.get(WriteBehindEventTypeBuffer.REJECTED_METRIC).counter().count());
+
+        // When
+        pending.tryEmitComplete();
+
+        // Then
+        StepVerifier.create(buffer.enqueue(eventType))
+                .expectNextCount(1)
+                .verifyComplete();
+    }
+
+    @Test
+    void stop_shouldFlushWhatIsStillGathering() {
+        // Given
+        WriteBehindEventTypeBuffer buffer = buffer();
+        when(repository.upsertAll(anyList())).thenAnswer(invocation -> created(invocation.getArgument(0)));
+        EventType accepted = buffer.enqueue(eventType).block();
+
+        // When
+        buffer.stop();
+
+        // Then
+        verify(repository).upsertAll(List.of(accepted));
+        StepVerifier.create(buffer.enqueue(eventType))
+                .expectError(CapacityExceededException.class)
+                .verify();
+    }
+
+    @Test
+    void status_shouldReportFailedWrites() {
+        // Given
+        WriteBehindEventTypeBuffer buffer = buffer();
+        when(repository.upsertAll(anyList())).thenAnswer(invocation -> {
+            List<EventType> batch = invocation.getArgument(0);
+            return Flux.just(BatchWriteResult.failed(0, batch.get(0).id(), "duplicate name"));
+        });
+        EventType accepted = buffer.enqueue(eventType).block();
+
+        // When
+        scheduler.advanceTimeBy(properties.getFlushInterval());
+
+        // Then
+        StepVerifier.create(buffer.status(accepted.id()))
+                .expectNext(CreationStatus.failed(accepted.id(), "duplicate name"))
+                .verifyComplete();
+    }
+
+    @Test
+    void enqueue_shouldCompleteEmptyWhenDisabled() {
+        // Given
+        properties.setEnabled(false);
+        WriteBehindEventTypeBuffer buffer = buffer();
+
+        // When & Then
+        StepVerifier.create(buffer.enqueue(eventType)).verifyComplete();
+    }
+
+    private WriteBehindEventTypeBuffer buffer() {
+        WriteBehindEventTypeBuffer buffer = new WriteBehindEventTypeBuffer(repository, properties, meterRegistry, scheduler);
+        buffer.start();
+        return buffer;
+    }
+
+    private static Flux<BatchWriteResult> created(List<EventType> batch) {
+        return Flux.range(0, batch.size()).map(index -> BatchWriteResult.created(index, batch.get(index).id()));
+    }
+}
@@ -1,10 +1,26 @@
 package dev.abbah.supervision.eventtype.application.service;
 
+import dev.abbah.supervision.eventtype.application.port.out.EventTypeChangeFeed;
+import dev.abbah.supervision.eventtype.application.port.out.EventTypeNameIndex;
 import dev.abbah.supervision.eventtype.application.port.out.EventTypeRepository;
+import dev.abbah.supervision.eventtype.application.port.out.EventTypeWriteBuffer;
+import dev.abbah.supervision.eventtype.application.port.out.IdempotencyKeyStore;
+import dev.abbah.supervision.eventtype.domain.BatchWriteResult;
+import dev.abbah.supervision.eventtype.domain.BulkOperationResult;
+import dev.abbah.supervision.eventtype.domain.CreationStatus;
 import dev.abbah.supervision.eventtype.domain.EventType;
+import dev.abbah.supervision.eventtype.domain.EventTypeChange;
+import dev.abbah.supervision.eventtype.domain.EventTypeCursor;
+import dev.abbah.supervision.eventtype.domain.EventTypeFilter;
+import dev.abbah.supervision.eventtype.domain.EventTypeListFilter;
+import dev.abbah.supervision.eventtype.domain.EventTypeLookup;
+import dev.abbah.supervision.eventtype.domain.EventTypePage;
+import dev.abbah.supervision.eventtype.domain.EventTypeSuggestion;
+import dev.abbah.supervision.eventtype.domain.IdempotentCreation;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -15,7 +31,18 @@ import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 import java.time.Instant;
 import java.util.List;
+import java.util.function.Supplier;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -24,6 +51,14 @@ class EventTypeServiceTest {
   private final Pageable pageable = PageRequest.of(0, 10);
   @Mock
   private EventTypeRepository repository;
+  @Mock
+  private EventTypeChangeFeed changeFeed;
+  @Mock
+  private EventTypeNameIndex nameIndex;
+  @Mock
+  private EventTypeWriteBuffer writeBuffer;
+  @Mock
+  private IdempotencyKeyStore idempotencyKeyStore;
   @InjectMocks
   private EventTypeService service;
   private EventType eventType;
@@ -58,6 +93,112 @@ class EventTypeServiceTest {
                 .verifyComplete();
   }
 
+  @Test
+  void createEventType_shouldCreateUnderIdempotencyKeyWithPayloadFingerprint() {
+    // Given
+    when(repository.save(any(EventType.class))).thenReturn(Mono.just(eventType));
+    when(idempotencyKeyStore.createOnce(eq("key"), anyString(), any())).thenAnswer(invocation -> {
+      Supplier<Mono<EventType>> creation = invocation.getArgument(2);
+      return creation.get()
+                     .map(created -> new IdempotentCreation(created, false));
+    });
+    EventType retried = eventType.toBuilder()
+                                 .createdAt(Instant.now()
+                                                   .plusSeconds(5))
+                                 .build();
+    EventType other = eventType.toBuilder()
+                               .name("Other Event")
+                               .build();
+
+    // When
+    service.createEventType(eventType, "key")
+           .block();
+    service.createEventType(retried, "key")
+           .block();
+    service.createEventType(other, "key")
+           .block();
+
+    // Then
+    ArgumentCaptor<String> fingerprints = ArgumentCaptor.forClass(String.class);
+    verify(idempotencyKeyStore, times(3)).createOnce(eq("key"), fingerprints.capture(), any());
+    List<String> captured = fingerprints.getAllValues();
+    assertEquals(captured.get(0), captured.get(1));
+    assertNotEquals(captured.get(0), captured.get(2));
+  }
+
+  @Test
+  void createEventTypes_shouldStampEventTypesAndWriteThemInOneBatch() {
+    // Given
+    EventType upserted = eventType.toBuilder()
+                                  .createdAt(null)
+                                  .updatedAt(null)
+                                  .build();
+    when(repository.upsertAll(anyList())).thenReturn(Flux.just(BatchWriteResult.updated(0, "1")));
+
+    // When
+    Flux<BatchWriteResult> result = service.createEventTypes(List.of(upserted));
+
+    // Then
+    StepVerifier.create(result)
+                .expectNext(BatchWriteResult.updated(0, "1"))
+                .verifyComplete();
+    verify(repository).upsertAll(argThat(eventTypes -> eventTypes.size() == 1
+        && "1".equals(eventTypes.get(0).id())
+        && eventTypes.get(0).createdAt() != null
+        && eventTypes.get(0).updatedAt() != null));
+  }
+
+  @Test
+  void acceptEventType_shouldQueueStampedEventTypeWithoutId() {
+    // Given
+    EventType queued = eventType.toBuilder()
+                                .id("65a1f0c2e4b0a1b2c3d4e5f6")
+                                .build();
+    when(writeBuffer.enqueue(any(EventType.class))).thenReturn(Mono.just(queued));
+
+    // When
+    Mono<EventType> result = service.acceptEventType(eventType);
+
+    // Then
+    StepVerifier.create(result)
+                .expectNext(queued)
+                .verifyComplete();
+    verify(writeBuffer).enqueue(argThat(accepted -> accepted.id() == null
+        && accepted.createdAt() != null
+        && accepted.updatedAt() != null));
+    verify(repository, never()).save(any());
+  }
+
+  @Test
+  void getCreationStatus_shouldReportStoredEventTypeAsPersistedOnceTheOutcomeIsForgotten() {
+    // Given
+    when(writeBuffer.status("1")).thenReturn(Mono.empty());
+    when(repository.findById("1")).thenReturn(Mono.just(eventType));
+
+    // When
+    Mono<CreationStatus> result = service.getCreationStatus("1");
+
+    // Then
+    StepVerifier.create(result)
+                .expectNext(CreationStatus.persisted("1"))
+                .verifyComplete();
+  }
+
+  @Test
+  void getCreationStatus_shouldNotQueryTheRepositoryWhileQueued() {
+    // Given
+    when(writeBuffer.status("1")).thenReturn(Mono.just(CreationStatus.queued("1")));
+
+    // When
+    Mono<CreationStatus> result = service.getCreationStatus("1");
+
+    // Then
+    StepVerifier.create(result)
+                .expectNext(CreationStatus.queued("1"))
+                .verifyComplete();
+    verify(repository, never()).findById(any());
+  }
+
   @Test
   void getEventTypeById_shouldReturnEventType() {
     // Given
@@ -85,6 +226,21 @@ class EventTypeServiceTest {
                 .verifyComplete();
   }
 
+  @Test
+  void getEventTypesByIds_shouldKeepRequestOrderAndReportMissingIds() {
+    // Given
+    EventType other = eventType.toBuilder().id("2").name("Other Event").build();
+    when(repository.findAllById(List.of("2", "missing", "1"))).thenReturn(Flux.just(eventType, other));
+
+    // When
+    Mono<EventTypeLookup> result = service.getEventTypesByIds(List.of("2", "missing", "1", "2"));
+
+    // Then
+    StepVerifier.create(result)
+                .expectNext(new EventTypeLookup(List.of(other, eventType), List.of("missing")))
+                .verifyComplete();
+  }
+
   @Test
   void updateEventType_shouldUpdateExistingEventType() {
     // Given
@@ -95,10 +251,9 @@ class EventTypeServiceTest {
                                           .active(false)
                                           .build();
 
-    when(repository.findById("1")).thenReturn(Mono.just(eventType));
-    when(repository.save(any(EventType.class))).thenAnswer(invocation -> {
-      EventType saved = invocation.getArgument(0);
-      return Mono.just(saved);
+    when(repository.update(any(EventType.class))).thenAnswer(invocation -> {
+      EventType updated = invocation.getArgument(0);
+      return Mono.just(updated);
     });
 
     // When
@@ -112,6 +267,8 @@ class EventTypeServiceTest {
                                                                                                                .equals(
                                                                                                                    "Updated Description") && !updated.active())
                 .verifyComplete();
+    verify(repository, never()).findById(any());
+    verify(repository).update(argThat(updated -> updated.updatedAt() != null && updated.createdAt() == null));
   }
 
   @Test
@@ -127,6 +284,34 @@ class EventTypeServiceTest {
                 .verifyComplete();
   }
 
+  @Test
+  void updateEventTypesActive_shouldUpdateMatchingEventTypesInOneCall() {
+    // Given
+    EventTypeFilter filter = new EventTypeFilter(null, "order.", null, null, null);
+    BulkOperationResult counts = new BulkOperationResult(3, 2);
+    when(repository.updateActive(eq(filter), eq(false), any(Instant.class))).thenReturn(Mono.just(counts));
+
+    // When
+    Mono<BulkOperationResult> result = service.updateEventTypesActive(filter, false);
+
+    // Then
+    StepVerifier.create(result)
+                .expectNext(counts)
+                .verifyComplete();
+  }
+
+  @Test
+  void deleteEventTypes_shouldRejectEmptyFilter() {
+    // When
+    Mono<BulkOperationResult> result = service.deleteEventTypes(new EventTypeFilter(List.of(), null, " ", null, null));
+
+    // Then
+    StepVerifier.create(result)
+                .expectError(IllegalArgumentException.class)
+                .verify();
+    verifyNoInteractions(repository);
+  }
+
   @Test
   void listEventTypes_shouldReturnAllEventTypes() {
     // Given
@@ -150,6 +335,52 @@ class EventTypeServiceTest {
                 .verifyComplete();
   }
 
+  @Test
+  void listEventTypesByCursor_shouldReturnNextCursorWhenMoreRowsExist() {
+    // Given
+    EventType older = eventType.toBuilder()
+                               .id("2")
+                               .createdAt(eventType.createdAt()
+                                                   .minusSeconds(60))
+                               .build();
+    when(repository.findAllAfter(null, 2)).thenReturn(Flux.just(eventType, older));
+
+    // When & Then
+    StepVerifier.create(service.listEventTypes(null, 1))
+                .expectNextMatches(page -> page.content()
+                                               .equals(List.of(eventType)) && page.hasNext() && page.nextCursor()
+                                                                                                      .equals(new EventTypeCursor(
+                                                                                                          eventType.createdAt(),
+                                                                                                          "1")))
+                .verifyComplete();
+  }
+
+  @Test
+  void listEventTypesByCursor_shouldReturnLastPageWithoutCursor() {
+    // Given
+    EventTypeCursor after = new EventTypeCursor(Instant.now(), "9");
+    when(repository.findAllAfter(after, 11)).thenReturn(Flux.just(eventType));
+
+    // When & Then
+    StepVerifier.create(service.listEventTypes(after, 10))
+                .expectNextMatches(page -> page.content()
+                                               .size() == 1 && !page.hasNext() && page.nextCursor() == null)
+                .verifyComplete();
+  }
+
+  @Test
+  void listEventTypePage_shouldReturnPageFromRepository() {
+    // Given
+    EventTypeListFilter filter = new EventTypeListFilter(true, "test", null, null, null, null);
+    EventTypePage page = new EventTypePage(List.of(eventType), 1L, false);
+    when(repository.findPage(filter, pageable, false, null)).thenReturn(Mono.just(page));
+
+    // When & Then
+    StepVerifier.create(service.listEventTypePage(filter, pageable, false, null))
+                .expectNext(page)
+                .verifyComplete();
+  }
+
   @Test
   void countEventTypes_shouldReturnTotalCount() {
     // Given
@@ -181,6 +412,18 @@ class EventTypeServiceTest {
                 .verifyComplete();
   }
 
+  @Test
+  void searchEventTypePage_shouldReturnPageFromRepository() {
+    // Given
+    EventTypePage page = new EventTypePage(List.of(eventType), 1L, true);
+    when(repository.searchPage("test", pageable, true, null)).thenReturn(Mono.just(page));
+
+    // When & Then
+    StepVerifier.create(service.searchEventTypePage("test", pageable, true, null))
+                .expectNext(page)
+                .verifyComplete();
+  }
+
   @Test
   void countSearchResults_shouldReturnMatchCount() {
     // Given
@@ -195,4 +438,52 @@ class EventTypeServiceTest {
                 .expectNext(1L)
                 .verifyComplete();
   }
+
+  @Test
+  void exportEventTypes_shouldStreamFromRepository() {
+    // Given
+    EventTypeCursor after = new EventTypeCursor(Instant.now(), "0");
+    when(repository.streamAll(after)).thenReturn(Flux.just(eventType));
+
+    // When & Then
+    StepVerifier.create(service.exportEventTypes(after))
+                .expectNext(eventType)
+                .verifyComplete();
+  }
+
+  @Test
+  void watchEventTypes_shouldStreamFromChangeFeed() {
+    // Given
+    EventTypeChange change = new EventTypeChange(EventTypeChange.Type.CREATED, "1", eventType, "token-1");
+    when(changeFeed.changes("token-0")).thenReturn(Flux.just(change));
+
+    // When & Then
+    StepVerifier.create(service.watchEventTypes("token-0"))
+                .expectNext(change)
+                .verifyComplete();
+  }
+
+  @Test
+  void currentChangePosition_shouldReadTheChangeFeedPosition() {
+    // Given
+    when(changeFeed.currentPosition()).thenReturn(Mono.just("token-0"));
+
+    // When & Then
+    StepVerifier.create(service.currentChangePosition())
+                .expectNext("token-0")
+                .verifyComplete();
+  }
+
+  @Test
+  void autocompleteEventTypes_shouldQueryNameIndex() {
+    // Given
+    EventTypeSuggestion suggestion = new EventTypeSuggestion("1", "Test Event");
+    when(nameIndex.suggest("te", 5)).thenReturn(Flux.just(suggestion));
+
+    // When & Then
+    StepVerifier.create(service.autocompleteEventTypes("te", 5))
+                .expectNext(suggestion)
+                .verifyComplete();
+    verifyNoInteractions(repository);
+  }
 }
@@ -0,0 +1,55 @@
+package dev.abbah.supervision.eventtype.config;
+
+import com.mongodb.event.CommandSucceededEvent;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MongoDocumentCountCommandListenerTest {
+
+    @Test
+    void documentsOf_shouldCountCursorBatches() {
+        assertEquals(2L, MongoDocumentCountCommandListener.documentsOf(
+                BsonDocument.parse("{cursor: {id: 0, firstBatch: [{_id: 1}, {_id: 2}]}, ok: 1}")));
+        assertEquals(1L, MongoDocumentCountCommandListener.documentsOf(
+                BsonDocument.parse("{cursor: {id: 0, nextBatch: [{_id: 3}]}, ok: 1}")));
+    }
+
+    @Test
+    void documentsOf_shouldReadCountsAndWriteResults() {
+        assertEquals(42L, MongoDocumentCountCommandListener.documentsOf(BsonDocument.parse("{n: 42, ok: 1}")));
+        assertEquals(3L, MongoDocumentCountCommandListener.documentsOf(
+                BsonDocument.parse("{n: 3, nModified: 2, ok: 1}")));
+    }
+
+    @Test
+    void documentsOf_shouldIgnoreRepliesWithoutDocuments() {
+        assertNull(MongoDocumentCountCommandListener.documentsOf(BsonDocument.parse("{ok: 1}")));
+    }
+
+    @Test
+    void commandSucceeded_shouldRecordDocumentsPerCommand() {
+        // Given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        MongoDocumentCountCommandListener listener = new MongoDocumentCountCommandListener(meterRegistry);
+        CommandSucceededEvent event = mock(CommandSucceededEvent.class);
+        when(event.getCommandName()).thenReturn("find");
+        when(event.getResponse()).thenReturn(BsonDocument.parse("{cursor: {id: 0, firstBatch: [{_id: 1}]}, ok: 1}"));
+
+        // When
+        listener.commandSucceeded(event);
+
+        // Then
+        DistributionSummary summary = meterRegistry.get(MongoDocumentCountCommandListener.DOCUMENTS_SUMMARY)
+                .tag("command", "find")
+                .summary();
+        assertEquals(1, summary.count());
+        assertEquals(1.0, summary.totalAmount());
+    }
+}
@@ -0,0 +1,155 @@
+package dev.abbah.supervision.eventtype.config;
+
+import dev.abbah.supervision.eventtype.application.port.in.GetEventTypeUseCase;
+import dev.abbah.supervision.eventtype.application.port.out.EventTypeRepository;
+import dev.abbah.supervision.eventtype.domain.EventType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.test.util.AopTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.when;
+
+@SpringJUnitConfig(ReactiveMetricsAspectTest.MetricsTestConfig.class)
+class ReactiveMetricsAspectTest {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private GetEventTypeUseCase getEventTypeUseCase;
+
+    @Autowired
+    private EventTypeRepository eventTypeRepository;
+
+    @Autowired
+    private EventTypeRepository eventTypePersistenceAdapter;
+
+    private final EventType eventType = new EventType("1", "Test Event", "Test Description", true,
+            Instant.now(), Instant.now(), 0L);
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry.clear();
+        reset(target(getEventTypeUseCase), target(eventTypeRepository), target(eventTypePersistenceAdapter));
+    }
+
+    @Test
+    void useCase_shouldBeTimedOnCompletion() {
+        // Given
+        when(target(getEventTypeUseCase).getEventTypeById("1")).thenReturn(Mono.just(eventType));
+        Mono<EventType> result = getEventTypeUseCase.getEventTypeById("1");
+
+        // Then nothing is recorded until the call is subscribed to
+        assertNull(meterRegistry.find(ReactiveMetricsAspect.USE_CASE_TIMER).timer());
+
+        // When
+        StepVerifier.create(result).expectNext(eventType).verifyComplete();
+
+        // Then
+        Timer timer = meterRegistry.get(ReactiveMetricsAspect.USE_CASE_TIMER)
+                .tag("operation", "getEventTypeById")
+                .tag("outcome", "success")
+                .tag("exception", "none")
+                .timer();
+        assertEquals(1, timer.count());
+    }
+
+    @Test
+    void repository_shouldRecordErrorOutcome() {
+        // Given
+        when(target(eventTypeRepository).findById("1")).thenReturn(Mono.error(new IllegalStateException("boom")));
+
+        // When
+        StepVerifier.create(eventTypeRepository.findById("1")).verifyError(IllegalStateException.class);
+
+        // Then
+        Timer timer = meterRegistry.get(ReactiveMetricsAspect.REPOSITORY_TIMER)
+                .tag("operation", "findById")
+                .tag("outcome", "error")
+                .tag("exception", "IllegalStateException")
+                .timer();
+        assertEquals(1, timer.count());
+    }
+
+    @Test
+    void repository_shouldRecordCancelledStreams() {
+        // Given
+        when(target(eventTypeRepository).findAll(PageRequest.of(0, 10))).thenReturn(Flux.never());
+
+        // When
+        StepVerifier.create(eventTypeRepository.findAll(PageRequest.of(0, 10)))
+                .thenCancel()
+                .verify();
+
+        // Then
+        assertNotNull(meterRegistry.find(ReactiveMetricsAspect.REPOSITORY_TIMER)
+                .tag("operation", "findAll")
+                .tag("outcome", "cancelled")
+                .timer());
+    }
+
+    @Test
+    void repository_shouldOnlyTimeTheRepositoryExposedToTheApplication() {
+        // Given
+        when(target(eventTypePersistenceAdapter).count()).thenReturn(Mono.just(1L));
+
+        // When
+        StepVerifier.create(eventTypePersistenceAdapter.count()).expectNext(1L).verifyComplete();
+
+        // Then
+        assertNull(meterRegistry.find(ReactiveMetricsAspect.REPOSITORY_TIMER).timer());
+    }
+
+    private static <T> T target(T proxy) {
+        return AopTestUtils.getUltimateTargetObject(proxy);
+    }
+
+    @Configuration
+    @EnableAspectJAutoProxy
+    static class MetricsTestConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        ReactiveMetricsAspect reactiveMetricsAspect(MeterRegistry meterRegistry) {
+            return new ReactiveMetricsAspect(meterRegistry);
+        }
+
+        @Bean
+        GetEventTypeUseCase getEventTypeUseCase() {
+            return mock(GetEventTypeUseCase.class);
+        }
+
+        @Bean
+        EventTypeRepository eventTypeRepository() {
+            return mock(EventTypeRepository.class);
+        }
+
+        @Bean
+        EventTypeRepository eventTypePersistenceAdapter() {
+            return mock(EventTypeRepository.class);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package dev.abbah.supervision.eventtype.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class EventTypeCursorTest {
+
+    @Test
+    void encode_shouldRoundTripThroughDecode() {
+        // Given
+        EventTypeCursor cursor = new EventTypeCursor(Instant.parse("2024-05-01T10:15:30.123456789Z"), "665f1c2e9b1e8a3d4c5b6a79");
+
+        // When
+        EventTypeCursor decoded = EventTypeCursor.decode(cursor.encode());
+
+        // Then
+        assertEquals(cursor, decoded);
+    }
+
+    @Test
+    void decode_shouldRejectMalformedToken() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> EventTypeCursor.decode("not-a-cursor"));
+    }
+}